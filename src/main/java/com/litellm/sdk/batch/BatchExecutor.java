@@ -0,0 +1,46 @@
+package com.litellm.sdk.batch;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs a list of requests with at most {@code maxConcurrency} in flight, turning each outcome into a
+ * {@link BatchResult}. Calls are deferred, so nothing beyond the limit starts until a slot frees up.
+ */
+public final class BatchExecutor {
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private BatchExecutor() {
+    }
+
+    // Results in input order: a finished request waits for the slower ones ahead of it before it is emitted
+    public static <R, T> Flux<BatchResult<T>> inOrder(List<R> requests, int maxConcurrency, Function<R, Mono<T>> call) {
+        validate(maxConcurrency);
+        return Flux.range(0, requests.size())
+            .flatMapSequential(index -> attempt(index, requests.get(index), call), maxConcurrency);
+    }
+
+    // Results as soon as each request finishes; use BatchResult.index to place them
+    public static <R, T> Flux<BatchResult<T>> asCompleted(List<R> requests, int maxConcurrency, Function<R, Mono<T>> call) {
+        validate(maxConcurrency);
+        return Flux.range(0, requests.size())
+            .flatMap(index -> attempt(index, requests.get(index), call), maxConcurrency);
+    }
+
+    private static <R, T> Mono<BatchResult<T>> attempt(int index, R request, Function<R, Mono<T>> call) {
+        return Mono.defer(() -> call.apply(request))
+            .map(response -> BatchResult.success(index, response))
+            .switchIfEmpty(Mono.fromSupplier(() -> BatchResult.failure(index,
+                new IllegalStateException("Request " + index + " completed without a response"))))
+            .onErrorResume(error -> Mono.just(BatchResult.failure(index, error)));
+    }
+
+    private static void validate(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+    }
+}
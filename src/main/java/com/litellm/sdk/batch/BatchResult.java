@@ -0,0 +1,19 @@
+package com.litellm.sdk.batch;
+
+/**
+ * Outcome of one request in a batch: its position in the submitted list and either the response or the error
+ * it failed with after retries. One failed request never fails the rest of the batch.
+ */
+public record BatchResult<T>(int index, T response, Throwable error) {
+    public static <T> BatchResult<T> success(int index, T response) {
+        return new BatchResult<>(index, response, null);
+    }
+
+    public static <T> BatchResult<T> failure(int index, Throwable error) {
+        return new BatchResult<>(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
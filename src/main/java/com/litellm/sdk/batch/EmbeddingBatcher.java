@@ -0,0 +1,202 @@
+package com.litellm.sdk.batch;
+
+import com.litellm.sdk.config.EmbeddingBatchConfig;
+import com.litellm.sdk.limit.TokenEstimator;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.response.EmbeddingResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent embedding requests for the same model into one upstream call.
+ * The first request of a batch opens it and starts the {@code maxWait} timer; the batch is sent when the timer
+ * fires or when the next request would push it past {@code maxBatchSize} inputs or {@code maxBatchTokens}
+ * estimated tokens. The vectors come back in input order and are sliced out to each caller, with the batch's
+ * usage apportioned by estimated tokens. A failed batch fails every request in it, and each caller's own retry
+ * policy decides what happens next. Requests that could not share a batch anyway are sent directly.
+ */
+@Slf4j
+public class EmbeddingBatcher {
+    private final EmbeddingBatchConfig config;
+    private final Function<EmbeddingRequest, Mono<EmbeddingResponse>> sender;
+    private final Scheduler scheduler;
+    private final ConcurrentHashMap<BatchKey, Batch> open = new ConcurrentHashMap<>();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong batchedRequestCount = new AtomicLong();
+
+    public EmbeddingBatcher(EmbeddingBatchConfig config, Function<EmbeddingRequest, Mono<EmbeddingResponse>> sender) {
+        this(config, sender, Schedulers.parallel());
+    }
+
+    public EmbeddingBatcher(EmbeddingBatchConfig config, Function<EmbeddingRequest, Mono<EmbeddingResponse>> sender,
+                            Scheduler scheduler) {
+        this.config = config;
+        this.sender = sender;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<EmbeddingResponse> submit(EmbeddingRequest request) {
+        return Mono.defer(() -> {
+            List<String> inputs = request.input() != null ? request.input() : List.of(request.inputText());
+            int tokens = TokenEstimator.estimate(request);
+            if (inputs.size() >= config.maxBatchSize() || tokens >= config.maxBatchTokens()) {
+                return sender.apply(request);
+            }
+            Member member = new Member(request, inputs, tokens);
+            enqueue(member);
+            return member.sink.asMono();
+        });
+    }
+
+    // Upstream calls made for batches, and requests that went through them
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getBatchedRequestCount() {
+        return batchedRequestCount.get();
+    }
+
+    private void enqueue(Member member) {
+        BatchKey key = new BatchKey(member.request.model(), member.request.providerHints());
+        Batch[] ready = new Batch[1];
+        Batch[] opened = new Batch[1];
+        open.compute(key, (k, batch) -> {
+            if (batch != null && !batch.fits(member, config)) {
+                ready[0] = batch;
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch();
+                opened[0] = batch;
+            }
+            batch.add(member);
+            if (batch.inputCount >= config.maxBatchSize()) {
+                // Full: send now, unless it was just opened and the previous batch is also being sent
+                if (ready[0] == null) {
+                    ready[0] = batch;
+                    opened[0] = null;
+                    return null;
+                }
+            }
+            return batch;
+        });
+        if (ready[0] != null) {
+            send(ready[0], key);
+        }
+        if (opened[0] != null) {
+            Batch batch = opened[0];
+            scheduler.schedule(() -> {
+                if (open.remove(key, batch)) {
+                    send(batch, key);
+                }
+            }, config.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void send(Batch batch, BatchKey key) {
+        batchCount.incrementAndGet();
+        batchedRequestCount.addAndGet(batch.members.size());
+        List<String> inputs = new ArrayList<>(batch.inputCount);
+        Duration timeout = null;
+        for (Member member : batch.members) {
+            inputs.addAll(member.inputs);
+            Duration memberTimeout = member.request.timeout();
+            if (memberTimeout != null && (timeout == null || memberTimeout.compareTo(timeout) < 0)) {
+                timeout = memberTimeout;
+            }
+        }
+        EmbeddingRequest combined = EmbeddingRequest.builder()
+            .model(key.model())
+            .input(inputs)
+            .providerHints(key.providerHints())
+            .timeout(timeout)
+            .build();
+        log.debug("Sending embedding batch of {} requests ({} inputs) for model {}", batch.members.size(), inputs.size(),
+            key.model());
+
+        Mono.defer(() -> sender.apply(combined))
+            .switchIfEmpty(Mono.error(() -> new IllegalStateException("Embedding batch returned no response")))
+            .subscribe(response -> fanOut(batch, response), error -> batch.members.forEach(m -> m.sink.tryEmitError(error)));
+    }
+
+    private void fanOut(Batch batch, EmbeddingResponse response) {
+        List<float[]> vectors = response.embeddings();
+        if (vectors.size() != batch.inputCount) {
+            IllegalStateException mismatch = new IllegalStateException(
+                "Embedding batch returned " + vectors.size() + " vectors for " + batch.inputCount + " inputs");
+            batch.members.forEach(member -> member.sink.tryEmitError(mismatch));
+            return;
+        }
+        int offset = 0;
+        for (Member member : batch.members) {
+            List<float[]> slice = vectors.subList(offset, offset + member.inputs.size());
+            offset += member.inputs.size();
+            member.sink.tryEmitValue(response.toBuilder()
+                .id(member.request.id())
+                .embedding(null)
+                .embeddings(slice)
+                .usage(share(response.usage(), member.tokens, batch.tokens))
+                .build());
+        }
+    }
+
+    private static Usage share(Usage usage, int tokens, int batchTokens) {
+        if (usage == null || batchTokens <= 0) {
+            return usage;
+        }
+        double fraction = (double) tokens / batchTokens;
+        return new Usage(
+            usage.getPromptTokens() != null ? (int) Math.round(usage.getPromptTokens() * fraction) : null,
+            usage.getCompletionTokens(),
+            usage.getTotalTokens() != null ? (int) Math.round(usage.getTotalTokens() * fraction) : null);
+    }
+
+    // Requests only share a batch when they would be routed the same way
+    private record BatchKey(String model, Set<String> providerHints) {
+    }
+
+    private static final class Member {
+        private final EmbeddingRequest request;
+        private final List<String> inputs;
+        private final int tokens;
+        private final Sinks.One<EmbeddingResponse> sink = Sinks.one();
+
+        private Member(EmbeddingRequest request, List<String> inputs, int tokens) {
+            this.request = request;
+            this.inputs = inputs;
+            this.tokens = tokens;
+        }
+    }
+
+    // Mutated only inside ConcurrentHashMap.compute for its key, then handed off whole to send
+    private static final class Batch {
+        private final List<Member> members = new ArrayList<>();
+        private int inputCount;
+        private int tokens;
+
+        private boolean fits(Member member, EmbeddingBatchConfig config) {
+            return inputCount + member.inputs.size() <= config.maxBatchSize()
+                && tokens + member.tokens <= config.maxBatchTokens();
+        }
+
+        private void add(Member member) {
+            members.add(member);
+            inputCount += member.inputs.size();
+            tokens += member.tokens;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.litellm.sdk.cache;
+
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 128-bit Murmur3 fingerprint of the request fields that determine a completion: model, messages and sampling
+ * parameters. Keys are two longs regardless of prompt size. Request ids, timeouts, hints and metadata are
+ * deliberately left out so they do not split otherwise identical requests.
+ */
+public record CacheKey(long high, long low) {
+
+    public static CacheKey of(ChatCompletionRequest request) {
+        Murmur3Hasher hasher = new Murmur3Hasher();
+        hasher.putString(request.model());
+
+        List<Message> messages = request.messages();
+        hasher.putInt(messages != null ? messages.size() : -1);
+        if (messages != null) {
+            for (Message message : messages) {
+                hasher.putInt(message.role().ordinal());
+                hasher.putString(message.content());
+            }
+        }
+
+        // A presence byte per optional parameter keeps "unset" distinct from any value
+        putOptional(hasher, request.temperature());
+        putOptional(hasher, request.maxTokens());
+        putOptional(hasher, request.topP());
+
+        long[] hash = hasher.finish();
+        return new CacheKey(hash[0], hash[1]);
+    }
+
+    // Field-by-field comparison of what the key hashes, used by collision verification
+    public static boolean sameRequest(ChatCompletionRequest a, ChatCompletionRequest b) {
+        return Objects.equals(a.model(), b.model())
+            && Objects.equals(a.messages(), b.messages())
+            && Objects.equals(a.temperature(), b.temperature())
+            && Objects.equals(a.maxTokens(), b.maxTokens())
+            && Objects.equals(a.topP(), b.topP());
+    }
+
+    private static void putOptional(Murmur3Hasher hasher, Double value) {
+        hasher.putByte((byte) (value != null ? 1 : 0));
+        if (value != null) {
+            hasher.putDouble(value);
+        }
+    }
+
+    private static void putOptional(Murmur3Hasher hasher, Integer value) {
+        hasher.putByte((byte) (value != null ? 1 : 0));
+        if (value != null) {
+            hasher.putInt(value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
@@ -4,11 +4,39 @@ import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 public interface CacheManager {
     Mono<ChatCompletionResponse> get(ChatCompletionRequest request);
 
     Mono<Void> put(ChatCompletionRequest request, ChatCompletionResponse response);
 
+    /**
+     * Like {@link #get}, also reporting how long the entry has left to live so a tier in front of this one can
+     * expire it at the same time. The remaining TTL is null for implementations that do not track it.
+     */
+    default Mono<CachedEntry> getEntry(ChatCompletionRequest request) {
+        return get(request).map(response -> new CachedEntry(response, null));
+    }
+
+    /**
+     * Returns the cached response marked {@code cached=true}, or runs the loader and caches its result.
+     * Implementations may share one in-flight load between identical concurrent requests.
+     */
+    default Mono<ChatCompletionResponse> getOrCompute(ChatCompletionRequest request,
+                                                      Supplier<Mono<ChatCompletionResponse>> loader) {
+        return get(request)
+            .map(response -> response.toBuilder().cached(true).build())
+            .switchIfEmpty(Mono.defer(loader).flatMap(response -> put(request, response).thenReturn(response)));
+    }
+
+    default Mono<ChatCompletionResponse> getOrCompute(ChatCompletionRequest request,
+                                                      Function<ChatCompletionRequest, Mono<ChatCompletionResponse>> loader) {
+        return getOrCompute(request, () -> loader.apply(request));
+    }
+
     void invalidate(ChatCompletionRequest request);
 
     void invalidateAll();
@@ -17,11 +45,23 @@ public interface CacheManager {
 
     void close();
 
-    record CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+    record CachedEntry(ChatCompletionResponse response, Duration remainingTtl) {
+    }
+
+    /**
+     * {@code bytesRetained} and {@code bytesEvicted} are estimates from {@link ResponseWeigher}; implementations
+     * that do not weigh entries report zero.
+     */
+    record CacheStats(long hitCount, long missCount, long evictionCount, int size, long bytesRetained,
+                      long bytesEvicted) {
+
+        public CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+            this(hitCount, missCount, evictionCount, size, 0, 0);
+        }
 
         public double getHitRate() {
-                long total = hitCount + missCount;
-                return total > 0 ? (double) hitCount / total : 0.0;
-            }
+            long total = hitCount + missCount;
+            return total > 0 ? (double) hitCount / total : 0.0;
         }
+    }
 }
@@ -0,0 +1,33 @@
+package com.litellm.sdk.cache;
+
+import com.litellm.sdk.config.CacheConfig;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Resolves the TTL of an entry from its request model, shared by the cache tiers so they expire entries together
+final class CacheTtls {
+    private final Duration defaultTtl;
+    private final Map<String, Duration> modelTtls;
+
+    CacheTtls(CacheConfig config) {
+        Duration ttl = config.ttl() != null ? config.ttl() : Duration.ofMinutes(5);
+        this.defaultTtl = scaled(ttl, config.timeUnit());
+        // Per-model overrides are used as given; only the default TTL goes through the legacy timeUnit scaling
+        this.modelTtls = config.modelTtls() != null ? Map.copyOf(config.modelTtls()) : Map.of();
+    }
+
+    Duration ttlFor(String model) {
+        Duration override = model != null ? modelTtls.get(model) : null;
+        return override != null ? override : defaultTtl;
+    }
+
+    // Reads the seconds of the configured duration as a count of timeUnit, as the default TTL always was
+    private static Duration scaled(Duration ttl, TimeUnit timeUnit) {
+        if (timeUnit == null || timeUnit == TimeUnit.SECONDS) {
+            return ttl;
+        }
+        return Duration.ofSeconds(timeUnit.toSeconds(ttl.getSeconds()));
+    }
+}
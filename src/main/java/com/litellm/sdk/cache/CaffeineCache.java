@@ -1,47 +1,81 @@
 package com.litellm.sdk.cache;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.litellm.sdk.config.CacheConfig;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.Objects;
+import java.util.function.Supplier;
 
 public class CaffeineCache implements CacheManager {
-    private final Cache<String, ChatCompletionResponse> cache;
+    // Key, entry and reference overhead charged to every entry on top of the response estimate
+    private static final int ENTRY_OVERHEAD = 96;
+
+    // Values are futures, so a load in progress is itself the cache entry and concurrent misses wait on it
+    private final AsyncCache<CacheKey, Entry> asyncCache;
+    private final Cache<CacheKey, Entry> cache;
+    private final boolean verifyKeys;
+    private final boolean weighted;
+    private final CacheTtls ttls;
+    private final AtomicLong coalescedCount = new AtomicLong(0);
     private final AtomicLong hitCount = new AtomicLong(0);
     private final AtomicLong missCount = new AtomicLong(0);
     private final AtomicLong evictionCount = new AtomicLong(0);
+    private final AtomicLong bytesEvicted = new AtomicLong(0);
 
     public CaffeineCache(CacheConfig config) {
-
-        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
-            .maximumSize(config.maxSize())
-            .recordStats();
-
-        Duration ttl = config.ttl();
-        if (config.timeUnit() == TimeUnit.SECONDS) {
-            caffeine.expireAfterWrite(ttl);
+        this.verifyKeys = Boolean.TRUE.equals(config.verifyKeys());
+        this.weighted = config.maxWeightBytes() != null && config.maxWeightBytes() > 0;
+        this.ttls = new CacheTtls(config);
+
+        Caffeine<CacheKey, Entry> caffeine = Caffeine.newBuilder()
+            .recordStats()
+            .expireAfter(new Expiry<CacheKey, Entry>() {
+                @Override
+                public long expireAfterCreate(CacheKey key, Entry entry, long currentTime) {
+                    return ttlOf(entry).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(CacheKey key, Entry entry, long currentTime, long currentDuration) {
+                    return ttlOf(entry).toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(CacheKey key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            });
+        if (weighted) {
+            caffeine.maximumWeight(config.maxWeightBytes()).weigher((CacheKey key, Entry entry) -> entry.weight());
         } else {
-            long durationInSeconds = config.timeUnit().toSeconds(ttl.getSeconds());
-            caffeine.expireAfterWrite(durationInSeconds, TimeUnit.SECONDS);
+            caffeine.maximumSize(config.maxSize());
         }
 
-        this.cache = caffeine
-            .evictionListener((key, value, cause) -> evictionCount.incrementAndGet())
-            .build();
+        this.asyncCache = caffeine
+            .evictionListener((CacheKey key, Entry entry, RemovalCause cause) -> {
+                evictionCount.incrementAndGet();
+                if (entry != null) {
+                    bytesEvicted.addAndGet(entry.weight());
+                }
+            })
+            .buildAsync();
+        this.cache = asyncCache.synchronous();
     }
 
     @Override
     public Mono<ChatCompletionResponse> get(ChatCompletionRequest request) {
         return Mono.defer(() -> {
-            String key = generateCacheKey(request);
-            ChatCompletionResponse response = cache.getIfPresent(key);
+            ChatCompletionResponse response = lookup(CacheKey.of(request), request);
 
             if (response != null) {
                 hitCount.incrementAndGet();
@@ -56,15 +90,73 @@ public class CaffeineCache implements CacheManager {
     @Override
     public Mono<Void> put(ChatCompletionRequest request, ChatCompletionResponse response) {
         return Mono.fromRunnable(() -> {
-            String key = generateCacheKey(request);
-            cache.put(key, response);
+            asyncCache.put(CacheKey.of(request), CompletableFuture.completedFuture(entry(request, response, null)));
+        });
+    }
+
+    // Stores an entry promoted from another tier, keeping it no longer than that tier has left
+    Mono<Void> put(ChatCompletionRequest request, CachedEntry promoted) {
+        return Mono.fromRunnable(() -> {
+            asyncCache.put(CacheKey.of(request),
+                CompletableFuture.completedFuture(entry(request, promoted.response(), promoted.remainingTtl())));
+        });
+    }
+
+    /**
+     * Installs the load as the key's pending future in one atomic step, so every concurrent miss subscribes to
+     * the same upstream call. Caffeine drops the entry if the load fails or completes empty, so failures are not
+     * cached. The load runs to completion even if the caller that started it cancels.
+     */
+    @Override
+    public Mono<ChatCompletionResponse> getOrCompute(ChatCompletionRequest request,
+                                                     Supplier<Mono<ChatCompletionResponse>> loader) {
+        return getOrLoad(request, () -> Mono.defer(loader).map(response -> new CachedEntry(response, null)));
+    }
+
+    // As getOrCompute, for loads that may come from another tier with less than a full TTL left
+    Mono<ChatCompletionResponse> getOrLoad(ChatCompletionRequest request, Supplier<Mono<CachedEntry>> loader) {
+        return Mono.defer(() -> {
+            CacheKey key = CacheKey.of(request);
+            CompletableFuture<Entry> present = asyncCache.getIfPresent(key);
+            if (present != null && present.isDone() && !present.isCompletedExceptionally()) {
+                Entry entry = present.join();
+                if (entry != null && matches(entry, request)) {
+                    hitCount.incrementAndGet();
+                    return Mono.just(markCached(entry.response()));
+                }
+            }
+
+            AtomicBoolean started = new AtomicBoolean(false);
+            CompletableFuture<Entry> pending = asyncCache.get(key, (k, executor) -> {
+                started.set(true);
+                return Mono.defer(loader)
+                    .map(loaded -> entry(request, loaded.response(), loaded.remainingTtl()))
+                    .toFuture();
+            });
+            if (started.get()) {
+                missCount.incrementAndGet();
+                return Mono.fromFuture(pending, true).map(Entry::response);
+            }
+            return Mono.fromFuture(pending, true).flatMap(entry -> {
+                if (!matches(entry, request)) {
+                    // A different request hashed to the same key; load it on its own rather than share the wrong response
+                    missCount.incrementAndGet();
+                    return Mono.defer(loader).map(CachedEntry::response);
+                }
+                coalescedCount.incrementAndGet();
+                return Mono.just(markCached(entry.response()));
+            });
         });
     }
 
+    // Requests that shared another caller's in-flight load instead of calling upstream
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
     @Override
     public void invalidate(ChatCompletionRequest request) {
-        String key = generateCacheKey(request);
-        cache.invalidate(key);
+        cache.invalidate(CacheKey.of(request));
     }
 
     @Override
@@ -74,7 +166,8 @@ public class CaffeineCache implements CacheManager {
 
     @Override
     public CacheStats getStats() {
-        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), (int) cache.estimatedSize());
+        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), (int) cache.estimatedSize(),
+            bytesRetained(), bytesEvicted.get());
     }
 
     @Override
@@ -82,26 +175,43 @@ public class CaffeineCache implements CacheManager {
         cache.cleanUp();
     }
 
-    private String generateCacheKey(ChatCompletionRequest request) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(request.model());
+    private ChatCompletionResponse markCached(ChatCompletionResponse response) {
+        return Boolean.TRUE.equals(response.cached()) ? response : response.toBuilder().cached(true).build();
+    }
 
-        if (request.messages() != null) {
-            for (var msg : request.messages()) {
-                sb.append(msg.role()).append(":").append(msg.content());
-            }
-        }
+    public Duration ttlFor(String model) {
+        return ttls.ttlFor(model);
+    }
 
-        if (request.temperature() != null) {
-            sb.append("temp:").append(request.temperature());
-        }
-        if (request.maxTokens() != null) {
-            sb.append("max:").append(request.maxTokens());
-        }
-        if (request.topP() != null) {
-            sb.append("topp:").append(request.topP());
+    private Duration ttlOf(Entry entry) {
+        Duration ttl = ttlFor(entry.model());
+        return entry.maxTtl() != null && entry.maxTtl().compareTo(ttl) < 0 ? entry.maxTtl() : ttl;
+    }
+
+    private long bytesRetained() {
+        if (weighted) {
+            return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
         }
+        return cache.asMap().values().stream().mapToLong(Entry::weight).sum();
+    }
+
+    private ChatCompletionResponse lookup(CacheKey key, ChatCompletionRequest request) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null && matches(entry, request) ? entry.response() : null;
+    }
+
+    private static boolean matches(Entry entry, ChatCompletionRequest request) {
+        return entry.request() == null || CacheKey.sameRequest(entry.request(), request);
+    }
+
+    private Entry entry(ChatCompletionRequest request, ChatCompletionResponse response, Duration maxTtl) {
+        ChatCompletionRequest retained = verifyKeys ? request : null;
+        long weight = ENTRY_OVERHEAD + ResponseWeigher.weigh(response) + ResponseWeigher.weigh(retained);
+        return new Entry(retained, response, request.model(), maxTtl, (int) Math.min(weight, Integer.MAX_VALUE));
+    }
 
-        return Objects.hash(sb.toString()) + ":" + sb.toString();
+    // The request is only kept when verifying keys; the model selects the entry's TTL, capped by maxTtl if set
+    private record Entry(ChatCompletionRequest request, ChatCompletionResponse response, String model,
+                         Duration maxTtl, int weight) {
     }
 }
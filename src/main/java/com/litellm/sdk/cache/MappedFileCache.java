@@ -0,0 +1,344 @@
+package com.litellm.sdk.cache;
+
+import com.litellm.sdk.config.CacheConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent cache tier: an append-only log of {@link ResponseCodec}-encoded responses in a memory-mapped file,
+ * with an in-heap index from {@link CacheKey} to record offset. Response bodies live off-heap in the page cache,
+ * and writes reach the OS on every put, so the cache survives process restarts; the index is rebuilt by scanning
+ * the log on open.
+ * <p>
+ * Each record carries the file's epoch and a CRC32, and its length is written last, so the scan stops cleanly at
+ * a torn write or at data left over from before {@link #invalidateAll()}. When the file fills up, live entries are
+ * rewritten newest first into a fresh file, dropping expired ones and, if still short of room, the oldest writes.
+ */
+@Slf4j
+public class MappedFileCache implements CacheManager {
+    private static final int MAGIC = 0x4c4c4d43;
+    private static final int FORMAT_VERSION = 1;
+    // magic, format version, epoch, reserved
+    private static final int FILE_HEADER = 16;
+    // length, crc, epoch, flags, key high, key low, expires-at millis
+    private static final int RECORD_HEADER = 40;
+    private static final int LIVE = 0;
+    private static final int TOMBSTONE = 1;
+
+    private final Path path;
+    private final int capacity;
+    private final CacheTtls ttls;
+    private final LongSupplier clock;
+    private final Object writeLock = new Object();
+    private volatile Segment segment;
+    private final AtomicLong hitCount = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+    private final AtomicLong evictionCount = new AtomicLong(0);
+    private final AtomicLong bytesEvicted = new AtomicLong(0);
+
+    public MappedFileCache(CacheConfig config) {
+        this(Path.of(config.persistentPath()), config, System::currentTimeMillis);
+    }
+
+    public MappedFileCache(Path path, CacheConfig config, LongSupplier clock) {
+        this.path = path;
+        Long maxBytes = config.persistentMaxBytes();
+        this.capacity = maxBytes != null && maxBytes > 0 ? (int) Math.min(maxBytes, Integer.MAX_VALUE) : 256 * 1024 * 1024;
+        this.ttls = new CacheTtls(config);
+        this.clock = clock;
+        try {
+            this.segment = open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open persistent cache at " + path, e);
+        }
+        log.info("Opened persistent cache {} with {} entries", path, segment.index.size());
+    }
+
+    @Override
+    public Mono<ChatCompletionResponse> get(ChatCompletionRequest request) {
+        return getEntry(request).map(CachedEntry::response);
+    }
+
+    @Override
+    public Mono<CachedEntry> getEntry(ChatCompletionRequest request) {
+        return Mono.defer(() -> {
+            CachedEntry entry = read(CacheKey.of(request));
+            if (entry != null) {
+                hitCount.incrementAndGet();
+                return Mono.just(entry);
+            }
+            missCount.incrementAndGet();
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Mono<Void> put(ChatCompletionRequest request, ChatCompletionResponse response) {
+        return Mono.fromRunnable(() -> {
+            long expiresAt = clock.getAsLong() + ttls.ttlFor(request.model()).toMillis();
+            write(CacheKey.of(request), LIVE, expiresAt, ResponseCodec.encode(response));
+        });
+    }
+
+    @Override
+    public void invalidate(ChatCompletionRequest request) {
+        CacheKey key = CacheKey.of(request);
+        if (segment.index.containsKey(key)) {
+            // The tombstone keeps the entry from coming back when the log is replayed
+            write(key, TOMBSTONE, 0, new byte[0]);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (writeLock) {
+            Segment current = segment;
+            // A new epoch makes every record already in the file invisible to readers and to the next scan
+            int epoch = current.epoch + 1;
+            current.buffer.putInt(8, epoch);
+            segment = new Segment(current.buffer, epoch, FILE_HEADER);
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        Segment current = segment;
+        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), current.index.size(),
+            current.liveBytes.get(), bytesEvicted.get());
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            segment.buffer.force();
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private CachedEntry read(CacheKey key) {
+        Segment current = segment;
+        Slot slot = current.index.get(key);
+        if (slot == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        if (slot.expiresAt() <= now) {
+            if (current.index.remove(key, slot)) {
+                evicted(current, slot);
+            }
+            return null;
+        }
+        // Validated on a copy: invalidateAll and a failed compaction reuse the buffer while readers may still hold
+        // this segment, so a concurrent append can overwrite the record mid-copy, and only the checksum catches that
+        byte[] record = new byte[slot.length()];
+        current.buffer.get(slot.offset(), record);
+        ByteBuffer copy = ByteBuffer.wrap(record);
+        if (copy.getInt(0) != slot.length() || copy.getInt(8) != current.epoch || copy.getLong(16) != key.high()
+                || copy.getLong(24) != key.low() || copy.getInt(4) != checksum(copy, 0, slot.length())) {
+            return null;
+        }
+        try {
+            ChatCompletionResponse response = ResponseCodec.decode(Arrays.copyOfRange(record, RECORD_HEADER, record.length));
+            return new CachedEntry(response, Duration.ofMillis(slot.expiresAt() - now));
+        } catch (RuntimeException e) {
+            log.warn("Dropping unreadable persistent cache entry {}: {}", key, e.getMessage());
+            if (current.index.remove(key, slot)) {
+                current.liveBytes.addAndGet(-slot.length());
+            }
+            return null;
+        }
+    }
+
+    private void write(CacheKey key, int flags, long expiresAt, byte[] payload) {
+        int length = RECORD_HEADER + payload.length;
+        if (length > capacity - FILE_HEADER) {
+            log.debug("Response of {} bytes does not fit the persistent cache", payload.length);
+            return;
+        }
+        synchronized (writeLock) {
+            Segment current = segment;
+            if (current.writePosition + length > capacity) {
+                current = compact(length);
+            }
+            append(current, key, flags, expiresAt, payload);
+        }
+    }
+
+    private void append(Segment target, CacheKey key, int flags, long expiresAt, byte[] payload) {
+        int offset = target.writePosition;
+        int length = RECORD_HEADER + payload.length;
+        MappedByteBuffer buffer = target.buffer;
+        buffer.putInt(offset + 8, target.epoch);
+        buffer.putInt(offset + 12, flags);
+        buffer.putLong(offset + 16, key.high());
+        buffer.putLong(offset + 24, key.low());
+        buffer.putLong(offset + 32, expiresAt);
+        buffer.put(offset + RECORD_HEADER, payload);
+        buffer.putInt(offset + 4, checksum(buffer, offset, length));
+        // Written last: a record without its length is treated as the end of the log
+        buffer.putInt(offset, length);
+        target.writePosition = offset + length;
+
+        Slot previous = flags == TOMBSTONE
+            ? target.index.remove(key)
+            : target.index.put(key, new Slot(offset, length, expiresAt));
+        if (flags == LIVE) {
+            target.liveBytes.addAndGet(length);
+        }
+        if (previous != null) {
+            target.liveBytes.addAndGet(-previous.length());
+        }
+    }
+
+    // Rewrites live entries, newest first, into a fresh file leaving room for a record of the given length
+    private Segment compact(int needed) {
+        Segment old = segment;
+        long now = clock.getAsLong();
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            Segment fresh = create(compacted, old.epoch + 1);
+            List<Map.Entry<CacheKey, Slot>> entries = new ArrayList<>(old.index.entrySet());
+            entries.sort(Comparator.comparingInt((Map.Entry<CacheKey, Slot> entry) -> entry.getValue().offset()).reversed());
+            for (Map.Entry<CacheKey, Slot> entry : entries) {
+                Slot slot = entry.getValue();
+                if (slot.expiresAt() <= now || fresh.writePosition + slot.length() + needed > capacity) {
+                    evicted(old, slot);
+                    continue;
+                }
+                byte[] payload = new byte[slot.length() - RECORD_HEADER];
+                old.buffer.get(slot.offset() + RECORD_HEADER, payload);
+                append(fresh, entry.getKey(), LIVE, slot.expiresAt(), payload);
+            }
+            fresh.buffer.force();
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            segment = fresh;
+            log.debug("Compacted persistent cache {} to {} entries", path, fresh.index.size());
+            return fresh;
+        } catch (IOException e) {
+            // Keep serving reads; start the current file over so writes can continue
+            log.warn("Failed to compact persistent cache {}: {}", path, e.getMessage());
+            old.index.values().forEach(slot -> evicted(old, slot));
+            int epoch = old.epoch + 1;
+            old.buffer.putInt(8, epoch);
+            Segment reset = new Segment(old.buffer, epoch, FILE_HEADER);
+            segment = reset;
+            return reset;
+        }
+    }
+
+    private Segment open() throws IOException {
+        if (!Files.exists(path)) {
+            return create(path, ThreadLocalRandom.current().nextInt());
+        }
+        MappedByteBuffer buffer = map(path);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            log.warn("Persistent cache {} has an unknown format, starting empty", path);
+            return create(path, ThreadLocalRandom.current().nextInt());
+        }
+        int epoch = buffer.getInt(8);
+        Segment loaded = new Segment(buffer, epoch, FILE_HEADER);
+        long now = clock.getAsLong();
+        int offset = FILE_HEADER;
+        while (offset + RECORD_HEADER <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length < RECORD_HEADER || length > capacity - offset || buffer.getInt(offset + 8) != epoch
+                    || buffer.getInt(offset + 4) != checksum(buffer, offset, length)) {
+                break;
+            }
+            CacheKey key = new CacheKey(buffer.getLong(offset + 16), buffer.getLong(offset + 24));
+            long expiresAt = buffer.getLong(offset + 32);
+            Slot previous;
+            if (buffer.getInt(offset + 12) == TOMBSTONE || expiresAt <= now) {
+                previous = loaded.index.remove(key);
+            } else {
+                previous = loaded.index.put(key, new Slot(offset, length, expiresAt));
+                loaded.liveBytes.addAndGet(length);
+            }
+            if (previous != null) {
+                loaded.liveBytes.addAndGet(-previous.length());
+            }
+            offset += length;
+        }
+        loaded.writePosition = offset;
+        return loaded;
+    }
+
+    private Segment create(Path file, int epoch) throws IOException {
+        Files.deleteIfExists(file);
+        MappedByteBuffer buffer = map(file);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+        buffer.putInt(8, epoch);
+        return new Segment(buffer, epoch, FILE_HEADER);
+    }
+
+    // The mapping stays valid after the channel is closed
+    private MappedByteBuffer map(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+
+    // Covers everything after the crc field, so replay and reads verify the epoch, key, expiry and payload
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        ByteBuffer record = buffer.slice(offset + 8, length - 8);
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private void evicted(Segment owner, Slot slot) {
+        owner.liveBytes.addAndGet(-slot.length());
+        evictionCount.incrementAndGet();
+        bytesEvicted.addAndGet(slot.length());
+    }
+
+    private record Slot(int offset, int length, long expiresAt) {
+    }
+
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final int epoch;
+        private final ConcurrentHashMap<CacheKey, Slot> index = new ConcurrentHashMap<>();
+        private final AtomicLong liveBytes = new AtomicLong();
+        // Guarded by writeLock
+        private int writePosition;
+
+        private Segment(MappedByteBuffer buffer, int epoch, int writePosition) {
+            this.buffer = buffer;
+            this.epoch = epoch;
+            this.writePosition = writePosition;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.litellm.sdk.cache;
+
+/**
+ * Incremental MurmurHash3 x64 128-bit. Input is fed field by field into a single 16-byte block, so hashing a
+ * request never materializes its content as an intermediate string or byte array. Not thread-safe.
+ */
+public final class Murmur3Hasher {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1;
+    private long h2;
+    private long k1;
+    private long k2;
+    private int blockPosition;
+    private long length;
+
+    public Murmur3Hasher() {
+        this(0);
+    }
+
+    public Murmur3Hasher(int seed) {
+        this.h1 = seed & 0xffffffffL;
+        this.h2 = seed & 0xffffffffL;
+    }
+
+    public Murmur3Hasher putByte(byte value) {
+        long lane = (value & 0xffL) << ((blockPosition & 7) << 3);
+        if (blockPosition < 8) {
+            k1 |= lane;
+        } else {
+            k2 |= lane;
+        }
+        length++;
+        if (++blockPosition == 16) {
+            mixBlock();
+        }
+        return this;
+    }
+
+    public Murmur3Hasher putBytes(byte[] bytes) {
+        for (byte value : bytes) {
+            putByte(value);
+        }
+        return this;
+    }
+
+    public Murmur3Hasher putChar(char value) {
+        putByte((byte) value);
+        return putByte((byte) (value >>> 8));
+    }
+
+    public Murmur3Hasher putInt(int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            putByte((byte) (value >>> shift));
+        }
+        return this;
+    }
+
+    public Murmur3Hasher putLong(long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            putByte((byte) (value >>> shift));
+        }
+        return this;
+    }
+
+    public Murmur3Hasher putDouble(double value) {
+        return putLong(Double.doubleToLongBits(value));
+    }
+
+    // Length-prefixed so adjacent fields cannot run into each other ("ab"+"c" vs "a"+"bc")
+    public Murmur3Hasher putString(CharSequence value) {
+        int size = value.length();
+        putInt(size);
+        for (int i = 0; i < size; i++) {
+            putChar(value.charAt(i));
+        }
+        return this;
+    }
+
+    /** Finishes the hash; returns {@code {h1, h2}}. The hasher must not be used afterwards. */
+    public long[] finish() {
+        if (blockPosition > 0) {
+            if (blockPosition > 8) {
+                k2 *= C2;
+                k2 = Long.rotateLeft(k2, 33);
+                k2 *= C1;
+                h2 ^= k2;
+            }
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[] {h1, h2};
+    }
+
+    private void mixBlock() {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+
+        k1 = 0;
+        k2 = 0;
+        blockPosition = 0;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,214 @@
+package com.litellm.sdk.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice.ResponseMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of {@link ChatCompletionResponse} for the persistent cache tier. Fields are written in
+ * declaration order with presence markers for nullable values; strings are length-prefixed UTF-8. Image and
+ * thinking-block payloads are free-form objects and are stored as JSON.
+ */
+public final class ResponseCodec {
+    private static final byte VERSION = 1;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Object>> OBJECT_LIST = new TypeReference<>() {
+    };
+
+    private ResponseCodec() {
+    }
+
+    public static byte[] encode(ChatCompletionResponse response) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, response.id());
+            writeLong(out, response.created());
+            writeString(out, response.object());
+            writeString(out, response.model());
+            writeString(out, response.provider());
+
+            List<Choice> choices = response.choices();
+            out.writeInt(choices != null ? choices.size() : -1);
+            if (choices != null) {
+                for (Choice choice : choices) {
+                    writeChoice(out, choice);
+                }
+            }
+
+            Usage usage = response.usage();
+            out.writeBoolean(usage != null);
+            if (usage != null) {
+                writeInt(out, usage.getPromptTokens());
+                writeInt(out, usage.getCompletionTokens());
+                writeInt(out, usage.getTotalTokens());
+            }
+
+            out.writeByte(response.cached() == null ? -1 : response.cached() ? 1 : 0);
+            Instant timestamp = response.timestamp();
+            out.writeBoolean(timestamp != null);
+            if (timestamp != null) {
+                out.writeLong(timestamp.getEpochSecond());
+                out.writeInt(timestamp.getNano());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ChatCompletionResponse decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported cached response version " + version);
+            }
+            ChatCompletionResponse.ChatCompletionResponseBuilder builder = ChatCompletionResponse.builder()
+                .id(readString(in))
+                .created(readLong(in))
+                .object(readString(in))
+                .model(readString(in))
+                .provider(readString(in));
+
+            int choiceCount = in.readInt();
+            if (choiceCount >= 0) {
+                List<Choice> choices = new ArrayList<>(choiceCount);
+                for (int i = 0; i < choiceCount; i++) {
+                    choices.add(readChoice(in));
+                }
+                builder.choices(choices);
+            }
+
+            if (in.readBoolean()) {
+                builder.usage(new Usage(readInt(in), readInt(in), readInt(in)));
+            }
+
+            byte cached = in.readByte();
+            builder.cached(cached < 0 ? null : cached == 1);
+            if (in.readBoolean()) {
+                builder.timestamp(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeChoice(DataOutputStream out, Choice choice) throws IOException {
+        out.writeBoolean(choice != null);
+        if (choice == null) {
+            return;
+        }
+        writeString(out, choice.finishReason());
+        writeInt(out, choice.index());
+        ResponseMessage message = choice.message();
+        out.writeBoolean(message != null);
+        if (message != null) {
+            writeString(out, message.content());
+            writeString(out, message.role());
+            writeObjects(out, message.images());
+            writeObjects(out, message.thinkingBlocks());
+        }
+    }
+
+    private static Choice readChoice(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        Choice.ChoiceBuilder builder = Choice.builder()
+            .finishReason(readString(in))
+            .index(readInt(in));
+        if (in.readBoolean()) {
+            builder.message(ResponseMessage.builder()
+                .content(readString(in))
+                .role(readString(in))
+                .images(readObjects(in))
+                .thinkingBlocks(readObjects(in))
+                .build());
+        }
+        return builder.build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeObjects(DataOutputStream out, List<Object> values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        if (values.isEmpty()) {
+            out.writeInt(0);
+            return;
+        }
+        byte[] json = OBJECT_MAPPER.writeValueAsBytes(values);
+        out.writeInt(json.length);
+        out.write(json);
+    }
+
+    private static List<Object> readObjects(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length == 0) {
+            return List.of();
+        }
+        byte[] json = new byte[length];
+        in.readFully(json);
+        return OBJECT_MAPPER.readValue(json, OBJECT_LIST);
+    }
+
+    private static void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+}
@@ -0,0 +1,113 @@
+package com.litellm.sdk.cache;
+
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Rough retained-heap estimate for cached responses, used to bound the cache in bytes.
+ * Counts object headers and references at 64-bit compressed-oops sizes and strings at two bytes per char,
+ * so it errs on the high side for ASCII content. Image and thinking-block payloads are walked recursively
+ * since they usually dominate the size of the responses that include them.
+ */
+public final class ResponseWeigher {
+    private static final int OBJECT = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING = 40;
+    private static final int BOXED = 16;
+    private static final int LIST = 40;
+    private static final int MAP_ENTRY = 32;
+    private static final int MAX_DEPTH = 16;
+
+    private ResponseWeigher() {
+    }
+
+    public static long weigh(ChatCompletionResponse response) {
+        if (response == null) {
+            return 0;
+        }
+        long bytes = OBJECT + 9 * REFERENCE + BOXED * 2 + OBJECT
+            + string(response.id()) + string(response.object()) + string(response.model())
+            + string(response.provider()) + usage(response.usage());
+        if (response.choices() != null) {
+            bytes += LIST + (long) response.choices().size() * REFERENCE;
+            for (Choice choice : response.choices()) {
+                bytes += choice(choice);
+            }
+        }
+        return bytes;
+    }
+
+    public static long weigh(ChatCompletionRequest request) {
+        if (request == null) {
+            return 0;
+        }
+        long bytes = OBJECT + 10 * REFERENCE + BOXED * 3 + string(request.id()) + string(request.model());
+        if (request.messages() != null) {
+            bytes += LIST + (long) request.messages().size() * REFERENCE;
+            for (Message message : request.messages()) {
+                bytes += OBJECT + 2 * REFERENCE + string(message.content());
+            }
+        }
+        return bytes;
+    }
+
+    private static long choice(Choice choice) {
+        if (choice == null) {
+            return 0;
+        }
+        long bytes = OBJECT + 3 * REFERENCE + BOXED + string(choice.finishReason());
+        Choice.ResponseMessage message = choice.message();
+        if (message != null) {
+            bytes += OBJECT + 4 * REFERENCE + string(message.content()) + string(message.role())
+                + value(message.images(), 0) + value(message.thinkingBlocks(), 0);
+        }
+        return bytes;
+    }
+
+    private static long usage(Usage usage) {
+        return usage != null ? OBJECT + 3 * (REFERENCE + BOXED) : 0;
+    }
+
+    private static long string(String value) {
+        return value != null ? STRING + 2L * value.length() : 0;
+    }
+
+    private static long value(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return STRING + 2L * text.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT + bytes.length;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return BOXED;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT;
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = LIST + (long) collection.size() * REFERENCE;
+            for (Object element : collection) {
+                bytes += value(element, depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = LIST + (long) map.size() * MAP_ENTRY;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += value(entry.getKey(), depth + 1) + value(entry.getValue(), depth + 1);
+            }
+            return bytes;
+        }
+        return OBJECT;
+    }
+}
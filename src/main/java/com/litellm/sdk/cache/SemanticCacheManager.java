@@ -0,0 +1,354 @@
+package com.litellm.sdk.cache;
+
+import com.litellm.sdk.config.SemanticCacheConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import com.litellm.sdk.model.response.EmbeddingResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Serves a cached response to a request whose conversation is close enough in meaning to one answered before.
+ * Each request's messages are embedded through the configured embedding model and compared by cosine similarity
+ * against earlier requests for the same chat model and sampling parameters; the best match at or above the
+ * threshold is returned.
+ * <p>
+ * Vectors are L2-normalized on insert so similarity is a plain dot product, and each model's vectors sit in one
+ * contiguous {@code float[]} scanned linearly. At the bounded partition sizes this uses, a flat scan beats a graph
+ * index and is exact. A full partition overwrites its oldest entry. Entries are also keyed by the {@link CacheKey}
+ * of the request that stored them, so storing the same request again replaces its entry and invalidation needs no
+ * embedding. If embedding fails the request is treated as a miss, so the semantic cache never fails a completion.
+ */
+@Slf4j
+public class SemanticCacheManager implements CacheManager {
+    private final SemanticCacheConfig config;
+    private final Function<EmbeddingRequest, Mono<EmbeddingResponse>> embedder;
+    private final LongSupplier clock;
+    private final long ttlNanos;
+    private final float threshold;
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+    private final AtomicLong evictionCount = new AtomicLong(0);
+    private final AtomicLong bytesEvicted = new AtomicLong(0);
+
+    public SemanticCacheManager(SemanticCacheConfig config, Function<EmbeddingRequest, Mono<EmbeddingResponse>> embedder) {
+        this(config, embedder, System::nanoTime);
+    }
+
+    public SemanticCacheManager(SemanticCacheConfig config, Function<EmbeddingRequest, Mono<EmbeddingResponse>> embedder,
+                                LongSupplier clock) {
+        this.config = config;
+        this.embedder = embedder;
+        this.clock = clock;
+        this.ttlNanos = config.ttl().toNanos();
+        this.threshold = config.similarityThreshold().floatValue();
+    }
+
+    @Override
+    public Mono<ChatCompletionResponse> get(ChatCompletionRequest request) {
+        return embed(request).flatMap(vector -> {
+            ChatCompletionResponse match = search(request, vector);
+            if (match != null) {
+                hitCount.incrementAndGet();
+                return Mono.just(match);
+            }
+            missCount.incrementAndGet();
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Mono<Void> put(ChatCompletionRequest request, ChatCompletionResponse response) {
+        return embed(request).doOnNext(vector -> insert(request, vector, response)).then();
+    }
+
+    // Embeds once per request: the same vector is used for the lookup and for storing the loaded response
+    @Override
+    public Mono<ChatCompletionResponse> getOrCompute(ChatCompletionRequest request,
+                                                     Supplier<Mono<ChatCompletionResponse>> loader) {
+        return embed(request)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(vector -> {
+                ChatCompletionResponse match = vector.map(v -> search(request, v)).orElse(null);
+                if (match != null) {
+                    hitCount.incrementAndGet();
+                    return Mono.just(Boolean.TRUE.equals(match.cached()) ? match : match.toBuilder().cached(true).build());
+                }
+                missCount.incrementAndGet();
+                return Mono.defer(loader).doOnNext(response -> vector.ifPresent(v -> insert(request, v, response)));
+            });
+    }
+
+    // Drops the entry this exact request stored, by key: no embedding call, so it never blocks
+    @Override
+    public void invalidate(ChatCompletionRequest request) {
+        Partition partition = partitions.get(request.model());
+        if (partition != null) {
+            partition.removeKey(CacheKey.of(request));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        partitions.clear();
+    }
+
+    @Override
+    public CacheStats getStats() {
+        int size = 0;
+        long bytes = 0;
+        for (Partition partition : partitions.values()) {
+            size += partition.size();
+            bytes += partition.retainedBytes();
+        }
+        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), size, bytes, bytesEvicted.get());
+    }
+
+    @Override
+    public void close() {
+        partitions.clear();
+    }
+
+    private ChatCompletionResponse search(ChatCompletionRequest request, float[] vector) {
+        Partition partition = partitions.get(request.model());
+        return partition != null ? partition.search(vector, threshold, paramsHash(request), clock.getAsLong()) : null;
+    }
+
+    private void insert(ChatCompletionRequest request, float[] vector, ChatCompletionResponse response) {
+        Partition partition = partitions.computeIfAbsent(request.model(), model -> new Partition(config.maxEntriesPerModel()));
+        long evicted = partition.insert(CacheKey.of(request), vector, paramsHash(request), response,
+            ResponseWeigher.weigh(response), clock.getAsLong() + ttlNanos);
+        if (evicted > 0) {
+            evictionCount.incrementAndGet();
+            bytesEvicted.addAndGet(evicted);
+        }
+    }
+
+    private Mono<float[]> embed(ChatCompletionRequest request) {
+        EmbeddingRequest embeddingRequest = EmbeddingRequest.builder()
+            .model(config.embeddingModel())
+            .inputText(conversationText(request.messages()))
+            .build();
+        return Mono.defer(() -> embedder.apply(embeddingRequest))
+            .mapNotNull(response -> normalized(response.embedding()))
+            .onErrorResume(error -> {
+                log.debug("Semantic cache lookup skipped, embedding failed: {}", error.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private static String conversationText(List<Message> messages) {
+        StringBuilder text = new StringBuilder();
+        for (Message message : messages) {
+            if (text.length() > 0) {
+                text.append('\n');
+            }
+            text.append(message.role().name().toLowerCase()).append(": ").append(message.content());
+        }
+        return text.toString();
+    }
+
+    // Normalizes a copy: the response's array belongs to the caller
+    private static float[] normalized(float[] embedding) {
+        if (embedding == null || embedding.length == 0) {
+            return null;
+        }
+        double norm = 0;
+        for (float value : embedding) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        float[] vector = new float[embedding.length];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = embedding[i] * scale;
+        }
+        return vector;
+    }
+
+    // Sampling parameters must match exactly; only the conversation is compared by meaning
+    private static long paramsHash(ChatCompletionRequest request) {
+        return Objects.hash(request.temperature(), request.maxTokens(), request.topP());
+    }
+
+    private static float dot(float[] vectors, int offset, float[] query) {
+        // Independent accumulators let the JIT pipeline the multiply-adds
+        float s0 = 0;
+        float s1 = 0;
+        float s2 = 0;
+        float s3 = 0;
+        int i = 0;
+        int unrolled = query.length & ~3;
+        for (; i < unrolled; i += 4) {
+            s0 += vectors[offset + i] * query[i];
+            s1 += vectors[offset + i + 1] * query[i + 1];
+            s2 += vectors[offset + i + 2] * query[i + 2];
+            s3 += vectors[offset + i + 3] * query[i + 3];
+        }
+        for (; i < query.length; i++) {
+            s0 += vectors[offset + i] * query[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    // Fixed-capacity ring of entries for one chat model; vectors are allocated on first insert once the dimension is known
+    private static final class Partition {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final int capacity;
+        private final CacheKey[] keys;
+        private final Map<CacheKey, Integer> slots = new HashMap<>();
+        private final ChatCompletionResponse[] responses;
+        private final long[] params;
+        private final long[] expiresAt;
+        private final long[] weights;
+        private float[] vectors;
+        private int dimension;
+        private int next;
+        private int size;
+        private long responseBytes;
+
+        private Partition(int capacity) {
+            this.capacity = capacity;
+            this.keys = new CacheKey[capacity];
+            this.responses = new ChatCompletionResponse[capacity];
+            this.params = new long[capacity];
+            this.expiresAt = new long[capacity];
+            this.weights = new long[capacity];
+        }
+
+        private ChatCompletionResponse search(float[] query, float threshold, long paramsHash, long now) {
+            lock.readLock().lock();
+            try {
+                if (query.length != dimension) {
+                    return null;
+                }
+                int best = -1;
+                float bestScore = threshold;
+                for (int slot = 0; slot < capacity; slot++) {
+                    if (responses[slot] == null || params[slot] != paramsHash || expiresAt[slot] - now <= 0) {
+                        continue;
+                    }
+                    float score = dot(vectors, slot * dimension, query);
+                    if (score >= bestScore) {
+                        best = slot;
+                        bestScore = score;
+                    }
+                }
+                return best >= 0 ? responses[best] : null;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Returns the weight of the entry it displaced, or 0; a request stored again takes over its own slot
+        private long insert(CacheKey key, float[] vector, long paramsHash, ChatCompletionResponse response, long weight,
+                            long expiry) {
+            lock.writeLock().lock();
+            try {
+                if (vector.length != dimension) {
+                    // First insert, or the embedding model changed: vectors of different sizes cannot be compared
+                    clear();
+                    dimension = vector.length;
+                    vectors = new float[capacity * dimension];
+                }
+                Integer existing = slots.get(key);
+                int slot;
+                long displaced;
+                if (existing != null) {
+                    slot = existing;
+                    remove(slot);
+                    displaced = 0;
+                } else {
+                    slot = next;
+                    next = (next + 1) % capacity;
+                    displaced = remove(slot);
+                }
+                System.arraycopy(vector, 0, vectors, slot * dimension, dimension);
+                keys[slot] = key;
+                slots.put(key, slot);
+                responses[slot] = response;
+                params[slot] = paramsHash;
+                expiresAt[slot] = expiry;
+                weights[slot] = weight;
+                responseBytes += weight;
+                size++;
+                return displaced;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeKey(CacheKey key) {
+            lock.writeLock().lock();
+            try {
+                Integer slot = slots.get(key);
+                if (slot != null) {
+                    remove(slot);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private long remove(int slot) {
+            if (responses[slot] == null) {
+                return 0;
+            }
+            long weight = weights[slot];
+            slots.remove(keys[slot]);
+            keys[slot] = null;
+            responses[slot] = null;
+            responseBytes -= weight;
+            size--;
+            return weight + 4L * dimension;
+        }
+
+        private void clear() {
+            Arrays.fill(keys, null);
+            slots.clear();
+            Arrays.fill(responses, null);
+            vectors = null;
+            dimension = 0;
+            next = 0;
+            size = 0;
+            responseBytes = 0;
+        }
+
+        private int size() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private long retainedBytes() {
+            lock.readLock().lock();
+            try {
+                return responseBytes + (vectors != null ? 4L * vectors.length : 0);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.litellm.sdk.cache;
+
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * A small in-heap {@link CaffeineCache} in front of a larger persistent tier such as {@link MappedFileCache}.
+ * Lookups try L1, then L2, promoting L2 hits into L1 for whatever is left of their L2 TTL. New responses go into
+ * both, with the L2 write done off the caller's thread so a slow disk never delays a response. Concurrent misses
+ * still share one load through L1.
+ */
+@Slf4j
+public class TieredCache implements CacheManager {
+    @Getter
+    private final CaffeineCache l1;
+    @Getter
+    private final CacheManager l2;
+
+    public TieredCache(CaffeineCache l1, CacheManager l2) {
+        this.l1 = l1;
+        this.l2 = l2;
+    }
+
+    @Override
+    public Mono<ChatCompletionResponse> get(ChatCompletionRequest request) {
+        return l1.get(request)
+            .switchIfEmpty(Mono.defer(() -> l2.getEntry(request)
+                .flatMap(entry -> l1.put(request, entry).thenReturn(entry.response()))));
+    }
+
+    @Override
+    public Mono<Void> put(ChatCompletionRequest request, ChatCompletionResponse response) {
+        return l1.put(request, response).then(Mono.fromRunnable(() -> writeBehind(request, response)));
+    }
+
+    @Override
+    public Mono<ChatCompletionResponse> getOrCompute(ChatCompletionRequest request,
+                                                     Supplier<Mono<ChatCompletionResponse>> loader) {
+        // L1 stores whatever this load returns, so an L2 hit is promoted as part of the shared load
+        return l1.getOrLoad(request, () -> l2.getEntry(request)
+            .map(entry -> new CachedEntry(markCached(entry.response()), entry.remainingTtl()))
+            .switchIfEmpty(Mono.defer(loader)
+                .doOnNext(response -> writeBehind(request, response))
+                .map(response -> new CachedEntry(response, null))));
+    }
+
+    @Override
+    public void invalidate(ChatCompletionRequest request) {
+        l1.invalidate(request);
+        l2.invalidate(request);
+    }
+
+    @Override
+    public void invalidateAll() {
+        l1.invalidateAll();
+        l2.invalidateAll();
+    }
+
+    // Hits from either tier; misses are requests neither tier could serve
+    @Override
+    public CacheStats getStats() {
+        CacheStats first = l1.getStats();
+        CacheStats second = l2.getStats();
+        return new CacheStats(first.hitCount() + second.hitCount(), second.missCount(),
+            first.evictionCount() + second.evictionCount(), second.size(),
+            first.bytesRetained() + second.bytesRetained(), first.bytesEvicted() + second.bytesEvicted());
+    }
+
+    @Override
+    public void close() {
+        l1.close();
+        l2.close();
+    }
+
+    private static ChatCompletionResponse markCached(ChatCompletionResponse response) {
+        return Boolean.TRUE.equals(response.cached()) ? response : response.toBuilder().cached(true).build();
+    }
+
+    private void writeBehind(ChatCompletionRequest request, ChatCompletionResponse response) {
+        l2.put(request, response)
+            .subscribeOn(Schedulers.boundedElastic())
+            .subscribe(null, error -> log.warn("Failed to write response to the persistent cache: {}", error.getMessage()));
+    }
+}
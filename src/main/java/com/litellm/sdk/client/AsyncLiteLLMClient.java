@@ -1,26 +1,31 @@
 package com.litellm.sdk.client;
 
+import com.litellm.sdk.batch.BatchExecutor;
+import com.litellm.sdk.batch.BatchResult;
+import com.litellm.sdk.batch.EmbeddingBatcher;
 import com.litellm.sdk.config.ClientConfig;
-import com.litellm.sdk.config.RetryConfig;
+import com.litellm.sdk.config.EmbeddingBatchConfig;
 import com.litellm.sdk.error.LiteLLMException;
 import com.litellm.sdk.error.RetryExhaustedException;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.EmbeddingRequest;
 import com.litellm.sdk.model.request.TextCompletionRequest;
+import com.litellm.sdk.model.response.ChatCompletionChunk;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.provider.Provider;
 import com.litellm.sdk.provider.LiteLLMProvider;
 import com.litellm.sdk.retry.RetryPolicy;
+import com.litellm.sdk.routing.RequestBudget;
 import com.litellm.sdk.routing.Router;
-import com.litellm.sdk.routing.strategy.RoundRobinStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategyFactory;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
 import java.util.List;
 
 @Slf4j
@@ -29,28 +34,35 @@ public class AsyncLiteLLMClient {
     private final Router router;
     private final RetryPolicy retryPolicy;
     private final ClientConfig config;
+    private final EmbeddingBatcher embeddingBatcher;
 
     public AsyncLiteLLMClient(ClientConfig config) {
         this.config = config;
-        this.retryPolicy = new RetryPolicy(config.retry() != null ? config.retry() : RetryConfig.builder().build());
+        this.retryPolicy = new RetryPolicy(config.retry());
         List<Provider> providers = config.providers().stream()
                 .map(this::createProvider)
                 .toList();
-        RoundRobinStrategy strategy = new RoundRobinStrategy(config.routingStrategy());
+        RoutingStrategy strategy = RoutingStrategyFactory.create(config.routingStrategy());
         this.router = new Router(config, providers, strategy);
+        this.embeddingBatcher = createEmbeddingBatcher(config, router);
     }
 
     public AsyncLiteLLMClient(Router router, RetryPolicy retryPolicy, ClientConfig config) {
         this.router = router;
         this.retryPolicy = retryPolicy;
         this.config = config;
+        this.embeddingBatcher = createEmbeddingBatcher(config, router);
     }
 
     public Mono<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request) {
         log.debug("Executing async chat completion request");
 
-        return router.routeChatCompletion(router.providers(), request)
-                .retryWhen(buildRetryPolicy())
+        // One budget per call, so retries share its deadline and move on from providers that already failed it
+        return Mono.defer(() -> {
+                    RequestBudget budget = router.newBudget(request.timeout());
+                    return retryPolicy.apply(router.routeChatCompletion(router.providers(), request, budget),
+                            ChatCompletionResponse::provider, budget::remaining);
+                })
                 .onErrorResume(throwable -> {
                     log.error("Chat completion failed after all retries", throwable);
                     return Mono.error(handleRetryExhausted(throwable));
@@ -60,8 +72,11 @@ public class AsyncLiteLLMClient {
     public Mono<TextCompletionResponse> textCompletion(TextCompletionRequest request) {
         log.debug("Executing async text completion request");
 
-        return router.routeTextCompletion(router.providers(), request)
-                .retryWhen(buildRetryPolicy())
+        return Mono.defer(() -> {
+                    RequestBudget budget = router.newBudget(request.timeout());
+                    return retryPolicy.apply(router.routeTextCompletion(router.providers(), request, budget),
+                            TextCompletionResponse::provider, budget::remaining);
+                })
                 .onErrorResume(throwable -> {
                     log.error("Text completion failed after all retries", throwable);
                     return Mono.error(handleRetryExhausted(throwable));
@@ -71,57 +86,84 @@ public class AsyncLiteLLMClient {
     public Mono<EmbeddingResponse> embeddings(EmbeddingRequest request) {
         log.debug("Executing async embedding request");
 
-        return router.routeEmbedding(router.providers(), request)
-                .retryWhen(buildRetryPolicy())
+        // Batched requests are routed together under the batch's own budget; the call's deadline still bounds retries
+        return Mono.defer(() -> {
+                    RequestBudget budget = router.newBudget(request.timeout());
+                    Mono<EmbeddingResponse> call = embeddingBatcher != null
+                            ? embeddingBatcher.submit(request)
+                            : router.routeEmbedding(router.providers(), request, budget);
+                    return retryPolicy.apply(call, EmbeddingResponse::provider, budget::remaining);
+                })
                 .onErrorResume(throwable -> {
                     log.error("Embedding request failed after all retries", throwable);
                     return Mono.error(handleRetryExhausted(throwable));
                 });
     }
 
-    public Mono<ChatCompletionResponse> chatCompletionStream(ChatCompletionRequest request) {
-        log.debug("Executing async streaming chat completion request");
+    // Each request gets the client's retry policy; results are emitted in input order
+    public Flux<BatchResult<ChatCompletionResponse>> batchChatCompletion(List<ChatCompletionRequest> requests) {
+        return batchChatCompletion(requests, BatchExecutor.DEFAULT_MAX_CONCURRENCY);
+    }
 
-        return router.routeChatCompletion(router.providers(), request)
-                .retryWhen(buildRetryPolicy())
-                .onErrorResume(throwable -> {
-                    log.error("Streaming chat completion failed after all retries", throwable);
-                    return Mono.error(handleRetryExhausted(throwable));
-                });
+    public Flux<BatchResult<ChatCompletionResponse>> batchChatCompletion(List<ChatCompletionRequest> requests,
+                                                                         int maxConcurrency) {
+        return BatchExecutor.inOrder(requests, maxConcurrency, this::chatCompletion);
     }
 
-    private Retry buildRetryPolicy() {
-        var retryConfig = config.retry();
-        if (retryConfig == null) {
-            return Retry.backoff(0, Duration.ofMillis(1));
+    public Flux<BatchResult<ChatCompletionResponse>> batchChatCompletionAsCompleted(List<ChatCompletionRequest> requests,
+                                                                                    int maxConcurrency) {
+        return BatchExecutor.asCompleted(requests, maxConcurrency, this::chatCompletion);
+    }
+
+    public Flux<BatchResult<TextCompletionResponse>> batchTextCompletion(List<TextCompletionRequest> requests) {
+        return batchTextCompletion(requests, BatchExecutor.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    public Flux<BatchResult<TextCompletionResponse>> batchTextCompletion(List<TextCompletionRequest> requests,
+                                                                         int maxConcurrency) {
+        return BatchExecutor.inOrder(requests, maxConcurrency, this::textCompletion);
+    }
+
+    public Flux<BatchResult<TextCompletionResponse>> batchTextCompletionAsCompleted(List<TextCompletionRequest> requests,
+                                                                                    int maxConcurrency) {
+        return BatchExecutor.asCompleted(requests, maxConcurrency, this::textCompletion);
+    }
+
+    private static EmbeddingBatcher createEmbeddingBatcher(ClientConfig config, Router router) {
+        EmbeddingBatchConfig batchConfig = config != null ? config.embeddingBatch() : null;
+        if (batchConfig == null || !Boolean.TRUE.equals(batchConfig.enabled())) {
+            return null;
         }
+        return new EmbeddingBatcher(batchConfig, request -> router.routeEmbedding(router.providers(), request));
+    }
 
-        return Retry.backoff(
-                        retryConfig.maxAttempts() - 1,
-                        retryConfig.initialDelay()
-                )
-                .maxBackoff(retryConfig.maxDelay())
-                .doBeforeRetry(retryBackoff -> {
-                    int attempt = (int) retryBackoff.totalRetries() + 1;
-                    Duration delay = retryPolicy.calculateDelay(attempt);
-                    log.info("Retry attempt {} with delay {}", attempt, delay);
+    public Flux<ChatCompletionChunk> chatCompletionStream(ChatCompletionRequest request) {
+        log.debug("Executing async streaming chat completion request");
+
+        return Flux.defer(() -> {
+                    RequestBudget budget = router.newBudget(request.timeout());
+                    return retryPolicy.applyStream(router.routeChatCompletionStream(router.providers(), request, budget),
+                            ChatCompletionChunk::provider, budget::remaining);
                 })
-                .filter(retryPolicy::isRetryable)
-                .jitter(retryConfig.jitter() ? 0.1 : 0.0);
+                .onErrorResume(throwable -> {
+                    log.error("Streaming chat completion failed after all retries", throwable);
+                    return Flux.error(handleRetryExhausted(throwable));
+                });
     }
 
     private LiteLLMException handleRetryExhausted(Throwable lastError) {
+        int maxAttempts = config.retry() != null ? config.retry().maxAttempts() : 1;
         return new RetryExhaustedException(
                 "Request failed after all retry attempts",
                 lastError,
-                config.retry().maxAttempts(),
-                config.retry().maxAttempts(),
+                maxAttempts,
+                maxAttempts,
                 lastError.getMessage()
         );
     }
 
-    private Provider createProvider(com.litellm.sdk.config.ProviderConfig config) {
+    private Provider createProvider(com.litellm.sdk.config.ProviderConfig providerConfig) {
         // Use a single generic provider for all configurations
-        return new LiteLLMProvider(config);
+        return new LiteLLMProvider(providerConfig, config.connectionPool());
     }
 }
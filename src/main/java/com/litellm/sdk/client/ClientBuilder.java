@@ -3,8 +3,10 @@ package com.litellm.sdk.client;
 import com.litellm.sdk.config.*;
 import com.litellm.sdk.provider.Provider;
 import com.litellm.sdk.provider.LiteLLMProvider;
+import com.litellm.sdk.retry.RetryPolicy;
 import com.litellm.sdk.routing.Router;
-import com.litellm.sdk.routing.strategy.RoundRobinStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategyFactory;
 import lombok.Builder;
 
 import java.time.Duration;
@@ -19,28 +21,47 @@ public class ClientBuilder {
     RoutingStrategyConfig routingStrategy = RoutingStrategyConfig.builder()
         .type(RoutingStrategyConfig.StrategyType.ROUND_ROBIN)
         .build();
+    // Response caching is opt-in through withCache
     @Builder.Default
-    CacheConfig cache = CacheConfig.builder().build();
+    CacheConfig cache = CacheConfig.builder().enabled(false).build();
     @Builder.Default
     RetryConfig retry = RetryConfig.builder().build();
     @Builder.Default
     Duration timeout = Duration.ofSeconds(30);
     @Builder.Default
     String environmentPrefix = "LITELLM";
+    @Builder.Default
+    ConnectionPoolConfig connectionPool = ConnectionPoolConfig.builder().build();
+    @Builder.Default
+    CircuitBreakerConfig circuitBreaker = CircuitBreakerConfig.builder().build();
+    @Builder.Default
+    HedgingConfig hedging = HedgingConfig.builder().build();
+    @Builder.Default
+    ConcurrencyLimitConfig concurrencyLimit = ConcurrencyLimitConfig.builder().build();
+    @Builder.Default
+    SemanticCacheConfig semanticCache = SemanticCacheConfig.builder().build();
+    @Builder.Default
+    EmbeddingBatchConfig embeddingBatch = EmbeddingBatchConfig.builder().build();
 
     public ClientBuilder() {
         this.providers = new ArrayList<>();
     }
 
-    public ClientBuilder(List<ProviderConfig> providers, RoutingStrategyConfig routingStrategy, CacheConfig cache, RetryConfig retry, Duration timeout, String environmentPrefix) {
+    public ClientBuilder(List<ProviderConfig> providers, RoutingStrategyConfig routingStrategy, CacheConfig cache, RetryConfig retry, Duration timeout, String environmentPrefix, ConnectionPoolConfig connectionPool, CircuitBreakerConfig circuitBreaker, HedgingConfig hedging, ConcurrencyLimitConfig concurrencyLimit, SemanticCacheConfig semanticCache, EmbeddingBatchConfig embeddingBatch) {
         this.providers = providers != null ? providers : new ArrayList<>();
         this.routingStrategy = routingStrategy != null ? routingStrategy : RoutingStrategyConfig.builder()
             .type(RoutingStrategyConfig.StrategyType.ROUND_ROBIN)
             .build();
-        this.cache = cache != null ? cache : CacheConfig.builder().build();
+        this.cache = cache != null ? cache : CacheConfig.builder().enabled(false).build();
         this.retry = retry != null ? retry : RetryConfig.builder().build();
         this.timeout = timeout != null ? timeout : Duration.ofSeconds(30);
         this.environmentPrefix = environmentPrefix != null ? environmentPrefix : "LITELLM";
+        this.connectionPool = connectionPool != null ? connectionPool : ConnectionPoolConfig.builder().build();
+        this.circuitBreaker = circuitBreaker != null ? circuitBreaker : CircuitBreakerConfig.builder().build();
+        this.hedging = hedging != null ? hedging : HedgingConfig.builder().build();
+        this.concurrencyLimit = concurrencyLimit != null ? concurrencyLimit : ConcurrencyLimitConfig.builder().build();
+        this.semanticCache = semanticCache != null ? semanticCache : SemanticCacheConfig.builder().build();
+        this.embeddingBatch = embeddingBatch != null ? embeddingBatch : EmbeddingBatchConfig.builder().build();
     }
 
     public ClientBuilder withProvider(ProviderConfig config) {
@@ -75,6 +96,36 @@ public class ClientBuilder {
         return this;
     }
 
+    public ClientBuilder withConnectionPool(ConnectionPoolConfig config) {
+        this.connectionPool = config;
+        return this;
+    }
+
+    public ClientBuilder withCircuitBreaker(CircuitBreakerConfig config) {
+        this.circuitBreaker = config;
+        return this;
+    }
+
+    public ClientBuilder withHedging(HedgingConfig config) {
+        this.hedging = config;
+        return this;
+    }
+
+    public ClientBuilder withConcurrencyLimit(ConcurrencyLimitConfig config) {
+        this.concurrencyLimit = config;
+        return this;
+    }
+
+    public ClientBuilder withSemanticCache(SemanticCacheConfig config) {
+        this.semanticCache = config;
+        return this;
+    }
+
+    public ClientBuilder withEmbeddingBatching(EmbeddingBatchConfig config) {
+        this.embeddingBatch = config;
+        return this;
+    }
+
     public LiteLLMClient build() {
         ClientConfig config = ClientConfig.builder()
             .providers(providers)
@@ -83,6 +134,12 @@ public class ClientBuilder {
             .retry(retry)
             .timeout(timeout)
             .environmentPrefix(environmentPrefix)
+            .connectionPool(connectionPool)
+            .circuitBreaker(circuitBreaker)
+            .hedging(hedging)
+            .concurrencyLimit(concurrencyLimit)
+            .semanticCache(semanticCache)
+            .embeddingBatch(embeddingBatch)
             .build();
 
         config.validate();
@@ -91,15 +148,15 @@ public class ClientBuilder {
             .map(this::createProvider)
             .toList();
 
-        RoundRobinStrategy strategy = new RoundRobinStrategy(routingStrategy);
+        RoutingStrategy strategy = RoutingStrategyFactory.create(routingStrategy);
         Router router = new Router(config, providerInstances, strategy);
 
-        return new LiteLLMClient(router);
+        return new LiteLLMClient(router, new RetryPolicy(config.retry()));
     }
 
     private Provider createProvider(ProviderConfig config) {
         // Use a single generic provider for all configurations
-        return new LiteLLMProvider(config);
+        return new LiteLLMProvider(config, connectionPool);
     }
 
     public static ClientBuilder builder() {
@@ -1,40 +1,106 @@
 package com.litellm.sdk.client;
 
+import com.litellm.sdk.batch.BatchExecutor;
+import com.litellm.sdk.batch.BatchResult;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.TextCompletionRequest;
 import com.litellm.sdk.model.request.EmbeddingRequest;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
+import com.litellm.sdk.retry.RetryPolicy;
+import com.litellm.sdk.routing.RequestBudget;
 import com.litellm.sdk.routing.Router;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Blocking client. Calls go through the same {@link RetryPolicy} as {@link AsyncLiteLLMClient}; when retries run
+ * out, the last attempt's error is thrown as is.
+ */
+public record LiteLLMClient(Router router, RetryPolicy retryPolicy) {
+    public LiteLLMClient(Router router) {
+        this(router, new RetryPolicy(router.config() != null ? router.config().retry() : null));
+    }
 
-public record LiteLLMClient(Router router) {
     public ChatCompletionResponse chatCompletion(ChatCompletionRequest request) {
-        return router.routeChatCompletion(router.providers(), request).block();
+        return chat(request).block();
     }
 
     public TextCompletionResponse textCompletion(TextCompletionRequest request) {
-        return router.routeTextCompletion(router.providers(), request).block();
+        return text(request).block();
     }
 
     public EmbeddingResponse createEmbedding(EmbeddingRequest request) {
-        return router.routeEmbedding(router.providers(), request).block();
+        return Mono.defer(() -> {
+            RequestBudget budget = router.newBudget(request.timeout());
+            return retryPolicy.apply(router.routeEmbedding(router.providers(), request, budget), EmbeddingResponse::provider,
+                    budget::remaining);
+        }).block();
     }
 
+    // Runs the batch concurrently and returns responses in input order; throws the first failure once all finish
     public List<ChatCompletionResponse> batchChatCompletion(List<ChatCompletionRequest> requests) {
-        return requests.stream()
-                .map(this::chatCompletion)
-                .toList();
+        return responses(batchChatCompletionResults(requests, BatchExecutor.DEFAULT_MAX_CONCURRENCY));
     }
 
     public List<TextCompletionResponse> batchTextCompletion(List<TextCompletionRequest> requests) {
-        return requests.stream()
-                .map(this::textCompletion)
-                .toList();
+        return responses(batchTextCompletionResults(requests, BatchExecutor.DEFAULT_MAX_CONCURRENCY));
+    }
+
+    public List<BatchResult<ChatCompletionResponse>> batchChatCompletionResults(List<ChatCompletionRequest> requests,
+                                                                                int maxConcurrency) {
+        return BatchExecutor.inOrder(requests, maxConcurrency, this::chat).collectList().block();
+    }
+
+    public List<BatchResult<TextCompletionResponse>> batchTextCompletionResults(List<TextCompletionRequest> requests,
+                                                                                int maxConcurrency) {
+        return BatchExecutor.inOrder(requests, maxConcurrency, this::text).collectList().block();
+    }
+
+    // Blocking iteration over results as they complete; close the stream to cancel requests not yet finished
+    public Stream<BatchResult<ChatCompletionResponse>> batchChatCompletionAsCompleted(List<ChatCompletionRequest> requests,
+                                                                                      int maxConcurrency) {
+        return BatchExecutor.asCompleted(requests, maxConcurrency, this::chat).toStream();
+    }
+
+    public Stream<BatchResult<TextCompletionResponse>> batchTextCompletionAsCompleted(List<TextCompletionRequest> requests,
+                                                                                      int maxConcurrency) {
+        return BatchExecutor.asCompleted(requests, maxConcurrency, this::text).toStream();
     }
 
     public void close() {
+        if (router.cache() != null) {
+            router.cache().close();
+        }
+    }
+
+    // One budget per call, so retries share its deadline and move on from providers that already failed it
+    private Mono<ChatCompletionResponse> chat(ChatCompletionRequest request) {
+        return Mono.defer(() -> {
+            RequestBudget budget = router.newBudget(request.timeout());
+            return retryPolicy.apply(router.routeChatCompletion(router.providers(), request, budget),
+                    ChatCompletionResponse::provider, budget::remaining);
+        });
+    }
+
+    private Mono<TextCompletionResponse> text(TextCompletionRequest request) {
+        return Mono.defer(() -> {
+            RequestBudget budget = router.newBudget(request.timeout());
+            return retryPolicy.apply(router.routeTextCompletion(router.providers(), request, budget),
+                    TextCompletionResponse::provider, budget::remaining);
+        });
+    }
+
+    private static <T> List<T> responses(List<BatchResult<T>> results) {
+        for (BatchResult<T> result : results) {
+            if (!result.isSuccess()) {
+                throw Exceptions.propagate(result.error());
+            }
+        }
+        return results.stream().map(BatchResult::response).toList();
     }
 }
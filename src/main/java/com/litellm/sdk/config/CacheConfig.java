@@ -3,20 +3,48 @@ package com.litellm.sdk.config;
 import lombok.Builder;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Builder(toBuilder = true)
-public record CacheConfig(Boolean enabled, Duration ttl, Integer maxSize, TimeUnit timeUnit) {
+public record CacheConfig(Boolean enabled, Duration ttl, Integer maxSize, TimeUnit timeUnit, Boolean verifyKeys,
+                          Long maxWeightBytes, Map<String, Duration> modelTtls, String persistentPath,
+                          Long persistentMaxBytes) {
     public CacheConfig(
             Boolean enabled,
             Duration ttl,
             Integer maxSize,
-            TimeUnit timeUnit
+            TimeUnit timeUnit,
+            Boolean verifyKeys,
+            Long maxWeightBytes,
+            Map<String, Duration> modelTtls,
+            String persistentPath,
+            Long persistentMaxBytes
     ) {
         this.enabled = enabled != null ? enabled : true;
         this.ttl = ttl != null ? ttl : Duration.ofMinutes(5);
         this.maxSize = maxSize != null ? maxSize : 1000;
         this.timeUnit = timeUnit != null ? timeUnit : TimeUnit.SECONDS;
+        // Keeps each entry's request to rule out hash collisions on lookup, at the cost of holding the prompt
+        this.verifyKeys = verifyKeys != null ? verifyKeys : false;
+        // When set, the cache is bounded by estimated retained bytes instead of maxSize entries
+        this.maxWeightBytes = maxWeightBytes;
+        this.modelTtls = modelTtls != null ? Map.copyOf(modelTtls) : Map.of();
+        // When set, responses are also kept in a memory-mapped file at this path that survives restarts
+        this.persistentPath = persistentPath;
+        this.persistentMaxBytes = persistentMaxBytes != null ? persistentMaxBytes : 256L * 1024 * 1024;
+
+        if (maxWeightBytes != null && maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("Max weight bytes must be positive");
+        }
+        if (this.persistentMaxBytes < 64 * 1024 || this.persistentMaxBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Persistent cache size must be between 64 KiB and 2 GiB");
+        }
+        this.modelTtls.forEach((model, modelTtl) -> {
+            if (modelTtl.isNegative() || modelTtl.isZero()) {
+                throw new IllegalArgumentException("TTL for model " + model + " must be positive");
+            }
+        });
     }
 
     public Duration getTtlInSeconds() {
@@ -0,0 +1,45 @@
+package com.litellm.sdk.config;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+@Builder(toBuilder = true)
+public record CircuitBreakerConfig(Boolean enabled, Double failureRateThreshold, Double slowCallRateThreshold,
+                                   Duration slowCallDuration, Integer slidingWindowSize, Integer minimumNumberOfCalls,
+                                   Duration waitDurationInOpenState, Integer permittedCallsInHalfOpenState) {
+    public CircuitBreakerConfig(
+            Boolean enabled,
+            Double failureRateThreshold,
+            Double slowCallRateThreshold,
+            Duration slowCallDuration,
+            Integer slidingWindowSize,
+            Integer minimumNumberOfCalls,
+            Duration waitDurationInOpenState,
+            Integer permittedCallsInHalfOpenState
+    ) {
+        this.enabled = enabled != null ? enabled : true;
+        this.failureRateThreshold = failureRateThreshold != null ? failureRateThreshold : 0.5;
+        // 1.0 only opens when every call in the window was slow
+        this.slowCallRateThreshold = slowCallRateThreshold != null ? slowCallRateThreshold : 1.0;
+        this.slowCallDuration = slowCallDuration != null ? slowCallDuration : Duration.ofSeconds(60);
+        this.slidingWindowSize = slidingWindowSize != null ? slidingWindowSize : 100;
+        this.minimumNumberOfCalls = minimumNumberOfCalls != null ? minimumNumberOfCalls : Math.min(20, this.slidingWindowSize);
+        this.waitDurationInOpenState = waitDurationInOpenState != null ? waitDurationInOpenState : Duration.ofSeconds(30);
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState != null ? permittedCallsInHalfOpenState : 5;
+
+        if (this.failureRateThreshold <= 0 || this.failureRateThreshold > 1
+                || this.slowCallRateThreshold <= 0 || this.slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("Circuit breaker rate thresholds must be in (0, 1]");
+        }
+        if (this.slidingWindowSize < 1 || this.minimumNumberOfCalls < 1 || this.minimumNumberOfCalls > this.slidingWindowSize) {
+            throw new IllegalArgumentException("Minimum number of calls must be between 1 and the sliding window size");
+        }
+        if (this.permittedCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("At least one call must be permitted in half-open state");
+        }
+        if (this.waitDurationInOpenState.isNegative() || this.slowCallDuration.isNegative()) {
+            throw new IllegalArgumentException("Circuit breaker durations must not be negative");
+        }
+    }
+}
@@ -9,7 +9,10 @@ import java.util.List;
 @With
 @Builder(toBuilder = true)
 public record ClientConfig(List<ProviderConfig> providers, RoutingStrategyConfig routingStrategy, CacheConfig cache,
-                           RetryConfig retry, Duration timeout, String environmentPrefix) {
+                           RetryConfig retry, Duration timeout, String environmentPrefix,
+                           ConnectionPoolConfig connectionPool, CircuitBreakerConfig circuitBreaker,
+                           HedgingConfig hedging, ConcurrencyLimitConfig concurrencyLimit,
+                           SemanticCacheConfig semanticCache, EmbeddingBatchConfig embeddingBatch) {
     public void validate() {
         if (providers == null || providers.isEmpty()) {
             throw new IllegalArgumentException("At least one provider must be configured");
@@ -0,0 +1,43 @@
+package com.litellm.sdk.config;
+
+import lombok.Builder;
+
+@Builder(toBuilder = true)
+public record ConcurrencyLimitConfig(Boolean enabled, Integer initialLimit, Integer minLimit, Integer maxLimit,
+                                     Double backoffRatio, Double latencyTolerance, Integer baselineWindow) {
+    public ConcurrencyLimitConfig(
+            Boolean enabled,
+            Integer initialLimit,
+            Integer minLimit,
+            Integer maxLimit,
+            Double backoffRatio,
+            Double latencyTolerance,
+            Integer baselineWindow
+    ) {
+        this.enabled = enabled != null ? enabled : false;
+        this.initialLimit = initialLimit != null ? initialLimit : 20;
+        this.minLimit = minLimit != null ? minLimit : 1;
+        this.maxLimit = maxLimit != null ? maxLimit : 200;
+        this.backoffRatio = backoffRatio != null ? backoffRatio : 0.9;
+        // Recent latency above tolerance x the long-term average counts as queueing and shrinks the limit
+        this.latencyTolerance = latencyTolerance != null ? latencyTolerance : 2.0;
+        // Calls the long-term latency average spans; longer follows drift more slowly
+        this.baselineWindow = baselineWindow != null ? baselineWindow : 500;
+
+        if (this.minLimit < 1 || this.maxLimit < this.minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (this.initialLimit < this.minLimit || this.initialLimit > this.maxLimit) {
+            throw new IllegalArgumentException("Initial concurrency limit must be between minLimit and maxLimit");
+        }
+        if (this.backoffRatio <= 0 || this.backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be in (0, 1)");
+        }
+        if (this.latencyTolerance < 1) {
+            throw new IllegalArgumentException("Latency tolerance must be at least 1");
+        }
+        if (this.baselineWindow < 1) {
+            throw new IllegalArgumentException("Baseline window must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.litellm.sdk.config;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+@Builder(toBuilder = true)
+public record ConnectionPoolConfig(Integer maxConnections, Integer maxPendingAcquires, Duration pendingAcquireTimeout,
+                                   Duration maxIdleTime, Duration maxLifeTime, Duration evictionInterval,
+                                   Duration connectTimeout, Boolean preferHttp2, Boolean keepAlive) {
+    public ConnectionPoolConfig(
+            Integer maxConnections,
+            Integer maxPendingAcquires,
+            Duration pendingAcquireTimeout,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration evictionInterval,
+            Duration connectTimeout,
+            Boolean preferHttp2,
+            Boolean keepAlive
+    ) {
+        this.maxConnections = maxConnections != null ? maxConnections : 500;
+        this.maxPendingAcquires = maxPendingAcquires != null ? maxPendingAcquires : this.maxConnections * 2;
+        this.pendingAcquireTimeout = pendingAcquireTimeout != null ? pendingAcquireTimeout : Duration.ofSeconds(45);
+        this.maxIdleTime = maxIdleTime != null ? maxIdleTime : Duration.ofSeconds(30);
+        this.maxLifeTime = maxLifeTime != null ? maxLifeTime : Duration.ofMinutes(10);
+        this.evictionInterval = evictionInterval != null ? evictionInterval : Duration.ofSeconds(30);
+        this.connectTimeout = connectTimeout != null ? connectTimeout : Duration.ofSeconds(30);
+        this.preferHttp2 = preferHttp2 != null ? preferHttp2 : true;
+        this.keepAlive = keepAlive != null ? keepAlive : true;
+
+        if (this.maxConnections < 1) {
+            throw new IllegalArgumentException("Max connections must be at least 1");
+        }
+        if (this.connectTimeout.isNegative() || this.connectTimeout.isZero()) {
+            throw new IllegalArgumentException("Connect timeout must be positive");
+        }
+    }
+}
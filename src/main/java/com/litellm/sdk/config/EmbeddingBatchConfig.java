@@ -0,0 +1,32 @@
+package com.litellm.sdk.config;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+@Builder(toBuilder = true)
+public record EmbeddingBatchConfig(Boolean enabled, Integer maxBatchSize, Duration maxWait, Integer maxBatchTokens) {
+    public EmbeddingBatchConfig(
+            Boolean enabled,
+            Integer maxBatchSize,
+            Duration maxWait,
+            Integer maxBatchTokens
+    ) {
+        this.enabled = enabled != null ? enabled : false;
+        this.maxBatchSize = maxBatchSize != null ? maxBatchSize : 128;
+        // How long the first request of a batch may wait for others to join it
+        this.maxWait = maxWait != null ? maxWait : Duration.ofMillis(5);
+        // Estimated input tokens per upstream call; keeps a batch under the model's per-request cap
+        this.maxBatchTokens = maxBatchTokens != null ? maxBatchTokens : 100_000;
+
+        if (this.maxBatchSize < 1 || this.maxBatchSize > 2048) {
+            throw new IllegalArgumentException("Max batch size must be between 1 and 2048");
+        }
+        if (this.maxWait.isNegative()) {
+            throw new IllegalArgumentException("Max wait must not be negative");
+        }
+        if (this.maxBatchTokens < 1) {
+            throw new IllegalArgumentException("Max batch tokens must be positive");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.litellm.sdk.config;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+@Builder(toBuilder = true)
+public record HedgingConfig(Boolean enabled, Double latencyPercentile, Duration minDelay, Duration fallbackDelay,
+                            Double budgetPercent, Integer maxBurst) {
+    public HedgingConfig(
+            Boolean enabled,
+            Double latencyPercentile,
+            Duration minDelay,
+            Duration fallbackDelay,
+            Double budgetPercent,
+            Integer maxBurst
+    ) {
+        this.enabled = enabled != null ? enabled : false;
+        this.latencyPercentile = latencyPercentile != null ? latencyPercentile : 90.0;
+        this.minDelay = minDelay != null ? minDelay : Duration.ofMillis(10);
+        // Used until the primary provider has latency samples to derive a percentile from
+        this.fallbackDelay = fallbackDelay != null ? fallbackDelay : Duration.ofSeconds(1);
+        this.budgetPercent = budgetPercent != null ? budgetPercent : 10.0;
+        this.maxBurst = maxBurst != null ? maxBurst : 10;
+
+        if (this.latencyPercentile <= 0 || this.latencyPercentile > 100) {
+            throw new IllegalArgumentException("Hedging latency percentile must be in (0, 100]");
+        }
+        if (this.budgetPercent < 0 || this.budgetPercent > 100) {
+            throw new IllegalArgumentException("Hedging budget percent must be between 0 and 100");
+        }
+        if (this.maxBurst < 1) {
+            throw new IllegalArgumentException("Hedging max burst must be at least 1");
+        }
+        if (this.minDelay.isNegative() || this.fallbackDelay.isNegative()) {
+            throw new IllegalArgumentException("Hedging delays must not be negative");
+        }
+    }
+}
@@ -6,16 +6,32 @@ import java.time.Duration;
 
 @Builder(toBuilder = true)
 public record RateLimitConfig(Integer requestsPerMinute, Integer requestsPerSecond, Integer tokensPerMinute,
-                              Duration cooldownPeriod) {
+                              Duration cooldownPeriod, Duration maxWait) {
     public RateLimitConfig(
             Integer requestsPerMinute,
             Integer requestsPerSecond,
             Integer tokensPerMinute,
-            Duration cooldownPeriod
+            Duration cooldownPeriod,
+            Duration maxWait
     ) {
         this.requestsPerMinute = requestsPerMinute;
         this.requestsPerSecond = requestsPerSecond;
         this.tokensPerMinute = tokensPerMinute;
         this.cooldownPeriod = cooldownPeriod != null ? cooldownPeriod : Duration.ofSeconds(60);
+        // Zero routes around a saturated provider immediately instead of waiting for capacity
+        this.maxWait = maxWait != null ? maxWait : Duration.ZERO;
+
+        requirePositive(requestsPerMinute, "Requests per minute must be positive");
+        requirePositive(requestsPerSecond, "Requests per second must be positive");
+        requirePositive(tokensPerMinute, "Tokens per minute must be positive");
+        if (this.cooldownPeriod.isNegative() || this.maxWait.isNegative()) {
+            throw new IllegalArgumentException("Cooldown period and max wait must not be negative");
+        }
+    }
+
+    private static void requirePositive(Integer value, String message) {
+        if (value != null && value <= 0) {
+            throw new IllegalArgumentException(message);
+        }
     }
 }
@@ -7,7 +7,8 @@ import java.time.Duration;
 @Builder(toBuilder = true)
 public record RetryConfig(Integer maxAttempts, Duration initialDelay, Duration maxDelay,
                           BackoffStrategy backoffStrategy, Double exponentialBase, Boolean jitter,
-                          Integer maxBackoffFactor) {
+                          Integer maxBackoffFactor, Double retryBudgetRatio, Integer retryBudgetMaxTokens,
+                          Double retryBudgetMinPerSecond) {
     public RetryConfig(
             Integer maxAttempts,
             Duration initialDelay,
@@ -15,7 +16,10 @@ public record RetryConfig(Integer maxAttempts, Duration initialDelay, Duration m
             BackoffStrategy backoffStrategy,
             Double exponentialBase,
             Boolean jitter,
-            Integer maxBackoffFactor
+            Integer maxBackoffFactor,
+            Double retryBudgetRatio,
+            Integer retryBudgetMaxTokens,
+            Double retryBudgetMinPerSecond
     ) {
         this.maxAttempts = maxAttempts != null ? maxAttempts : 3;
         this.initialDelay = initialDelay != null ? initialDelay : Duration.ofSeconds(1);
@@ -24,6 +28,10 @@ public record RetryConfig(Integer maxAttempts, Duration initialDelay, Duration m
         this.exponentialBase = exponentialBase != null ? exponentialBase : 2.0;
         this.jitter = jitter != null ? jitter : true;
         this.maxBackoffFactor = maxBackoffFactor != null ? maxBackoffFactor : 10;
+        // Retries may add at most this fraction of each provider's request volume, plus a small steady trickle
+        this.retryBudgetRatio = retryBudgetRatio != null ? retryBudgetRatio : 0.2;
+        this.retryBudgetMaxTokens = retryBudgetMaxTokens != null ? retryBudgetMaxTokens : 10;
+        this.retryBudgetMinPerSecond = retryBudgetMinPerSecond != null ? retryBudgetMinPerSecond : 1.0;
 
         if (this.maxAttempts < 1) {
             throw new IllegalArgumentException("Max attempts must be at least 1");
@@ -34,6 +42,18 @@ public record RetryConfig(Integer maxAttempts, Duration initialDelay, Duration m
         if (this.maxDelay.compareTo(this.initialDelay) < 0) {
             throw new IllegalArgumentException("Max delay must be greater than or equal to initial delay");
         }
+        if (this.maxBackoffFactor < 1) {
+            throw new IllegalArgumentException("Max backoff factor must be at least 1");
+        }
+        if (this.retryBudgetRatio < 0 || this.retryBudgetRatio > 1) {
+            throw new IllegalArgumentException("Retry budget ratio must be between 0 and 1");
+        }
+        if (this.retryBudgetMaxTokens < 0) {
+            throw new IllegalArgumentException("Retry budget max tokens must not be negative");
+        }
+        if (this.retryBudgetMinPerSecond < 0) {
+            throw new IllegalArgumentException("Retry budget min per second must not be negative");
+        }
     }
 
     public enum BackoffStrategy {
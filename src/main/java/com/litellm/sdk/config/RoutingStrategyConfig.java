@@ -7,12 +7,13 @@ import java.util.Map;
 
 @Builder(toBuilder = true)
 public record RoutingStrategyConfig(StrategyType type, Map<String, Object> parameters, StrategyType fallbackStrategy,
-                                    Duration healthCheckInterval) {
+                                    Duration healthCheckInterval, Duration metricsPublishInterval) {
     public RoutingStrategyConfig(
             StrategyType type,
             Map<String, Object> parameters,
             StrategyType fallbackStrategy,
-            Duration healthCheckInterval
+            Duration healthCheckInterval,
+            Duration metricsPublishInterval
     ) {
         if (type == null) {
             throw new IllegalArgumentException("Routing strategy type is required");
@@ -21,6 +22,11 @@ public record RoutingStrategyConfig(StrategyType type, Map<String, Object> param
         this.parameters = parameters != null ? Map.copyOf(parameters) : Map.of();
         this.fallbackStrategy = fallbackStrategy;
         this.healthCheckInterval = healthCheckInterval != null ? healthCheckInterval : Duration.ofSeconds(30);
+        // Zero publishes provider metrics to the strategy after every completed call
+        this.metricsPublishInterval = metricsPublishInterval != null ? metricsPublishInterval : Duration.ZERO;
+        if (this.metricsPublishInterval.isNegative()) {
+            throw new IllegalArgumentException("Metrics publish interval must not be negative");
+        }
     }
 
     public enum StrategyType {
@@ -28,6 +34,7 @@ public record RoutingStrategyConfig(StrategyType type, Map<String, Object> param
         WEIGHTED,
         LATENCY_BASED,
         COST_OPTIMIZED,
-        FAILOVER
+        FAILOVER,
+        LEAST_LOADED
     }
 }
@@ -0,0 +1,34 @@
+package com.litellm.sdk.config;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+@Builder(toBuilder = true)
+public record SemanticCacheConfig(Boolean enabled, String embeddingModel, Double similarityThreshold,
+                                  Integer maxEntriesPerModel, Duration ttl) {
+    public SemanticCacheConfig(
+            Boolean enabled,
+            String embeddingModel,
+            Double similarityThreshold,
+            Integer maxEntriesPerModel,
+            Duration ttl
+    ) {
+        this.enabled = enabled != null ? enabled : false;
+        this.embeddingModel = embeddingModel != null ? embeddingModel : "text-embedding-3-small";
+        // Cosine similarity a cached prompt needs to answer a new one; too low serves answers to different questions
+        this.similarityThreshold = similarityThreshold != null ? similarityThreshold : 0.95;
+        this.maxEntriesPerModel = maxEntriesPerModel != null ? maxEntriesPerModel : 1000;
+        this.ttl = ttl != null ? ttl : Duration.ofHours(1);
+
+        if (this.similarityThreshold <= 0 || this.similarityThreshold > 1) {
+            throw new IllegalArgumentException("Similarity threshold must be in (0, 1]");
+        }
+        if (this.maxEntriesPerModel < 1) {
+            throw new IllegalArgumentException("Max entries per model must be at least 1");
+        }
+        if (this.ttl.isNegative() || this.ttl.isZero()) {
+            throw new IllegalArgumentException("Semantic cache TTL must be positive");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.litellm.sdk.error;
+
+import lombok.EqualsAndHashCode;
+
+@EqualsAndHashCode(callSuper = true)
+public class CircuitBreakerOpenException extends ProviderException {
+    public CircuitBreakerOpenException(String providerId) {
+        super("Circuit breaker is open for provider: " + providerId, providerId, 503, "CIRCUIT_OPEN");
+    }
+}
@@ -32,6 +32,6 @@ public class ProviderException extends LiteLLMException {
     }
 
     public boolean isRetryable() {
-        return httpStatusCode == 429 || httpStatusCode >= 500;
+        return httpStatusCode == 408 || httpStatusCode == 429 || httpStatusCode >= 500;
     }
 }
@@ -0,0 +1,13 @@
+package com.litellm.sdk.error;
+
+import lombok.EqualsAndHashCode;
+
+import java.time.Duration;
+
+// Raised on the client side when a provider's rate or concurrency limit has no capacity left; nothing was sent upstream
+@EqualsAndHashCode(callSuper = true)
+public class ProviderSaturatedException extends RateLimitException {
+    public ProviderSaturatedException(String providerId, Duration retryAfter) {
+        super("Client-side limit reached for provider: " + providerId, providerId, retryAfter);
+    }
+}
@@ -6,6 +6,9 @@ import java.time.Duration;
 
 @EqualsAndHashCode(callSuper = true)
 public class RateLimitException extends ProviderException {
+    public static final int REQUEST_LIMIT = 0;
+    public static final int TOKEN_LIMIT = 1;
+
     public final String providerId;
     public final Duration retryAfter;
     public final Integer rateLimitType;
@@ -30,4 +33,11 @@ public class RateLimitException extends ProviderException {
         this.retryAfter = retryAfter;
         this.rateLimitType = null;
     }
+
+    public RateLimitException(String message, Throwable cause, String providerId, Duration retryAfter, Integer rateLimitType) {
+        super(message, cause, providerId, 429, "RATE_LIMIT_EXCEEDED");
+        this.providerId = providerId;
+        this.retryAfter = retryAfter;
+        this.rateLimitType = rateLimitType;
+    }
 }
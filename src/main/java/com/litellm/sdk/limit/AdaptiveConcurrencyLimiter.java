@@ -0,0 +1,101 @@
+package com.litellm.sdk.limit;
+
+import com.litellm.sdk.config.ConcurrencyLimitConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * AIMD limit on in-flight calls to one provider, in the spirit of Netflix's concurrency-limits.
+ * The limit grows by one per successful call that was using at least half of it, as long as recent latency stays
+ * within {@code latencyTolerance} of the long-term baseline; latency inflation, rate limits and timeouts shrink it
+ * by {@code backoffRatio}. Both are moving averages, recent over about the last ten calls and the baseline over
+ * {@code baselineWindow}, because LLM latency scales with output length: a single short completion must not set a
+ * bar that ordinary long ones then look like queueing against.
+ */
+public final class AdaptiveConcurrencyLimiter {
+    public enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    private static final double RECENT_ALPHA = 0.2;
+
+    private final ConcurrencyLimitConfig config;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final double baselineAlpha;
+    private final AtomicLong recentBits = new AtomicLong();
+    private final AtomicLong baselineBits = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig config) {
+        this.config = config;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(config.initialLimit()));
+        this.baselineAlpha = 2.0 / (config.baselineWindow() + 1);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Every successful tryAcquire must be followed by exactly one release
+    public void release(long latencyNanos, Outcome outcome) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        switch (outcome) {
+            case DROPPED -> decrease();
+            case SUCCESS -> {
+                // Until a window has filled, both averages are plain means of what has been seen
+                long count = samples.incrementAndGet();
+                double recent = smooth(recentBits, latencyNanos, Math.max(RECENT_ALPHA, 1.0 / count));
+                double baseline = smooth(baselineBits, latencyNanos, Math.max(baselineAlpha, 1.0 / count));
+                if (recent > baseline * config.latencyTolerance()) {
+                    decrease();
+                } else if (inFlightAtCompletion * 2 >= getLimit()) {
+                    // Only grow when the limit is actually what bounds throughput
+                    increase();
+                }
+            }
+            case IGNORED -> {
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private static double smooth(AtomicLong average, long sample, double alpha) {
+        return Double.longBitsToDouble(average.updateAndGet(bits -> {
+            double current = Double.longBitsToDouble(bits);
+            return Double.doubleToRawLongBits(current + alpha * (sample - current));
+        }));
+    }
+
+    private void increase() {
+        update(limit -> Math.min(config.maxLimit(), limit + 1));
+    }
+
+    private void decrease() {
+        update(limit -> Math.max(config.minLimit(), limit * config.backoffRatio()));
+    }
+
+    private void update(DoubleUnaryOperator function) {
+        limitBits.getAndUpdate(bits ->
+            Double.doubleToRawLongBits(function.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+}
@@ -0,0 +1,78 @@
+package com.litellm.sdk.limit;
+
+import com.litellm.sdk.config.ConcurrencyLimitConfig;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.ProviderSaturatedException;
+import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.limit.AdaptiveConcurrencyLimiter.Outcome;
+import com.litellm.sdk.provider.Provider;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * One {@link AdaptiveConcurrencyLimiter} per provider, all sharing the client's {@link ConcurrencyLimitConfig}.
+ * When the config is disabled every acquisition succeeds without touching any state.
+ */
+public final class ConcurrencyLimiterRegistry {
+    private final ConcurrencyLimitConfig config;
+    private final ConcurrentHashMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitConfig config) {
+        this.config = config != null ? config : ConcurrencyLimitConfig.builder().build();
+    }
+
+    public boolean tryAcquire(Provider provider) {
+        return !config.enabled() || limiterFor(provider).tryAcquire();
+    }
+
+    public void onSuccess(Provider provider, long latencyNanos) {
+        release(provider, latencyNanos, Outcome.SUCCESS);
+    }
+
+    public void onError(Provider provider, long latencyNanos, Throwable error) {
+        release(provider, latencyNanos, outcomeOf(error));
+    }
+
+    // For slots given back without an outcome: a losing hedge, the caller going away, or an admission backed out.
+    // A call that outlives the request deadline fails with a timeout through onError instead and backs the limit off
+    public void onCancel(Provider provider) {
+        release(provider, 0, Outcome.IGNORED);
+    }
+
+    public Optional<AdaptiveConcurrencyLimiter> getLimiter(String providerName) {
+        return Optional.ofNullable(limiters.get(providerName));
+    }
+
+    private void release(Provider provider, long latencyNanos, Outcome outcome) {
+        if (config.enabled()) {
+            limiterFor(provider).release(latencyNanos, outcome);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiterFor(Provider provider) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(provider.getName());
+        return limiter != null ? limiter
+            : limiters.computeIfAbsent(provider.getName(), name -> new AdaptiveConcurrencyLimiter(config));
+    }
+
+    // Overload signals shrink the limit; client errors and unexpected failures say nothing about capacity
+    static Outcome outcomeOf(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ProviderSaturatedException) {
+                return Outcome.IGNORED;
+            }
+            if (current instanceof RateLimitException || current instanceof TimeoutException) {
+                return Outcome.DROPPED;
+            }
+            if (current instanceof ProviderException providerException) {
+                return providerException.isRetryable() ? Outcome.DROPPED : Outcome.IGNORED;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return Outcome.IGNORED;
+    }
+}
@@ -0,0 +1,124 @@
+package com.litellm.sdk.limit;
+
+import com.litellm.sdk.config.RateLimitConfig;
+import com.litellm.sdk.model.common.Usage;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Enforces one provider's {@link RateLimitConfig} on the client side with a bucket per configured limit.
+ * Token usage is charged up front from an estimate and reconciled once the response reports real usage.
+ * An upstream 429 pauses the provider for its Retry-After, or the configured cooldown when none was sent.
+ */
+public final class ProviderRateLimiter {
+    private final RateLimitConfig config;
+    private final LongSupplier clock;
+    private final TokenBucket requestsPerSecond;
+    private final TokenBucket requestsPerMinute;
+    private final TokenBucket tokensPerMinute;
+    private final AtomicLong cooldownUntil;
+
+    public ProviderRateLimiter(RateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    public ProviderRateLimiter(RateLimitConfig config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+        long now = clock.getAsLong();
+        this.requestsPerSecond = bucket(config.requestsPerSecond(), TimeUnit.SECONDS.toNanos(1), now);
+        this.requestsPerMinute = bucket(config.requestsPerMinute(), TimeUnit.MINUTES.toNanos(1), now);
+        this.tokensPerMinute = bucket(config.tokensPerMinute(), TimeUnit.MINUTES.toNanos(1), now);
+        this.cooldownUntil = new AtomicLong(now);
+    }
+
+    /**
+     * Reserves one request and the estimated tokens. Returns 0 on success; otherwise nothing is reserved and the
+     * result is the nanoseconds until the reservation could succeed.
+     */
+    public long tryAcquire(int estimatedTokens) {
+        long now = clock.getAsLong();
+        long cooldown = cooldownUntil.get() - now;
+        if (cooldown > 0) {
+            return cooldown;
+        }
+
+        long wait = acquire(requestsPerSecond, 1, now);
+        if (wait > 0) {
+            return wait;
+        }
+        wait = acquire(requestsPerMinute, 1, now);
+        if (wait > 0) {
+            refund(requestsPerSecond, 1);
+            return wait;
+        }
+        wait = acquire(tokensPerMinute, estimatedTokens, now);
+        if (wait > 0) {
+            refund(requestsPerSecond, 1);
+            refund(requestsPerMinute, 1);
+            return wait;
+        }
+        return 0;
+    }
+
+    /**
+     * Settles the token charge against what the provider reported; a null usage keeps the charge. An estimate
+     * above the token limit was only charged the limit, so that is what gets settled.
+     */
+    public void reconcile(int estimatedTokens, Usage usage) {
+        if (tokensPerMinute == null || usage == null || usage.getTotalTokens() == null) {
+            return;
+        }
+        long charged = estimatedTokens > 0 ? tokensPerMinute.charged(estimatedTokens) : 0;
+        long delta = usage.getTotalTokens() - charged;
+        if (delta > 0) {
+            tokensPerMinute.charge(delta, clock.getAsLong());
+        } else if (delta < 0) {
+            tokensPerMinute.refund(-delta);
+        }
+    }
+
+    // For a call that never reached the provider: what it was charged is returned
+    public void release(int estimatedTokens) {
+        refund(tokensPerMinute, estimatedTokens);
+    }
+
+    public void onRateLimited(Duration retryAfter) {
+        Duration pause = retryAfter != null ? retryAfter : config.cooldownPeriod();
+        long until = clock.getAsLong() + pause.toNanos();
+        cooldownUntil.accumulateAndGet(until, Math::max);
+    }
+
+    public boolean isSaturated() {
+        long now = clock.getAsLong();
+        return cooldownUntil.get() - now > 0
+            || requestsPerSecond != null && requestsPerSecond.available(now) == 0
+            || requestsPerMinute != null && requestsPerMinute.available(now) == 0
+            || tokensPerMinute != null && tokensPerMinute.available(now) == 0;
+    }
+
+    public long getAvailableTokens() {
+        return tokensPerMinute != null ? tokensPerMinute.available(clock.getAsLong()) : Long.MAX_VALUE;
+    }
+
+    public RateLimitConfig getConfig() {
+        return config;
+    }
+
+    private static long acquire(TokenBucket bucket, long tokens, long now) {
+        return bucket != null && tokens > 0 ? bucket.tryAcquire(tokens, now) : 0;
+    }
+
+    private static void refund(TokenBucket bucket, long tokens) {
+        if (bucket != null && tokens > 0) {
+            bucket.refund(tokens);
+        }
+    }
+
+    private static TokenBucket bucket(Integer limit, long periodNanos, long now) {
+        return limit != null ? new TokenBucket(limit, periodNanos, now) : null;
+    }
+}
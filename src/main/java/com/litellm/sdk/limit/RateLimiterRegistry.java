@@ -0,0 +1,85 @@
+package com.litellm.sdk.limit;
+
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.error.ProviderSaturatedException;
+import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.provider.Provider;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link ProviderRateLimiter} per provider that has a {@link ProviderConfig#rateLimit()}; providers without
+ * one are never limited and cost a single map lookup.
+ */
+public final class RateLimiterRegistry {
+    private final ConcurrentHashMap<String, Optional<ProviderRateLimiter>> limiters = new ConcurrentHashMap<>();
+
+    // 0 when the provider may be called now, otherwise nanoseconds until it could be
+    public long tryAcquire(Provider provider, int estimatedTokens) {
+        Optional<ProviderRateLimiter> limiter = limiterFor(provider);
+        return limiter.isPresent() ? limiter.get().tryAcquire(estimatedTokens) : 0;
+    }
+
+    public void onSuccess(Provider provider, int estimatedTokens, Usage usage) {
+        limiterFor(provider).ifPresent(limiter -> limiter.reconcile(estimatedTokens, usage));
+    }
+
+    public void onError(Provider provider, int estimatedTokens, Throwable error) {
+        limiterFor(provider).ifPresent(limiter -> {
+            if (neverSent(error)) {
+                limiter.release(estimatedTokens);
+            }
+            RateLimitException upstream = upstreamRateLimit(error);
+            if (upstream != null) {
+                limiter.onRateLimited(upstream.retryAfter);
+            }
+        });
+    }
+
+    public Duration maxWait(String providerName) {
+        Optional<ProviderRateLimiter> limiter = limiters.get(providerName);
+        return limiter != null && limiter.isPresent() ? limiter.get().getConfig().maxWait() : Duration.ZERO;
+    }
+
+    public Optional<ProviderRateLimiter> limiterFor(Provider provider) {
+        Optional<ProviderRateLimiter> limiter = limiters.get(provider.getName());
+        return limiter != null ? limiter : limiters.computeIfAbsent(provider.getName(), name -> {
+            ProviderConfig config = provider.getConfig();
+            return config != null && config.rateLimit() != null
+                ? Optional.of(new ProviderRateLimiter(config.rateLimit()))
+                : Optional.empty();
+        });
+    }
+
+    // Only a failed connection leaves the tokens unspent; timeouts, 5xx and upstream 429s may have been counted there
+    private static boolean neverSent(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ConnectException || current instanceof NoRouteToHostException
+                    || current instanceof UnknownHostException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static RateLimitException upstreamRateLimit(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof RateLimitException rateLimit && !(current instanceof ProviderSaturatedException)) {
+                return rateLimit;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+}
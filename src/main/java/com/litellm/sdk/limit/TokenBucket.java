@@ -0,0 +1,69 @@
+package com.litellm.sdk.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one "theoretical arrival time", advanced by a
+ * fixed interval per token with a single CAS. A bucket of {@code capacity} tokens per {@code periodNanos}
+ * allows bursts of up to {@code capacity} and refills continuously.
+ */
+public final class TokenBucket {
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, long periodNanos, long now) {
+        if (capacity <= 0 || periodNanos <= 0) {
+            throw new IllegalArgumentException("Capacity and period must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, periodNanos / capacity);
+        this.burstNanos = nanosPerToken * capacity;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Takes the tokens if they are available and returns 0, otherwise leaves the bucket untouched and returns
+     * how long until they would be. Requests larger than the capacity are charged the full capacity.
+     */
+    public long tryAcquire(long tokens, long now) {
+        long cost = Math.min(tokens, capacity) * nanosPerToken;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + cost;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Gives back tokens that were taken but not used, capped like tryAcquire so others' reservations are kept
+    public void refund(long tokens) {
+        theoreticalArrival.addAndGet(-charged(tokens) * nanosPerToken);
+    }
+
+    // Takes tokens unconditionally, going into debt that delays later acquisitions
+    public void charge(long tokens, long now) {
+        long cost = tokens * nanosPerToken;
+        theoreticalArrival.getAndUpdate(current -> Math.max(current, now) + cost);
+    }
+
+    // What tryAcquire takes for a request of the given size
+    public long charged(long tokens) {
+        return Math.min(tokens, capacity);
+    }
+
+    public long available(long now) {
+        long backlog = Math.max(0, theoreticalArrival.get() - now);
+        return Math.max(0, (burstNanos - backlog) / nanosPerToken);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+}
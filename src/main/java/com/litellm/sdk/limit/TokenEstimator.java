@@ -0,0 +1,40 @@
+package com.litellm.sdk.limit;
+
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.model.request.TextCompletionRequest;
+import com.litellm.sdk.token.Tokenizer;
+
+/**
+ * Up-front token cost of a request for rate limiting: prompt tokens plus the completion budget when one is set.
+ * Deliberately cheap; the limiter reconciles it against reported usage afterwards.
+ */
+public final class TokenEstimator {
+    // Role and separators the chat format adds around every message
+    private static final int TOKENS_PER_MESSAGE = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(ChatCompletionRequest request) {
+        int tokens = 0;
+        if (request.messages() != null) {
+            for (Message message : request.messages()) {
+                tokens += TOKENS_PER_MESSAGE + Tokenizer.tokenCounter(request.model(), message.content());
+            }
+        }
+        return tokens + (request.maxTokens() != null ? request.maxTokens() : 0);
+    }
+
+    public static int estimate(TextCompletionRequest request) {
+        return Tokenizer.tokenCounter(request.model(), request.prompt())
+            + (request.maxTokens() != null ? request.maxTokens() : 0);
+    }
+
+    public static int estimate(EmbeddingRequest request) {
+        return request.input() != null
+            ? Tokenizer.tokenCounter(request.model(), request.input())
+            : Tokenizer.tokenCounter(request.model(), request.inputText());
+    }
+}
@@ -0,0 +1,58 @@
+package com.litellm.sdk.model.response;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.litellm.sdk.model.common.Usage;
+
+@Builder(toBuilder = true)
+public record ChatCompletionChunk(String id, Long created, String object, String model, String provider,
+                                  List<Choice> choices, Usage usage, Instant timestamp) {
+    public ChatCompletionChunk(
+            String id,
+            Long created,
+            String object,
+            String model,
+            String provider,
+            List<Choice> choices,
+            Usage usage,
+            Instant timestamp
+    ) {
+        this.id = id;
+        this.created = created;
+        this.object = object != null ? object : "chat.completion.chunk";
+        this.model = model;
+        this.provider = provider;
+        this.choices = choices != null ? List.copyOf(choices) : List.of();
+        this.usage = usage;
+        this.timestamp = timestamp != null ? timestamp : Instant.now();
+    }
+
+    @Builder(toBuilder = true)
+    public record Choice(Integer index, Delta delta, String finishReason) {
+        @Builder(toBuilder = true)
+        public record Delta(String role, String content) {
+        }
+    }
+
+    // Helper method to get the content delta from the first choice
+    public String getContent() {
+        if (!choices.isEmpty()) {
+            Choice firstChoice = choices.get(0);
+            if (firstChoice.delta() != null) {
+                return firstChoice.delta().content();
+            }
+        }
+        return null;
+    }
+
+    // Helper method to get finish reason, only present on the closing chunk of a choice
+    public String getFinishReason() {
+        if (!choices.isEmpty()) {
+            return choices.get(0).finishReason();
+        }
+        return null;
+    }
+}
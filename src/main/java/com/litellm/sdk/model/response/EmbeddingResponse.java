@@ -2,17 +2,24 @@ package com.litellm.sdk.model.response;
 
 import lombok.Builder;
 
+import java.nio.FloatBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import com.litellm.sdk.model.common.Usage;
 
+/**
+ * Vectors are primitive arrays held as parsed, without boxing or defensive copies; {@code embeddings} has one per
+ * input in input order and {@code embedding} is the first of them. Use {@link #vector(int)} for a read-only view.
+ */
 @Builder(toBuilder = true)
-public record EmbeddingResponse(String id, List<Float> embedding, String provider, String model, Usage usage,
-                                Duration latency, Duration providerLatency, Boolean cached, Instant timestamp) {
+public record EmbeddingResponse(String id, float[] embedding, List<float[]> embeddings, String provider, String model,
+                                Usage usage, Duration latency, Duration providerLatency, Boolean cached,
+                                Instant timestamp) {
     public EmbeddingResponse(
             String id,
-            List<Float> embedding,
+            float[] embedding,
+            List<float[]> embeddings,
             String provider,
             String model,
             Usage usage,
@@ -22,7 +29,8 @@ public record EmbeddingResponse(String id, List<Float> embedding, String provide
             Instant timestamp
     ) {
         this.id = id;
-        this.embedding = embedding != null ? List.copyOf(embedding) : null;
+        this.embeddings = embeddings != null ? List.copyOf(embeddings) : embedding != null ? List.of(embedding) : List.of();
+        this.embedding = embedding != null ? embedding : this.embeddings.isEmpty() ? null : this.embeddings.get(0);
         this.provider = provider;
         this.model = model;
         this.usage = usage;
@@ -31,4 +39,12 @@ public record EmbeddingResponse(String id, List<Float> embedding, String provide
         this.cached = cached != null ? cached : false;
         this.timestamp = timestamp != null ? timestamp : Instant.now();
     }
+
+    public FloatBuffer vector(int index) {
+        return FloatBuffer.wrap(embeddings.get(index)).asReadOnlyBuffer();
+    }
+
+    public int dimensions() {
+        return embedding != null ? embedding.length : 0;
+    }
 }
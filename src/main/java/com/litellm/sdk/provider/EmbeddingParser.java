@@ -0,0 +1,126 @@
+package com.litellm.sdk.provider;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.model.common.Usage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Streams an OpenAI-style {@code /embeddings} response straight into primitive {@code float[]} vectors without
+ * building a JSON tree or boxing a single value. Accepts both {@code encoding_format} values: float arrays and
+ * base64-encoded little-endian float32. Vectors are placed by their {@code index} so batch order is preserved;
+ * a response that does not hold exactly one vector per input is rejected rather than shifted into the wrong slots.
+ */
+public final class EmbeddingParser {
+    private static final int INITIAL_DIMENSIONS = 1536;
+
+    private EmbeddingParser() {
+    }
+
+    public record Result(String model, List<float[]> vectors, Usage usage) {
+    }
+
+    public static Result parse(ObjectMapper objectMapper, String providerId, String body, int expectedInputs)
+            throws IOException, ProviderException {
+        JsonFactory factory = objectMapper.getFactory();
+        String model = null;
+        Usage usage = null;
+        float[][] vectors = new float[expectedInputs][];
+        int dimensions = INITIAL_DIMENSIONS;
+
+        try (JsonParser parser = factory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Embedding response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "model" -> model = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "usage" -> usage = value == JsonToken.START_OBJECT ? objectMapper.readValue(parser, Usage.class) : null;
+                    case "data" -> {
+                        if (value != JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        int position = 0;
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            int index = position++;
+                            float[] vector = null;
+                            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String itemField = parser.currentName();
+                                JsonToken itemValue = parser.nextToken();
+                                if ("index".equals(itemField) && itemValue == JsonToken.VALUE_NUMBER_INT) {
+                                    index = parser.getIntValue();
+                                } else if ("embedding".equals(itemField)) {
+                                    vector = itemValue == JsonToken.VALUE_STRING
+                                        ? decodeBase64(parser.getText())
+                                        : readFloats(parser, dimensions);
+                                } else {
+                                    parser.skipChildren();
+                                }
+                            }
+                            if (vector != null) {
+                                // Later vectors of the batch share the first one's size, so they are allocated exactly
+                                dimensions = vector.length;
+                                if (index < 0 || index >= expectedInputs) {
+                                    throw malformed(providerId, "embedding index " + index + " outside 0.."
+                                        + (expectedInputs - 1));
+                                }
+                                if (vectors[index] != null) {
+                                    throw malformed(providerId, "duplicate embedding index " + index);
+                                }
+                                vectors[index] = vector;
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        for (int index = 0; index < vectors.length; index++) {
+            if (vectors[index] == null) {
+                throw malformed(providerId, "no embedding for input " + index + " of " + expectedInputs);
+            }
+        }
+        return new Result(model, Arrays.asList(vectors), usage);
+    }
+
+    // The provider answered 200 with a body that cannot be trusted: treat it like a bad gateway
+    private static ProviderException malformed(String providerId, String detail) {
+        return new ProviderException("Malformed embedding response: " + detail, providerId, 502, "MALFORMED_RESPONSE");
+    }
+
+    private static float[] readFloats(JsonParser parser, int expectedDimensions) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        float[] values = new float[expectedDimensions];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = parser.getFloatValue();
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private static float[] decodeBase64(String encoded) {
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.getDecoder().decode(encoded)).order(ByteOrder.LITTLE_ENDIAN);
+        float[] values = new float[bytes.remaining() / Float.BYTES];
+        bytes.asFloatBuffer().get(values);
+        return values;
+    }
+}
@@ -2,81 +2,142 @@ package com.litellm.sdk.provider;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.litellm.sdk.config.ConnectionPoolConfig;
 import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.error.LiteLLMException;
 import com.litellm.sdk.model.common.Usage;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.Message;
 import com.litellm.sdk.model.request.TextCompletionRequest;
 import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.response.ChatCompletionChunk;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import com.litellm.sdk.model.response.ChatCompletionResponse.Choice;
 import com.litellm.sdk.model.response.ChatCompletionResponse.Choice.ResponseMessage;
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
+import com.litellm.sdk.provider.metrics.ProviderMetricsRecorder;
+import com.litellm.sdk.provider.transport.ConnectionPoolStats;
+import com.litellm.sdk.provider.transport.ProviderTransport;
+import com.litellm.sdk.provider.transport.ReactorNettyTransport;
+import com.litellm.sdk.provider.transport.TransportException;
+import com.litellm.sdk.provider.transport.TransportRegistry;
+import com.litellm.sdk.provider.transport.TransportRequest;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @EqualsAndHashCode(callSuper = false)
 public class LiteLLMProvider implements Provider {
+    // OpenAI's per-request input limit for /embeddings
+    private static final int MAX_EMBEDDING_INPUTS = 2048;
+    private static final int EMBEDDING_BATCH_CONCURRENCY = 4;
+
     private final ProviderConfig config;
     private volatile HealthStatus healthStatus = HealthStatus.HEALTHY;
     private volatile String failureReason;
-    private final HttpClient httpClient;
+    private final ProviderTransport transport;
+    private final ProviderMetricsRecorder metrics = new ProviderMetricsRecorder();
     private final ObjectMapper objectMapper;
 
     public LiteLLMProvider(ProviderConfig config) {
+        this(config, (ConnectionPoolConfig) null);
+    }
+
+    public LiteLLMProvider(ProviderConfig config, ConnectionPoolConfig poolConfig) {
+        this(config, config.baseUrl() != null
+            ? TransportRegistry.shared().transportFor(config.baseUrl(), poolConfig)
+            : new ReactorNettyTransport());
+    }
+
+    public LiteLLMProvider(ProviderConfig config, ProviderTransport transport) {
         this.config = config;
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+        this.transport = transport;
         this.objectMapper = new ObjectMapper();
     }
 
     @Override
     public long getRequestCount() {
-        return 0;
+        return metrics.getRequestCount();
     }
 
     @Override
     public long getSuccessCount() {
-        return 0;
+        return metrics.getSuccessCount();
     }
 
     @Override
     public long getErrorCount() {
-        return 0;
+        return metrics.getErrorCount();
     }
 
     @Override
     public Duration getAverageLatency() {
-        return Duration.ZERO;
+        return metrics.getAverageLatency();
+    }
+
+    @Override
+    public Duration getP50Latency() {
+        return metrics.getP50Latency();
     }
 
     @Override
     public Duration getP95Latency() {
-        return Duration.ZERO;
+        return metrics.getP95Latency();
+    }
+
+    @Override
+    public Duration getP99Latency() {
+        return metrics.getP99Latency();
+    }
+
+    @Override
+    public Duration getLatencyPercentile(double percentile) {
+        return metrics.getLatencyPercentile(percentile);
     }
 
     @Override
     public double getSuccessRate() {
-        return 1.0;
+        return metrics.getSuccessRate();
     }
 
     @Override
     public long getCacheHitCount() {
-        return 0;
+        return metrics.getCacheHitCount();
+    }
+
+    @Override
+    public long getPromptTokenCount() {
+        return metrics.getPromptTokenCount();
+    }
+
+    @Override
+    public long getCompletionTokenCount() {
+        return metrics.getCompletionTokenCount();
+    }
+
+    @Override
+    public void recordRequest(Duration latency, boolean success) {
+        metrics.recordRequest(latency, success);
+    }
+
+    @Override
+    public void recordRequest(long latencyNanos, int statusCode, long promptTokens, long completionTokens) {
+        metrics.recordRequest(latencyNanos, statusCode, promptTokens, completionTokens);
+    }
+
+    @Override
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return transport.poolStats();
     }
 
     @Override
@@ -91,47 +152,77 @@ public class LiteLLMProvider implements Provider {
 
     @Override
     public Mono<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request) {
-        return Mono.fromCallable(() -> {
-            try {
-                // Build request body
-                String requestBody = buildChatCompletionRequest(request);
-
-                // Create HTTP request
-                HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(config.baseUrl() + "/chat/completions"))
-                    .timeout(Duration.ofSeconds(config.timeout() != null ? config.timeout().getSeconds() : 30))
-                    .header("Content-Type", "application/json")
-                    .header("Authorization", "Bearer " + config.apiKey())
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .build();
-
-                // Send HTTP request
-                HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    // Parse successful response
-                    ChatCompletionResponse chatResponse = parseChatCompletionResponse(response.body());
-                    updateHealth(HealthStatus.HEALTHY, null);
-                    return chatResponse;
-                } else {
-                    // Handle error
-                    String errorMsg = "HTTP " + response.statusCode() + ": " + response.body();
-                    updateHealth(HealthStatus.UNHEALTHY, errorMsg);
-                    throw new RuntimeException(errorMsg);
-                }
+        return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return transport.execute(buildTransportRequest("/chat/completions", buildChatCompletionRequest(request, false)))
+                    .flatMap(response -> {
+                        if (response.statusCode() == 200) {
+                            // Parse successful response
+                            return Mono.fromCallable(() -> parseChatCompletionResponse(response.body()));
+                        }
+                        // Handle error
+                        return Mono.<ChatCompletionResponse>error(new TransportException(response));
+                    })
+                    .doOnNext(chatResponse -> recordSuccess(start, chatResponse.usage()))
+                    .doOnError(throwable -> recordFailure(start, throwable));
+            })
+            .onErrorMap(throwable -> mapError("Chat completion failed: ", throwable));
+    }
 
-            } catch (Exception e) {
-                updateHealth(HealthStatus.UNHEALTHY, e.getMessage());
-                throw new RuntimeException("Chat completion failed: " + e.getMessage(), e);
-            }
-        })
-        .retryWhen(Retry.backoff(3, Duration.ofSeconds(1)))
-        .onErrorResume(throwable -> {
-            return Mono.error(new RuntimeException("Chat completion failed: " + throwable.getMessage(), throwable));
-        });
+    @Override
+    public Flux<ChatCompletionChunk> chatCompletionStream(ChatCompletionRequest request) {
+        return Flux.defer(() -> {
+                long start = System.nanoTime();
+                Usage[] lastUsage = new Usage[1];
+                // Frames are decoded as buffers arrive; demand from the subscriber is propagated to the socket
+                ServerSentEventDecoder decoder = new ServerSentEventDecoder();
+                return transport.stream(buildTransportRequest("/chat/completions", buildChatCompletionRequest(request, true)))
+                    .concatMapIterable(decoder::decode)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.finish())))
+                    .takeWhile(data -> !"[DONE]".equals(data))
+                    .map(this::parseChatCompletionChunk)
+                    .doOnNext(chunk -> {
+                        if (chunk.usage() != null) {
+                            lastUsage[0] = chunk.usage();
+                        }
+                    })
+                    .doOnComplete(() -> recordSuccess(start, lastUsage[0]))
+                    .doOnError(throwable -> recordFailure(start, throwable));
+            })
+            .onErrorMap(throwable -> mapError("Chat completion stream failed: ", throwable));
+    }
+
+    // HTTP, connection and timeout failures become typed provider errors; anything else stays a wrapped runtime error
+    private Throwable mapError(String prefix, Throwable throwable) {
+        Throwable classified = ProviderErrorClassifier.classify(getName(), throwable);
+        return classified != throwable || classified instanceof LiteLLMException
+            ? classified
+            : new RuntimeException(prefix + throwable.getMessage(), throwable);
+    }
+
+    private void recordSuccess(long start, Usage usage) {
+        metrics.recordRequest(System.nanoTime() - start, 200,
+            usage != null && usage.getPromptTokens() != null ? usage.getPromptTokens() : 0,
+            usage != null && usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0);
+    }
+
+    private void recordFailure(long start, Throwable throwable) {
+        int statusCode = throwable instanceof TransportException transportException ? transportException.getStatusCode() : 0;
+        metrics.recordRequest(System.nanoTime() - start, statusCode, 0, 0);
+    }
+
+    private TransportRequest buildTransportRequest(String path, String requestBody) {
+        return TransportRequest.builder()
+            .uri(URI.create(config.baseUrl() + path))
+            .timeout(config.timeout() != null ? config.timeout() : Duration.ofSeconds(30))
+            .headers(Map.of(
+                "Content-Type", "application/json",
+                "Authorization", "Bearer " + config.apiKey()))
+            .body(requestBody)
+            .build();
     }
 
-    private String buildChatCompletionRequest(ChatCompletionRequest request) {
+    private String buildChatCompletionRequest(ChatCompletionRequest request, boolean stream) {
         try {
             // Build request using ObjectMapper for proper JSON serialization
             var requestMap = new java.util.HashMap<String, Object>();
@@ -168,6 +259,11 @@ public class LiteLLMProvider implements Provider {
             if (request.temperature() != null) {
                 requestMap.put("temperature", request.temperature());
             }
+            if (stream) {
+                requestMap.put("stream", true);
+                // Ask for a trailing usage chunk so token accounting survives streaming
+                requestMap.put("stream_options", java.util.Map.of("include_usage", true));
+            }
 
             return objectMapper.writeValueAsString(requestMap);
         } catch (Exception e) {
@@ -251,11 +347,57 @@ public class LiteLLMProvider implements Provider {
             .build();
     }
 
+    private ChatCompletionChunk parseChatCompletionChunk(String data) {
+        try {
+            JsonNode jsonChunk = objectMapper.readTree(data);
+
+            List<ChatCompletionChunk.Choice> choices = new ArrayList<>();
+            JsonNode choicesNode = jsonChunk.get("choices");
+            if (choicesNode != null && choicesNode.isArray()) {
+                for (JsonNode choiceNode : choicesNode) {
+                    ChatCompletionChunk.Choice.Delta delta = null;
+                    JsonNode deltaNode = choiceNode.get("delta");
+                    if (deltaNode != null) {
+                        delta = ChatCompletionChunk.Choice.Delta.builder()
+                            .role(deltaNode.hasNonNull("role") ? deltaNode.get("role").asText() : null)
+                            .content(deltaNode.hasNonNull("content") ? deltaNode.get("content").asText() : null)
+                            .build();
+                    }
+
+                    choices.add(ChatCompletionChunk.Choice.builder()
+                        .index(choiceNode.hasNonNull("index") ? choiceNode.get("index").asInt() : 0)
+                        .delta(delta)
+                        .finishReason(choiceNode.hasNonNull("finish_reason") ? choiceNode.get("finish_reason").asText() : null)
+                        .build());
+                }
+            }
+
+            // Only the final chunk carries usage when stream_options.include_usage is honored
+            Usage usage = null;
+            JsonNode usageNode = jsonChunk.get("usage");
+            if (usageNode != null && !usageNode.isNull()) {
+                usage = objectMapper.convertValue(usageNode, Usage.class);
+            }
+
+            return ChatCompletionChunk.builder()
+                .id(jsonChunk.hasNonNull("id") ? jsonChunk.get("id").asText() : null)
+                .created(jsonChunk.hasNonNull("created") ? jsonChunk.get("created").asLong() : null)
+                .object(jsonChunk.hasNonNull("object") ? jsonChunk.get("object").asText() : null)
+                .model(jsonChunk.hasNonNull("model") ? jsonChunk.get("model").asText() : null)
+                .provider(getName())
+                .choices(choices)
+                .usage(usage)
+                .build();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse stream chunk: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Mono<TextCompletionResponse> textCompletion(TextCompletionRequest request) {
         return Mono.fromCallable(() -> {
             // Convert to chat completion format
-            ChatCompletionRequest chatRequest = ChatCompletionRequest.builder()
+            return ChatCompletionRequest.builder()
                 .model(request.model())
                 .messages(List.of(
                     Message.builder()
@@ -270,32 +412,94 @@ public class LiteLLMProvider implements Provider {
                 .maxTokens(request.maxTokens())
                 .temperature(request.temperature())
                 .build();
-
-            // Call chat completion and transform response
-            ChatCompletionResponse chatResponse = chatCompletion(chatRequest).block();
-
-            return TextCompletionResponse.builder()
-                .id(chatResponse.id())
-                .content(chatResponse.getContent())
-                .provider(getName())
-                .model(request.model())
-                .build();
-        });
+        })
+        // Call chat completion and transform response
+        .flatMap(this::chatCompletion)
+        .map(chatResponse -> TextCompletionResponse.builder()
+            .id(chatResponse.id())
+            .content(chatResponse.getContent())
+            .provider(getName())
+            .model(request.model())
+            .build());
     }
 
+    /**
+     * Calls {@code /embeddings}. List inputs are sent in batches of up to {@value #MAX_EMBEDDING_INPUTS}, a few
+     * concurrently, and the vectors are returned in input order with the usage of all batches summed.
+     */
     @Override
     public Mono<EmbeddingResponse> createEmbedding(EmbeddingRequest request) {
-        return Mono.fromCallable(() -> {
-            // For now, return a minimal embedding response
-            // In a real implementation, this would call the embedding API endpoint
-            return EmbeddingResponse.builder()
-                .id(request.id())
-                .provider(getName())
-                .model(request.model())
-                .build();
+        return Mono.defer(() -> {
+                long start = System.nanoTime();
+                if (request.input() == null) {
+                    return embedBatch(request.model(), request.inputText(), 1)
+                        .map(result -> toEmbeddingResponse(request, List.of(result), start));
+                }
+                List<List<String>> batches = new ArrayList<>();
+                for (int from = 0; from < request.input().size(); from += MAX_EMBEDDING_INPUTS) {
+                    batches.add(request.input().subList(from, Math.min(from + MAX_EMBEDDING_INPUTS, request.input().size())));
+                }
+                return Flux.fromIterable(batches)
+                    .flatMapSequential(batch -> embedBatch(request.model(), batch, batch.size()), EMBEDDING_BATCH_CONCURRENCY)
+                    .collectList()
+                    .map(results -> toEmbeddingResponse(request, results, start));
+            })
+            .onErrorMap(throwable -> mapError("Embedding failed: ", throwable));
+    }
+
+    private Mono<EmbeddingParser.Result> embedBatch(String model, Object input, int inputCount) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return transport.execute(buildTransportRequest("/embeddings", buildEmbeddingRequest(model, input)))
+                .flatMap(response -> {
+                    if (response.statusCode() == 200) {
+                        return Mono.fromCallable(() -> EmbeddingParser.parse(objectMapper, getName(), response.body(), inputCount));
+                    }
+                    return Mono.<EmbeddingParser.Result>error(new TransportException(response));
+                })
+                .doOnNext(result -> recordSuccess(start, result.usage()))
+                .doOnError(throwable -> recordFailure(start, throwable));
         });
     }
 
+    private String buildEmbeddingRequest(String model, Object input) {
+        try {
+            var requestMap = new java.util.HashMap<String, Object>();
+            requestMap.put("model", model);
+            requestMap.put("input", input);
+            requestMap.put("encoding_format", "float");
+            return objectMapper.writeValueAsString(requestMap);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to build request JSON", e);
+        }
+    }
+
+    private EmbeddingResponse toEmbeddingResponse(EmbeddingRequest request, List<EmbeddingParser.Result> results,
+                                                  long start) {
+        List<float[]> vectors = new ArrayList<>();
+        int promptTokens = 0;
+        int totalTokens = 0;
+        boolean hasUsage = false;
+        for (EmbeddingParser.Result result : results) {
+            vectors.addAll(result.vectors());
+            if (result.usage() != null) {
+                hasUsage = true;
+                promptTokens += result.usage().getPromptTokens() != null ? result.usage().getPromptTokens() : 0;
+                totalTokens += result.usage().getTotalTokens() != null ? result.usage().getTotalTokens() : 0;
+            }
+        }
+        String model = !results.isEmpty() && results.get(0).model() != null ? results.get(0).model() : request.model();
+        return EmbeddingResponse.builder()
+            .id(request.id())
+            .embeddings(vectors)
+            .provider(getName())
+            .model(model)
+            .usage(hasUsage ? new Usage(promptTokens, 0, totalTokens) : null)
+            .latency(Duration.ofNanos(System.nanoTime() - start))
+            .timestamp(Instant.now())
+            .build();
+    }
+
     @Override
     public ProviderMetrics getMetrics() {
         return this;
@@ -316,6 +520,11 @@ public class LiteLLMProvider implements Provider {
         return Duration.ofSeconds(30);
     }
 
+    @Override
+    public void close() {
+        transport.close();
+    }
+
     @Override
     public String getFailureReason() {
         return failureReason;
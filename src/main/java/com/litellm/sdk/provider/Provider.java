@@ -1,11 +1,14 @@
 package com.litellm.sdk.provider;
 
+import com.litellm.sdk.config.ProviderConfig;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.TextCompletionRequest;
 import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.response.ChatCompletionChunk;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface Provider extends ProviderHealth, ProviderMetrics {
@@ -15,12 +18,19 @@ public interface Provider extends ProviderHealth, ProviderMetrics {
 
     Mono<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request);
 
+    Flux<ChatCompletionChunk> chatCompletionStream(ChatCompletionRequest request);
+
     Mono<TextCompletionResponse> textCompletion(TextCompletionRequest request);
 
     Mono<EmbeddingResponse> createEmbedding(EmbeddingRequest request);
 
     ProviderMetrics getMetrics();
 
+    // Static configuration used by routing (priority, weight); null for providers built without one
+    default ProviderConfig getConfig() {
+        return null;
+    }
+
     void updateHealth(HealthStatus status);
 
     default void close() {}
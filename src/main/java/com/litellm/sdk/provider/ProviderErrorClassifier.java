@@ -0,0 +1,165 @@
+package com.litellm.sdk.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.litellm.sdk.error.LiteLLMException;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.provider.transport.TransportException;
+import com.litellm.sdk.provider.transport.TransportResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns transport failures into typed provider errors so retries, failover and circuit breakers can decide
+ * from the exception type alone: 429 becomes a {@link RateLimitException} carrying the server's requested wait,
+ * other HTTP errors a {@link ProviderException} with their status, and connection failures or timeouts a
+ * retryable {@link ProviderException} (503 and 504 respectively).
+ */
+public final class ProviderErrorClassifier {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // OpenAI-style reset durations such as "20ms", "1s" or "6m0s"
+    private static final Pattern RESET_DURATION = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+
+    private ProviderErrorClassifier() {
+    }
+
+    public static Throwable classify(String providerId, Throwable error) {
+        if (error instanceof LiteLLMException) {
+            return error;
+        }
+        if (error instanceof TransportException transportException) {
+            return fromResponse(providerId, transportException.getResponse(), transportException);
+        }
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (isTimeout(current)) {
+                return new ProviderException("Request to " + providerId + " timed out: " + error.getMessage(),
+                    error, providerId, 504, "TIMEOUT");
+            }
+            if (current instanceof IOException) {
+                return new ProviderException("Connection to " + providerId + " failed: " + error.getMessage(),
+                    error, providerId, 503, "CONNECTION_ERROR");
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return error;
+    }
+
+    public static ProviderException fromResponse(String providerId, TransportResponse response, Throwable cause) {
+        int status = response.statusCode();
+        JsonNode errorNode = errorNode(response.body());
+        String message = errorNode != null && errorNode.hasNonNull("message")
+            ? errorNode.get("message").asText()
+            : "HTTP " + status;
+        if (status == 429) {
+            return new RateLimitException(providerId + " rate limited the request: " + message, cause, providerId,
+                retryAfter(response), rateLimitType(response));
+        }
+        String errorCode = errorNode != null && errorNode.hasNonNull("code") ? errorNode.get("code").asText()
+            : errorNode != null && errorNode.hasNonNull("type") ? errorNode.get("type").asText()
+            : "HTTP_" + status;
+        return new ProviderException(providerId + " returned HTTP " + status + ": " + message, cause, providerId,
+            status, errorCode);
+    }
+
+    /**
+     * The wait requested by the server: {@code retry-after-ms}, then {@code Retry-After} (seconds or HTTP date),
+     * then the longest of the rate-limit reset headers. Null when none is present.
+     */
+    public static Duration retryAfter(TransportResponse response) {
+        String millis = response.header("retry-after-ms");
+        if (millis != null) {
+            try {
+                return Duration.ofMillis(Math.max(0, (long) Double.parseDouble(millis.trim())));
+            } catch (NumberFormatException ignored) {
+                // Fall through to the standard header
+            }
+        }
+        Duration retryAfter = parseRetryAfter(response.header("Retry-After"));
+        if (retryAfter != null) {
+            return retryAfter;
+        }
+        Duration requests = parseResetDuration(response.header("x-ratelimit-reset-requests"));
+        Duration tokens = parseResetDuration(response.header("x-ratelimit-reset-tokens"));
+        if (requests == null) {
+            return tokens;
+        }
+        return tokens == null || requests.compareTo(tokens) >= 0 ? requests : tokens;
+    }
+
+    // Retry-After is either delta-seconds or an HTTP date
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    static Duration parseResetDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Matcher matcher = RESET_DURATION.matcher(value.trim());
+        double millis = 0;
+        boolean matched = false;
+        while (matcher.find()) {
+            matched = true;
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "h" -> amount * 3_600_000;
+                case "m" -> amount * 60_000;
+                case "s" -> amount * 1_000;
+                default -> amount;
+            };
+        }
+        return matched ? Duration.ofMillis((long) millis) : null;
+    }
+
+    // Which limit ran out, from the remaining-quota headers; null when the provider does not say
+    private static Integer rateLimitType(TransportResponse response) {
+        if ("0".equals(response.header("x-ratelimit-remaining-tokens"))) {
+            return RateLimitException.TOKEN_LIMIT;
+        }
+        if ("0".equals(response.header("x-ratelimit-remaining-requests"))) {
+            return RateLimitException.REQUEST_LIMIT;
+        }
+        return null;
+    }
+
+    private static JsonNode errorNode(String body) {
+        if (body == null || body.isEmpty() || body.charAt(0) != '{') {
+            return null;
+        }
+        try {
+            JsonNode error = OBJECT_MAPPER.readTree(body).get("error");
+            return error != null && error.isObject() ? error : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        // Netty's read/write timeouts do not extend java.util.concurrent.TimeoutException
+        return error instanceof TimeoutException || error.getClass().getSimpleName().endsWith("TimeoutException");
+    }
+}
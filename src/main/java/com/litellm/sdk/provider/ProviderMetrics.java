@@ -1,5 +1,7 @@
 package com.litellm.sdk.provider;
 
+import com.litellm.sdk.provider.transport.ConnectionPoolStats;
+
 import java.time.Duration;
 
 public interface ProviderMetrics {
@@ -17,5 +19,37 @@ public interface ProviderMetrics {
 
     long getCacheHitCount();
 
+    default Duration getP50Latency() {
+        return getAverageLatency();
+    }
+
+    default Duration getP99Latency() {
+        return getP95Latency();
+    }
+
+    // Nearest of the tracked percentiles for implementations without a full histogram
+    default Duration getLatencyPercentile(double percentile) {
+        if (percentile <= 50.0) {
+            return getP50Latency();
+        }
+        return percentile <= 95.0 ? getP95Latency() : getP99Latency();
+    }
+
+    default long getPromptTokenCount() {
+        return 0;
+    }
+
+    default long getCompletionTokenCount() {
+        return 0;
+    }
+
     default void recordRequest(Duration latency, boolean success) {}
+
+    default void recordRequest(long latencyNanos, int statusCode, long promptTokens, long completionTokens) {
+        recordRequest(Duration.ofNanos(latencyNanos), statusCode >= 200 && statusCode < 300);
+    }
+
+    default ConnectionPoolStats getConnectionPoolStats() {
+        return ConnectionPoolStats.EMPTY;
+    }
 }
@@ -0,0 +1,107 @@
+package com.litellm.sdk.provider;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incremental decoder for {@code text/event-stream} bodies.
+ * Bytes are fed as they arrive and only the {@code data} payload of each completed event is returned,
+ * so a partial line or multi-byte character split across network buffers is carried over to the next call.
+ * Instances are stateful and must be used for a single response.
+ */
+public final class ServerSentEventDecoder {
+    private static final String DATA_FIELD = "data";
+
+    private byte[] line = new byte[256];
+    private int lineLength = 0;
+    private boolean skipLineFeed = false;
+    private StringBuilder data;
+
+    public List<String> decode(List<ByteBuffer> buffers) {
+        List<String> events = new ArrayList<>(1);
+        for (ByteBuffer buffer : buffers) {
+            decode(buffer, events);
+        }
+        return events;
+    }
+
+    public List<String> decode(ByteBuffer buffer) {
+        List<String> events = new ArrayList<>(1);
+        decode(buffer, events);
+        return events;
+    }
+
+    // Flushes an event left open when the stream ends without a trailing blank line
+    public List<String> finish() {
+        List<String> events = new ArrayList<>(1);
+        if (lineLength > 0) {
+            processLine(events);
+        }
+        processLine(events);
+        return events;
+    }
+
+    private void decode(ByteBuffer buffer, List<String> events) {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    continue;
+                }
+            }
+            if (b == '\n' || b == '\r') {
+                skipLineFeed = b == '\r';
+                processLine(events);
+            } else {
+                append(b);
+            }
+        }
+    }
+
+    private void append(byte b) {
+        if (lineLength == line.length) {
+            line = Arrays.copyOf(line, line.length * 2);
+        }
+        line[lineLength++] = b;
+    }
+
+    private void processLine(List<String> events) {
+        int length = lineLength;
+        lineLength = 0;
+
+        if (length == 0) {
+            // A blank line dispatches the event accumulated so far
+            if (data != null) {
+                events.add(data.toString());
+                data = null;
+            }
+            return;
+        }
+        if (line[0] == ':') {
+            return;
+        }
+
+        String text = new String(line, 0, length, StandardCharsets.UTF_8);
+        int colon = text.indexOf(':');
+        String field = colon >= 0 ? text.substring(0, colon) : text;
+        if (!DATA_FIELD.equals(field)) {
+            return;
+        }
+
+        int valueStart = colon >= 0 ? colon + 1 : text.length();
+        if (valueStart < text.length() && text.charAt(valueStart) == ' ') {
+            valueStart++;
+        }
+
+        if (data == null) {
+            data = new StringBuilder(text.length() - valueStart);
+        } else {
+            data.append('\n');
+        }
+        data.append(text, valueStart, text.length());
+    }
+}
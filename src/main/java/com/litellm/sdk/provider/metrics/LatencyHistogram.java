@@ -0,0 +1,167 @@
+package com.litellm.sdk.provider.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free log-linear latency histogram over a ring of time windows.
+ * Each power of two is split into 32 linear sub-buckets (about 3% relative error), the layout HDR histograms use.
+ * Only the windows inside the rolling period are read, so old samples decay out as windows rotate.
+ * Recording is a handful of atomic adds and never allocates; a sample racing a window rotation may be dropped,
+ * which is acceptable for routing and monitoring purposes.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final long MAX_VALUE_MICROS = (1L << MAX_MAGNITUDE) - 1;
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final Window[] windows;
+    private final long windowNanos;
+    private final LongSupplier clock;
+
+    public LatencyHistogram(int windowCount, long windowLength, TimeUnit unit) {
+        this(windowCount, unit.toNanos(windowLength), System::nanoTime);
+    }
+
+    public LatencyHistogram(int windowCount, long windowNanos, LongSupplier clock) {
+        if (windowCount < 1 || windowNanos <= 0) {
+            throw new IllegalArgumentException("Histogram needs at least one window with a positive length");
+        }
+        this.windows = new Window[windowCount];
+        for (int i = 0; i < windowCount; i++) {
+            windows[i] = new Window();
+        }
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+    }
+
+    public void record(long latencyNanos, boolean success) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 0), MAX_VALUE_MICROS);
+        Window window = current(currentEpoch());
+        window.buckets.incrementAndGet(bucketIndex(micros));
+        window.count.incrementAndGet();
+        window.sumMicros.addAndGet(micros);
+        if (!success) {
+            window.errors.incrementAndGet();
+        }
+    }
+
+    public long count() {
+        long epoch = currentEpoch();
+        long total = 0;
+        for (Window window : windows) {
+            if (isLive(window, epoch)) {
+                total += window.count.get();
+            }
+        }
+        return total;
+    }
+
+    public double successRate() {
+        long epoch = currentEpoch();
+        long total = 0;
+        long errors = 0;
+        for (Window window : windows) {
+            if (isLive(window, epoch)) {
+                total += window.count.get();
+                errors += window.errors.get();
+            }
+        }
+        return total > 0 ? (double) (total - errors) / total : 1.0;
+    }
+
+    public long meanMicros() {
+        long epoch = currentEpoch();
+        long total = 0;
+        long sum = 0;
+        for (Window window : windows) {
+            if (isLive(window, epoch)) {
+                total += window.count.get();
+                sum += window.sumMicros.get();
+            }
+        }
+        return total > 0 ? sum / total : 0;
+    }
+
+    // Returns the upper bound of the bucket holding the requested percentile (0-100), or 0 without samples
+    public long percentileMicros(double percentile) {
+        long epoch = currentEpoch();
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            for (Window window : windows) {
+                if (isLive(window, epoch)) {
+                    seen += window.buckets.get(bucket);
+                }
+            }
+            if (seen >= rank) {
+                return bucketUpperBound(bucket);
+            }
+        }
+        return MAX_VALUE_MICROS;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        int group = magnitude - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (micros >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return group * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int group = index / SUB_BUCKET_COUNT;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << (group - 1)) - 1;
+    }
+
+    // nanoTime may be negative, so floor division keeps epochs monotonic across zero
+    private long currentEpoch() {
+        return Math.floorDiv(clock.getAsLong(), windowNanos);
+    }
+
+    private boolean isLive(Window window, long epoch) {
+        long windowEpoch = window.epoch.get();
+        return windowEpoch > epoch - windows.length && windowEpoch <= epoch;
+    }
+
+    private Window current(long epoch) {
+        Window window = windows[(int) Math.floorMod(epoch, (long) windows.length)];
+        long windowEpoch = window.epoch.get();
+        if (windowEpoch != epoch && windowEpoch < epoch && window.epoch.compareAndSet(windowEpoch, epoch)) {
+            window.reset();
+        }
+        return window;
+    }
+
+    private static final class Window {
+        private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sumMicros = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        private void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+            count.set(0);
+            sumMicros.set(0);
+            errors.set(0);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.litellm.sdk.provider.metrics;
+
+import com.litellm.sdk.provider.ProviderMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lifetime counters on {@link LongAdder}s plus a rolling {@link LatencyHistogram} for latency and success rate.
+ * Recording allocates nothing, so it is safe to call on every completed request.
+ */
+public class ProviderMetricsRecorder implements ProviderMetrics {
+    private static final int DEFAULT_WINDOW_COUNT = 6;
+    private static final long DEFAULT_WINDOW_SECONDS = 10;
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder promptTokens = new LongAdder();
+    private final LongAdder completionTokens = new LongAdder();
+    private final LongAdder[] statusClassCounts = new LongAdder[6];
+    private final LatencyHistogram histogram;
+
+    public ProviderMetricsRecorder() {
+        this(new LatencyHistogram(DEFAULT_WINDOW_COUNT, DEFAULT_WINDOW_SECONDS, TimeUnit.SECONDS));
+    }
+
+    public ProviderMetricsRecorder(LatencyHistogram histogram) {
+        this.histogram = histogram;
+        for (int i = 0; i < statusClassCounts.length; i++) {
+            statusClassCounts[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void recordRequest(Duration latency, boolean success) {
+        recordRequest(latency.toNanos(), success ? 200 : 0, 0, 0);
+    }
+
+    @Override
+    public void recordRequest(long latencyNanos, int statusCode, long promptTokenCount, long completionTokenCount) {
+        boolean success = statusCode >= 200 && statusCode < 300;
+        requestCount.increment();
+        if (success) {
+            successCount.increment();
+        } else {
+            errorCount.increment();
+        }
+        // Status 0 means the call failed before a response arrived
+        statusClassCounts[statusCode >= 100 && statusCode < 600 ? statusCode / 100 : 0].increment();
+        if (promptTokenCount > 0) {
+            promptTokens.add(promptTokenCount);
+        }
+        if (completionTokenCount > 0) {
+            completionTokens.add(completionTokenCount);
+        }
+        histogram.record(latencyNanos, success);
+    }
+
+    public void recordCacheHit() {
+        cacheHitCount.increment();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    @Override
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    @Override
+    public Duration getAverageLatency() {
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(histogram.meanMicros()));
+    }
+
+    @Override
+    public Duration getP50Latency() {
+        return percentile(50.0);
+    }
+
+    @Override
+    public Duration getP95Latency() {
+        return percentile(95.0);
+    }
+
+    @Override
+    public Duration getP99Latency() {
+        return percentile(99.0);
+    }
+
+    @Override
+    public Duration getLatencyPercentile(double percentile) {
+        return percentile(percentile);
+    }
+
+    @Override
+    public double getSuccessRate() {
+        return histogram.successRate();
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    @Override
+    public long getPromptTokenCount() {
+        return promptTokens.sum();
+    }
+
+    @Override
+    public long getCompletionTokenCount() {
+        return completionTokens.sum();
+    }
+
+    // Status class 0 counts calls that never got a response (connect failures, timeouts)
+    public long getStatusClassCount(int statusClass) {
+        return statusClass >= 0 && statusClass < statusClassCounts.length ? statusClassCounts[statusClass].sum() : 0;
+    }
+
+    private Duration percentile(double percentile) {
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(histogram.percentileMicros(percentile)));
+    }
+}
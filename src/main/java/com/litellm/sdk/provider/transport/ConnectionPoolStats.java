@@ -0,0 +1,10 @@
+package com.litellm.sdk.provider.transport;
+
+public record ConnectionPoolStats(int acquired, int idle, int allocated, int pendingAcquires, int maxConnections,
+                                  int maxPendingAcquires) {
+    public static final ConnectionPoolStats EMPTY = new ConnectionPoolStats(0, 0, 0, 0, 0, 0);
+
+    public double getUtilization() {
+        return maxConnections > 0 ? (double) acquired / maxConnections : 0.0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.litellm.sdk.provider.transport;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+public interface ProviderTransport {
+    /**
+     * Sends the request and emits the buffered response whatever its status code.
+     */
+    Mono<TransportResponse> execute(TransportRequest request);
+
+    /**
+     * Sends the request and emits the response body as it arrives, honoring downstream demand.
+     * A non-2xx status terminates the stream with a {@link TransportException} carrying the error body.
+     */
+    Flux<ByteBuffer> stream(TransportRequest request);
+
+    default ConnectionPoolStats poolStats() {
+        return ConnectionPoolStats.EMPTY;
+    }
+
+    default void close() {}
+}
@@ -0,0 +1,80 @@
+package com.litellm.sdk.provider.transport;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ProviderTransport} on top of the Reactor Netty event loops.
+ * Requests never park a thread while waiting on the upstream, so in-flight calls are bounded by
+ * connections rather than by scheduler threads.
+ */
+public class ReactorNettyTransport implements ProviderTransport {
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+
+    // Standalone transport on the global Reactor Netty pool; prefer TransportRegistry to share pools per origin
+    public ReactorNettyTransport() {
+        this(HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) DEFAULT_CONNECT_TIMEOUT.toMillis()));
+    }
+
+    public ReactorNettyTransport(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public Mono<TransportResponse> execute(TransportRequest request) {
+        return prepare(request)
+            .post()
+            .uri(request.uri())
+            .send(ByteBufFlux.fromString(Mono.just(request.body())))
+            .responseSingle((response, content) -> content.asString(StandardCharsets.UTF_8)
+                .defaultIfEmpty("")
+                .map(body -> new TransportResponse(response.status().code(), toMap(response.responseHeaders()), body)));
+    }
+
+    @Override
+    public Flux<ByteBuffer> stream(TransportRequest request) {
+        return prepare(request)
+            .post()
+            .uri(request.uri())
+            .send(ByteBufFlux.fromString(Mono.just(request.body())))
+            .response((response, content) -> {
+                int status = response.status().code();
+                if (status < 200 || status >= 300) {
+                    return content.aggregate().asString(StandardCharsets.UTF_8)
+                        .defaultIfEmpty("")
+                        .flatMapMany(body -> Flux.error(new TransportException(
+                            new TransportResponse(status, toMap(response.responseHeaders()), body))));
+                }
+                // Netty releases inbound buffers after delivery, so each one is copied out before it is queued
+                return content.asByteArray().map(ByteBuffer::wrap);
+            });
+    }
+
+    private HttpClient prepare(TransportRequest request) {
+        return httpClient
+            .responseTimeout(request.timeout())
+            .headers(headers -> request.headers().forEach(headers::set));
+    }
+
+    private static Map<String, List<String>> toMap(HttpHeaders headers) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (String name : headers.names()) {
+            result.put(name, List.copyOf(headers.getAll(name)));
+        }
+        return result;
+    }
+}
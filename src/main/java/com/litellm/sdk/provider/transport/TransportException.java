@@ -0,0 +1,17 @@
+package com.litellm.sdk.provider.transport;
+
+import lombok.Getter;
+
+@Getter
+public class TransportException extends RuntimeException {
+    private final transient TransportResponse response;
+
+    public TransportException(TransportResponse response) {
+        super("HTTP " + response.statusCode() + ": " + response.body());
+        this.response = response;
+    }
+
+    public int getStatusCode() {
+        return response.statusCode();
+    }
+}
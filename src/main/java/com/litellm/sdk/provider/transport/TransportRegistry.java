@@ -0,0 +1,167 @@
+package com.litellm.sdk.provider.transport;
+
+import com.litellm.sdk.config.ConnectionPoolConfig;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out one {@link ReactorNettyTransport} per origin ({@code scheme://host:port}) and pool settings, so every
+ * provider pointing at the same proxy with the same settings shares sockets, TLS sessions and HTTP/2 connections.
+ * A caller asking for different settings on an origin gets its own pool rather than silently inheriting another's.
+ */
+@Slf4j
+public class TransportRegistry {
+    private static final TransportRegistry SHARED = new TransportRegistry();
+
+    private final Map<PoolKey, PooledTransport> transports = new ConcurrentHashMap<>();
+
+    public static TransportRegistry shared() {
+        return SHARED;
+    }
+
+    public ProviderTransport transportFor(String baseUrl) {
+        return transportFor(baseUrl, ConnectionPoolConfig.builder().build());
+    }
+
+    public ProviderTransport transportFor(String baseUrl, ConnectionPoolConfig config) {
+        PoolKey key = new PoolKey(origin(baseUrl), config != null ? config : ConnectionPoolConfig.builder().build());
+        PooledTransport transport = transports.get(key);
+        return transport != null ? transport : transports.computeIfAbsent(key, this::createTransport);
+    }
+
+    // Summed over every pool the origin has
+    public ConnectionPoolStats getPoolStats(String baseUrl) {
+        String origin = origin(baseUrl);
+        ConnectionPoolStats total = ConnectionPoolStats.EMPTY;
+        for (Map.Entry<PoolKey, PooledTransport> entry : transports.entrySet()) {
+            if (entry.getKey().origin().equals(origin)) {
+                ConnectionPoolStats stats = entry.getValue().poolStats();
+                total = new ConnectionPoolStats(total.acquired() + stats.acquired(), total.idle() + stats.idle(),
+                    total.allocated() + stats.allocated(), total.pendingAcquires() + stats.pendingAcquires(),
+                    total.maxConnections() + stats.maxConnections(),
+                    total.maxPendingAcquires() + stats.maxPendingAcquires());
+            }
+        }
+        return total;
+    }
+
+    public int size() {
+        return transports.size();
+    }
+
+    public void close() {
+        transports.values().forEach(PooledTransport::dispose);
+        transports.clear();
+    }
+
+    static String origin(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "http";
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(scheme) ? 443 : 80);
+        return scheme + "://" + host + ":" + port;
+    }
+
+    private PooledTransport createTransport(PoolKey key) {
+        String origin = key.origin();
+        ConnectionPoolConfig config = key.config();
+        if (transports.keySet().stream().anyMatch(existing -> existing.origin().equals(origin))) {
+            log.warn("Origin {} already has a connection pool with different settings, opening another one", origin);
+        }
+        PoolMetricsRegistrar registrar = new PoolMetricsRegistrar();
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("litellm-" + origin)
+            .maxConnections(config.maxConnections())
+            .pendingAcquireMaxCount(config.maxPendingAcquires())
+            .pendingAcquireTimeout(config.pendingAcquireTimeout())
+            .maxIdleTime(config.maxIdleTime())
+            .maxLifeTime(config.maxLifeTime())
+            .evictInBackground(config.evictionInterval())
+            .metrics(true, () -> registrar)
+            .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.connectTimeout().toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, config.keepAlive())
+            .keepAlive(config.keepAlive());
+
+        // HTTP/2 is negotiated through ALPN, so it is only offered on TLS origins
+        if (config.preferHttp2() && origin.startsWith("https://")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return new PooledTransport(httpClient, connectionProvider, registrar);
+    }
+
+    private record PoolKey(String origin, ConnectionPoolConfig config) {
+    }
+
+    private static final class PooledTransport extends ReactorNettyTransport {
+        private final ConnectionProvider connectionProvider;
+        private final PoolMetricsRegistrar registrar;
+
+        private PooledTransport(HttpClient httpClient, ConnectionProvider connectionProvider,
+                                PoolMetricsRegistrar registrar) {
+            super(httpClient);
+            this.connectionProvider = connectionProvider;
+            this.registrar = registrar;
+        }
+
+        @Override
+        public ConnectionPoolStats poolStats() {
+            return registrar.snapshot();
+        }
+
+        // Shared across providers, so only the registry may release the pool
+        @Override
+        public void close() {
+        }
+
+        private void dispose() {
+            connectionProvider.dispose();
+        }
+    }
+
+    private static final class PoolMetricsRegistrar implements ConnectionProvider.MeterRegistrar {
+        private final Map<SocketAddress, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+        @Override
+        public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+                                    ConnectionPoolMetrics metrics) {
+            pools.put(remoteAddress, metrics);
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            pools.remove(remoteAddress);
+        }
+
+        // One origin can resolve to several addresses, each with its own pool
+        private ConnectionPoolStats snapshot() {
+            int acquired = 0;
+            int idle = 0;
+            int allocated = 0;
+            int pending = 0;
+            int maxAllocated = 0;
+            int maxPending = 0;
+            for (ConnectionPoolMetrics metrics : pools.values()) {
+                acquired += metrics.acquiredSize();
+                idle += metrics.idleSize();
+                allocated += metrics.allocatedSize();
+                pending += metrics.pendingAcquireSize();
+                maxAllocated += metrics.maxAllocatedSize();
+                maxPending += metrics.maxPendingAcquireSize();
+            }
+            return new ConnectionPoolStats(acquired, idle, allocated, pending, maxAllocated, maxPending);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.litellm.sdk.provider.transport;
+
+import lombok.Builder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+@Builder(toBuilder = true)
+public record TransportRequest(URI uri, Map<String, String> headers, String body, Duration timeout) {
+    public TransportRequest(
+            URI uri,
+            Map<String, String> headers,
+            String body,
+            Duration timeout
+    ) {
+        if (uri == null) {
+            throw new IllegalArgumentException("Request URI is required");
+        }
+        this.uri = uri;
+        this.headers = headers != null ? Map.copyOf(headers) : Map.of();
+        this.body = body != null ? body : "";
+        this.timeout = timeout != null ? timeout : Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,26 @@
+package com.litellm.sdk.provider.transport;
+
+import java.util.List;
+import java.util.Map;
+
+public record TransportResponse(int statusCode, Map<String, List<String>> headers, String body) {
+    public TransportResponse(int statusCode, Map<String, List<String>> headers, String body) {
+        this.statusCode = statusCode;
+        this.headers = headers != null ? Map.copyOf(headers) : Map.of();
+        this.body = body != null ? body : "";
+    }
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    // Header names are matched case-insensitively, returning the first value
+    public String header(String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().get(0);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.litellm.sdk.retry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-provider token bucket that bounds retries to a fraction of the original traffic.
+ * Every request deposits {@code ratio} tokens and every retry withdraws a whole one, so during an outage
+ * retries stop once the bucket is drained instead of multiplying the load. A slow time-based refill keeps
+ * a trickle of retries available to providers that see little traffic.
+ */
+public final class RetryBudget {
+    private static final long SCALE = 1_000_000L;
+
+    private final long depositMicros;
+    private final long capacityMicros;
+    private final double refillMicrosPerNano;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public RetryBudget(double ratio, int maxTokens, double minPerSecond) {
+        this(ratio, maxTokens, minPerSecond, System::nanoTime);
+    }
+
+    public RetryBudget(double ratio, int maxTokens, double minPerSecond, LongSupplier clock) {
+        this.depositMicros = (long) (ratio * SCALE);
+        this.capacityMicros = maxTokens * SCALE;
+        this.refillMicrosPerNano = minPerSecond * SCALE / 1_000_000_000.0;
+        this.clock = clock;
+    }
+
+    public void recordRequest(String key) {
+        if (depositMicros > 0) {
+            bucket(key).add(depositMicros, capacityMicros);
+        }
+    }
+
+    public boolean tryAcquire(String key) {
+        Bucket bucket = bucket(key);
+        refill(bucket);
+        while (true) {
+            long tokens = bucket.tokens.get();
+            if (tokens < SCALE) {
+                return false;
+            }
+            if (bucket.tokens.compareAndSet(tokens, tokens - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double getAvailableTokens(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return (double) capacityMicros / SCALE;
+        }
+        refill(bucket);
+        return (double) bucket.tokens.get() / SCALE;
+    }
+
+    private void refill(Bucket bucket) {
+        if (refillMicrosPerNano <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long last = bucket.lastRefill.get();
+        long credit = (long) ((now - last) * refillMicrosPerNano);
+        // Only the caller that advances the refill timestamp credits the elapsed time
+        if (credit > 0 && bucket.lastRefill.compareAndSet(last, now)) {
+            bucket.add(credit, capacityMicros);
+        }
+    }
+
+    private Bucket bucket(String key) {
+        Bucket bucket = buckets.get(key);
+        return bucket != null ? bucket : buckets.computeIfAbsent(key, k -> new Bucket(capacityMicros, clock.getAsLong()));
+    }
+
+    private static final class Bucket {
+        private final AtomicLong tokens;
+        private final AtomicLong lastRefill;
+
+        private Bucket(long initialTokens, long now) {
+            this.tokens = new AtomicLong(initialTokens);
+            this.lastRefill = new AtomicLong(now);
+        }
+
+        private void add(long micros, long capacity) {
+            tokens.accumulateAndGet(micros, (current, delta) -> Math.min(capacity, current + delta));
+        }
+    }
+}
@@ -1,58 +1,213 @@
 package com.litellm.sdk.retry;
 
 import com.litellm.sdk.config.RetryConfig;
+import com.litellm.sdk.error.CircuitBreakerOpenException;
 import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.ProviderSaturatedException;
 import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.provider.ProviderErrorClassifier;
+import com.litellm.sdk.provider.transport.TransportException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.io.IOException;
 import java.time.Duration;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+/**
+ * The client's only retry layer. Delays follow the configured backoff strategy, a server-sent Retry-After
+ * takes precedence when it asks for a longer wait, and every retry must be paid for from the failing
+ * provider's {@link RetryBudget} so an outage cannot turn into a retry storm.
+ */
+@Slf4j
 public class RetryPolicy {
+    private static final String DEFAULT_BUDGET_KEY = "default";
+    private static final Supplier<Duration> NO_DEADLINE = () -> null;
+
+    @Getter
     private final RetryConfig config;
-    private final Random random = new Random();
+    @Getter
+    private final RetryBudget budget;
 
     public RetryPolicy(RetryConfig config) {
-        this.config = config;
+        this.config = config != null ? config : RetryConfig.builder().build();
+        this.budget = new RetryBudget(this.config.retryBudgetRatio(), this.config.retryBudgetMaxTokens(),
+            this.config.retryBudgetMinPerSecond());
+    }
+
+    /**
+     * Retries the call under this policy. The first attempt's outcome is deposited into the budget of the provider
+     * that produced it; retries only withdraw.
+     */
+    public <T> Mono<T> apply(Mono<T> call, Function<? super T, String> providerOf) {
+        return apply(call, providerOf, NO_DEADLINE);
+    }
+
+    /**
+     * As {@link #apply(Mono, Function)}, for a call whose attempts share one deadline: no retry is scheduled once
+     * its delay would reach past what {@code remaining} reports is left. {@code remaining} returns null for no deadline.
+     */
+    public <T> Mono<T> apply(Mono<T> call, Function<? super T, String> providerOf, Supplier<Duration> remaining) {
+        return Mono.defer(() -> {
+            AtomicBoolean deposited = new AtomicBoolean(false);
+            return call
+                .doOnNext(value -> deposit(deposited, providerOf.apply(value)))
+                .doOnError(error -> deposit(deposited, providerOf(error)))
+                .retryWhen(buildRetry(this::isRetryable, remaining));
+        });
+    }
+
+    public <T> Flux<T> applyStream(Flux<T> call, Function<? super T, String> providerOf) {
+        return applyStream(call, providerOf, NO_DEADLINE);
+    }
+
+    // Streams are only retried before their first element; afterwards the caller has already seen output
+    public <T> Flux<T> applyStream(Flux<T> call, Function<? super T, String> providerOf, Supplier<Duration> remaining) {
+        return Flux.defer(() -> {
+            AtomicBoolean deposited = new AtomicBoolean(false);
+            AtomicBoolean emitted = new AtomicBoolean(false);
+            return call
+                .doOnNext(value -> {
+                    emitted.set(true);
+                    deposit(deposited, providerOf.apply(value));
+                })
+                .doOnError(error -> deposit(deposited, providerOf(error)))
+                .retryWhen(buildRetry(error -> !emitted.get() && isRetryable(error), remaining));
+        });
     }
 
     public Retry buildRetry(Predicate<Throwable> retryableErrorPredicate) {
-        return Retry.backoff(config.maxAttempts() - 1, config.initialDelay())
-            .maxBackoff(config.maxDelay())
-            .doBeforeRetry(retryBackoff -> {
-                int attempt = (int) retryBackoff.totalRetries() + 1;
-                if (attempt >= config.maxAttempts()) {
-                    throw new RuntimeException("Max retry attempts exceeded");
-                }
-            })
-            .filter(retryableErrorPredicate)
-            .jitter(config.jitter() ? 0.1 : 0.0);
+        return buildRetry(retryableErrorPredicate, NO_DEADLINE);
     }
 
-    public Duration calculateDelay(int attempt) {
-        Duration baseDelay = config.initialDelay();
-        double multiplier = Math.pow(config.exponentialBase(), attempt - 1);
-        long delayMs = (long) (baseDelay.toMillis() * multiplier);
+    public Retry buildRetry(Predicate<Throwable> retryableErrorPredicate, Supplier<Duration> remaining) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            int attempt = (int) signal.totalRetries() + 1;
+            if (attempt >= config.maxAttempts() || !retryableErrorPredicate.test(failure)) {
+                return Mono.error(failure);
+            }
+            Duration delay = delayFor(failure, attempt);
+            if (delay == null) {
+                log.info("Not retrying: Retry-After exceeds max delay {}", config.maxDelay());
+                return Mono.error(failure);
+            }
+            Duration left = remaining.get();
+            if (left != null && delay.compareTo(left) >= 0) {
+                log.info("Not retrying: delay {} reaches past the request deadline", delay);
+                return Mono.error(failure);
+            }
+            String provider = providerOf(failure);
+            if (!budget.tryAcquire(provider)) {
+                log.warn("Retry budget exhausted for provider {}, not retrying", provider);
+                return Mono.error(failure);
+            }
+            log.info("Retry attempt {} with delay {}", attempt, delay);
+            return Mono.delay(delay).thenReturn(attempt);
+        }));
+    }
 
-        delayMs = Math.min(delayMs, config.maxDelay().toMillis());
+    /**
+     * Delay before the given retry (1-based), honoring Retry-After when it is longer than the backoff.
+     * Returns null when the server asks for a longer wait than {@code maxDelay} allows.
+     */
+    public Duration delayFor(Throwable error, int attempt) {
+        Duration backoff = calculateDelay(attempt);
+        Duration retryAfter = retryAfterOf(error);
+        if (retryAfter == null || retryAfter.compareTo(backoff) <= 0) {
+            return backoff;
+        }
+        return retryAfter.compareTo(config.maxDelay()) <= 0 ? retryAfter : null;
+    }
 
-        if (config.jitter()) {
-            double jitterRange = 0.1;
-            double jitter = (random.nextDouble() - 0.5) * 2 * jitterRange;
-            delayMs = (long) (delayMs * (1 + jitter));
+    public Duration calculateDelay(int attempt) {
+        long initialMs = config.initialDelay().toMillis();
+        long capMs = Math.min(config.maxDelay().toMillis(), initialMs * config.maxBackoffFactor());
+        double delayMs = switch (config.backoffStrategy()) {
+            case FIXED -> initialMs;
+            case LINEAR -> (double) initialMs * attempt;
+            case EXPONENTIAL, EXPONENTIAL_WITH_JITTER -> initialMs * Math.pow(config.exponentialBase(), attempt - 1);
+        };
+        delayMs = Math.min(delayMs, capMs);
+
+        if (config.backoffStrategy() == RetryConfig.BackoffStrategy.EXPONENTIAL_WITH_JITTER) {
+            // Full jitter between the initial delay and the exponential ceiling spreads synchronized clients apart
+            delayMs = initialMs + ThreadLocalRandom.current().nextDouble() * (delayMs - initialMs);
+        } else if (config.jitter()) {
+            delayMs *= 1 + (ThreadLocalRandom.current().nextDouble() - 0.5) * 0.2;
         }
 
-        return Duration.ofMillis(Math.max(delayMs, baseDelay.toMillis()));
+        return Duration.ofMillis(Math.max(initialMs, Math.min((long) delayMs, config.maxDelay().toMillis())));
     }
 
+    /**
+     * Walks the cause chain because providers wrap transport failures in RuntimeExceptions. Client-side rejections
+     * (breaker open, concurrency or rate limit with no capacity) are never retried: they exist to shed load, and
+     * the router has already waited out any rate-limit delay its max wait allowed.
+     */
     public boolean isRetryable(Throwable error) {
-        if (error instanceof RateLimitException) {
-            return true;
-        }
-        if (error instanceof ProviderException) {
-            return ((ProviderException) error).isRetryable();
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ProviderSaturatedException || current instanceof CircuitBreakerOpenException) {
+                return false;
+            }
+            if (current instanceof RateLimitException) {
+                return true;
+            }
+            if (current instanceof ProviderException providerException) {
+                return providerException.isRetryable();
+            }
+            if (current instanceof TransportException transportException) {
+                int status = transportException.getStatusCode();
+                return status == 408 || status == 429 || status >= 500;
+            }
+            if (current instanceof IOException || current instanceof TimeoutException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
         }
         return false;
     }
+
+    public static Duration retryAfterOf(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof RateLimitException rateLimit && rateLimit.retryAfter != null) {
+                return rateLimit.retryAfter;
+            }
+            if (current instanceof TransportException transportException) {
+                return ProviderErrorClassifier.retryAfter(transportException.getResponse());
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    private void deposit(AtomicBoolean deposited, String provider) {
+        if (deposited.compareAndSet(false, true)) {
+            budget.recordRequest(provider != null ? provider : DEFAULT_BUDGET_KEY);
+        }
+    }
+
+    private static String providerOf(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ProviderException providerException && providerException.providerId != null) {
+                return providerException.providerId;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return DEFAULT_BUDGET_KEY;
+    }
 }
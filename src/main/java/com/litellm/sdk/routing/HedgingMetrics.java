@@ -0,0 +1,46 @@
+package com.litellm.sdk.routing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for hedged requests. A hedged request starts a second call; whichever loses is cancelled and
+ * counted as wasted, so {@code wastedCount / hedgedCount} shows how much extra load hedging really costs.
+ */
+public final class HedgingMetrics {
+    private final LongAdder hedgedCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+    private final LongAdder wastedCount = new LongAdder();
+    private final LongAdder budgetRejectedCount = new LongAdder();
+
+    void recordHedged() {
+        hedgedCount.increment();
+    }
+
+    void recordHedgeWin() {
+        hedgeWinCount.increment();
+    }
+
+    void recordWasted() {
+        wastedCount.increment();
+    }
+
+    void recordBudgetRejected() {
+        budgetRejectedCount.increment();
+    }
+
+    public long getHedgedCount() {
+        return hedgedCount.sum();
+    }
+
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    public long getWastedCount() {
+        return wastedCount.sum();
+    }
+
+    public long getBudgetRejectedCount() {
+        return budgetRejectedCount.sum();
+    }
+}
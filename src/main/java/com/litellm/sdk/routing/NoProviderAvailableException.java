@@ -0,0 +1,7 @@
+package com.litellm.sdk.routing;
+
+public class NoProviderAvailableException extends RuntimeException {
+    public NoProviderAvailableException() {
+        super("No provider available");
+    }
+}
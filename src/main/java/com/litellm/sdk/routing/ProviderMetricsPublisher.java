@@ -0,0 +1,93 @@
+package com.litellm.sdk.routing;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.strategy.RoutingStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategy.ProviderMetricsSnapshot;
+import com.litellm.sdk.token.CostCalculator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Feeds observed provider latency, success rate and cost back into the routing strategy.
+ * Snapshots are published after every completed call, or at most once per provider per
+ * {@link RoutingStrategyConfig#metricsPublishInterval()} when an interval is configured.
+ */
+final class ProviderMetricsPublisher {
+    private final RoutingStrategy routingStrategy;
+    private final long publishIntervalNanos;
+    private final Map<String, ProviderStats> stats = new ConcurrentHashMap<>();
+
+    ProviderMetricsPublisher(RoutingStrategy routingStrategy) {
+        this.routingStrategy = routingStrategy;
+        RoutingStrategyConfig config = routingStrategy != null ? routingStrategy.getConfig() : null;
+        this.publishIntervalNanos = config != null ? config.metricsPublishInterval().toNanos() : 0;
+    }
+
+    void onSuccess(Provider provider, String model, Usage usage) {
+        ProviderStats providerStats = statsFor(provider);
+        // A model without pricing would read as free and win every cost-routed request
+        if (usage != null && CostCalculator.hasPricing(model)) {
+            providerStats.recordCost(CostCalculator.calculateCost(model,
+                usage.getPromptTokens() != null ? usage.getPromptTokens() : 0,
+                usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0));
+        }
+        publish(provider, providerStats);
+    }
+
+    void onFailure(Provider provider) {
+        publish(provider, statsFor(provider));
+    }
+
+    private ProviderStats statsFor(Provider provider) {
+        return stats.computeIfAbsent(provider.getName(), name -> new ProviderStats());
+    }
+
+    private void publish(Provider provider, ProviderStats providerStats) {
+        if (routingStrategy == null || !providerStats.claimPublish(System.nanoTime(), publishIntervalNanos)) {
+            return;
+        }
+        // Provider metrics are rolling, so the strategy sees recent behaviour rather than lifetime averages
+        Duration latency = provider.getAverageLatency();
+        routingStrategy.updateProviderMetrics(provider.getName(), new ProviderMetricsSnapshot(
+            provider.getName(),
+            latency != null ? latency.toNanos() / 1_000_000.0 : 0.0,
+            provider.getSuccessRate(),
+            providerStats.costPerRequest()));
+    }
+
+    private static final class ProviderStats {
+        private final DoubleAdder totalCost = new DoubleAdder();
+        private final LongAdder pricedRequests = new LongAdder();
+        private final AtomicLong lastPublishNanos = new AtomicLong();
+        private volatile boolean published;
+
+        private void recordCost(double cost) {
+            totalCost.add(cost);
+            pricedRequests.increment();
+        }
+
+        // NaN until a priced call has succeeded, so failures alone never make a provider look cheap
+        private double costPerRequest() {
+            long count = pricedRequests.sum();
+            return count > 0 ? totalCost.sum() / count : Double.NaN;
+        }
+
+        // Only one caller per interval wins the publish, the rest return without touching the strategy
+        private boolean claimPublish(long now, long intervalNanos) {
+            if (intervalNanos <= 0 || !published) {
+                published = true;
+                lastPublishNanos.set(now);
+                return true;
+            }
+            long last = lastPublishNanos.get();
+            return now - last >= intervalNanos && lastPublishNanos.compareAndSet(last, now);
+        }
+    }
+}
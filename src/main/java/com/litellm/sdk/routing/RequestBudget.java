@@ -0,0 +1,79 @@
+package com.litellm.sdk.routing;
+
+import com.litellm.sdk.provider.Provider;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The deadline a request timeout sets for every attempt of one client call, unbounded when there is no timeout,
+ * and the providers that already failed the call so failover and retries do not go back to them. Clients create
+ * one per call through {@link Router#newBudget} and pass it to every retry of that call.
+ */
+public final class RequestBudget {
+    private final long deadlineNanos;
+    private final boolean bounded;
+    // By identity: provider equality covers mutable health
+    private final Set<Provider> failed = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private RequestBudget(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    public static RequestBudget of(Duration timeout) {
+        return timeout != null ? new RequestBudget(System.nanoTime() + timeout.toNanos(), true) : new RequestBudget(0, false);
+    }
+
+    boolean expired() {
+        return bounded && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    // Whether something taking the given time from now would still finish before the deadline
+    boolean allows(long nanos) {
+        return !bounded || System.nanoTime() + nanos - deadlineNanos < 0;
+    }
+
+    // Null when unbounded, never negative otherwise
+    public Duration remaining() {
+        return bounded ? Duration.ofNanos(Math.max(deadlineNanos - System.nanoTime(), 0)) : null;
+    }
+
+    void markFailed(Provider provider) {
+        failed.add(provider);
+    }
+
+    // Empty and allocation free until something has failed
+    Set<Provider> excluded() {
+        return failed.isEmpty() ? Set.of() : failed;
+    }
+
+    // A retry that finds every candidate already failed goes back to all of them rather than to none
+    void startAttempt(List<Provider> candidates) {
+        if (!failed.isEmpty() && !hasUntried(candidates)) {
+            failed.clear();
+        }
+    }
+
+    boolean hasUntried(List<Provider> candidates) {
+        for (Provider candidate : candidates) {
+            if (!failed.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // A copy of the failed providers plus one more, for selections that must also skip it
+    Set<Provider> excludedWith(Provider provider) {
+        Set<Provider> excluded = Collections.newSetFromMap(new IdentityHashMap<>());
+        synchronized (failed) {
+            excluded.addAll(failed);
+        }
+        excluded.add(provider);
+        return excluded;
+    }
+}
@@ -0,0 +1,139 @@
+package com.litellm.sdk.routing;
+
+import com.litellm.sdk.config.HedgingConfig;
+import com.litellm.sdk.provider.Provider;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Races a delayed duplicate against a slow primary call. The hedge fires once the primary has been outstanding
+ * longer than the configured percentile of its observed latency; the first value wins and the other call is
+ * cancelled. Every primary call deposits {@code budgetPercent / 100} of a token and each hedge spends one,
+ * so hedges never add more than that share of extra load, even while a provider is degraded.
+ */
+final class RequestHedger {
+    private static final long TOKEN = 1_000_000L;
+
+    private final HedgingConfig config;
+    private final HedgingMetrics metrics = new HedgingMetrics();
+    private final long depositPerCall;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    RequestHedger(HedgingConfig config) {
+        this.config = config != null ? config : HedgingConfig.builder().build();
+        this.depositPerCall = (long) (this.config.budgetPercent() / 100.0 * TOKEN);
+        this.maxBalance = this.config.maxBurst() * TOKEN;
+        this.balance = new AtomicLong(TOKEN);
+    }
+
+    boolean isEnabled() {
+        return config.enabled();
+    }
+
+    HedgingMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * @param primary        provider already admitted for the primary call
+     * @param hedgeProvider  picks and admits a second provider, or returns null when none is available
+     * @param onHedgeFailure told about a hedge provider whose call failed, so failover can skip it
+     */
+    <T> Mono<T> hedge(Router.Admission primary, Function<Router.Admission, Mono<T>> call,
+                      Supplier<Router.Admission> hedgeProvider, Consumer<Provider> onHedgeFailure) {
+        return Mono.defer(() -> {
+            deposit();
+            AtomicBoolean decided = new AtomicBoolean();
+            AtomicBoolean hedgeLaunched = new AtomicBoolean();
+            AtomicReference<Throwable> lastError = new AtomicReference<>();
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+
+            Mono<T> primaryCall = call.apply(primary)
+                    .doOnNext(value -> decided.set(true))
+                    .doOnError(error -> {
+                        lastError.set(error);
+                        primaryFailed.tryEmitEmpty();
+                    })
+                    .doOnCancel(() -> {
+                        if (hedgeLaunched.get() && decided.get()) {
+                            metrics.recordWasted();
+                        }
+                    });
+
+            Mono<T> hedgeCall = Mono.delay(hedgeDelay(primary.provider()))
+                    .takeUntilOther(primaryFailed.asMono())
+                    .flatMap(tick -> {
+                        if (!tryAcquire()) {
+                            metrics.recordBudgetRejected();
+                            return Mono.<Router.Admission>empty();
+                        }
+                        Router.Admission second = hedgeProvider.get();
+                        if (second == null) {
+                            // Nothing to hedge onto: give the token back, within the same cap as deposits
+                            credit(TOKEN);
+                            return Mono.<Router.Admission>empty();
+                        }
+                        return Mono.just(second);
+                    })
+                    .flatMap(second -> {
+                        hedgeLaunched.set(true);
+                        metrics.recordHedged();
+                        return call.apply(second)
+                                .doOnNext(value -> {
+                                    decided.set(true);
+                                    metrics.recordHedgeWin();
+                                })
+                                .doOnError(error -> {
+                                    lastError.set(error);
+                                    onHedgeFailure.accept(second.provider());
+                                })
+                                .doOnCancel(() -> {
+                                    if (decided.get()) {
+                                        metrics.recordWasted();
+                                    }
+                                });
+                    });
+
+            // Surface the real provider error rather than the race's "all sources failed" wrapper
+            return Mono.firstWithValue(primaryCall, hedgeCall)
+                    .onErrorMap(error -> lastError.get() != null ? lastError.get() : error);
+        });
+    }
+
+    private Duration hedgeDelay(Provider primary) {
+        Duration observed = primary.getLatencyPercentile(config.latencyPercentile());
+        Duration delay = observed == null || observed.isZero() ? config.fallbackDelay() : observed;
+        return delay.compareTo(config.minDelay()) < 0 ? config.minDelay() : delay;
+    }
+
+    private void deposit() {
+        if (depositPerCall > 0) {
+            credit(depositPerCall);
+        }
+    }
+
+    private void credit(long amount) {
+        balance.accumulateAndGet(amount, (current, delta) -> Math.min(current + delta, maxBalance));
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+}
@@ -1,72 +1,504 @@
 package com.litellm.sdk.routing;
 
+import com.litellm.sdk.cache.CacheManager;
+import com.litellm.sdk.cache.CaffeineCache;
+import com.litellm.sdk.cache.MappedFileCache;
+import com.litellm.sdk.cache.SemanticCacheManager;
+import com.litellm.sdk.cache.TieredCache;
+import com.litellm.sdk.config.CacheConfig;
 import com.litellm.sdk.config.ClientConfig;
+import com.litellm.sdk.config.SemanticCacheConfig;
+import com.litellm.sdk.model.common.Usage;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.TextCompletionRequest;
 import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.response.ChatCompletionChunk;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
+import com.litellm.sdk.error.CircuitBreakerOpenException;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.ProviderSaturatedException;
+import com.litellm.sdk.limit.ConcurrencyLimiterRegistry;
+import com.litellm.sdk.limit.RateLimiterRegistry;
+import com.litellm.sdk.limit.TokenEstimator;
 import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.failover.CircuitBreaker;
+import com.litellm.sdk.routing.failover.FailoverManager;
 import com.litellm.sdk.routing.strategy.RoutingStrategy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-public record Router(ClientConfig config, List<Provider> providers, RoutingStrategy routingStrategy) {
+@Slf4j
+public final class Router {
+    private final ClientConfig config;
+    private final List<Provider> providers;
+    private final RoutingStrategy routingStrategy;
+    private final ProviderMetricsPublisher metricsPublisher;
+    private final FailoverManager failoverManager;
+    private final RequestHedger hedger;
+    private final RateLimiterRegistry rateLimiters = new RateLimiterRegistry();
+    private final ConcurrencyLimiterRegistry concurrencyLimiters;
+    private final CacheManager cache;
+    private final SemanticCacheManager semanticCache;
 
+    public Router(ClientConfig config, List<Provider> providers, RoutingStrategy routingStrategy) {
+        this.config = config;
+        this.providers = List.copyOf(providers);
+        this.routingStrategy = routingStrategy;
+        this.metricsPublisher = new ProviderMetricsPublisher(routingStrategy);
+        this.failoverManager = new FailoverManager(config != null ? config.circuitBreaker() : null);
+        this.hedger = new RequestHedger(config != null ? config.hedging() : null);
+        this.concurrencyLimiters = new ConcurrencyLimiterRegistry(config != null ? config.concurrencyLimit() : null);
+        CacheConfig cacheConfig = config != null ? config.cache() : null;
+        this.cache = cacheConfig != null && cacheConfig.enabled() ? createCache(cacheConfig) : null;
+        SemanticCacheConfig semanticConfig = config != null ? config.semanticCache() : null;
+        this.semanticCache = semanticConfig != null && semanticConfig.enabled()
+                ? new SemanticCacheManager(semanticConfig, embedding -> routeEmbedding(this.providers, embedding))
+                : null;
+    }
+
+    // A persistent path adds a memory-mapped L2 behind the in-heap cache; if it cannot be opened, L1 still works
+    private static CacheManager createCache(CacheConfig cacheConfig) {
+        CaffeineCache l1 = new CaffeineCache(cacheConfig);
+        if (cacheConfig.persistentPath() == null) {
+            return l1;
+        }
+        try {
+            return new TieredCache(l1, new MappedFileCache(cacheConfig));
+        } catch (UncheckedIOException e) {
+            log.warn("Persistent cache unavailable, using in-memory cache only: {}", e.getMessage());
+            return l1;
+        }
+    }
+
+    // Selection only: nothing is admitted, so the caller holds no breaker permit, limiter slot or rate-limit tokens
     public Mono<Provider> routeRequest(List<Provider> providers, ChatCompletionRequest request) {
         return Mono.fromCallable(() -> routingStrategy.selectProvider(providers, request))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .switchIfEmpty(Mono.error(new RuntimeException("No provider available")));
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(Mono.error(NoProviderAvailableException::new));
     }
 
+    // Admits a provider; when every candidate is rate limited, waits for capacity if their max wait allows it
+    private Mono<Admission> routeRequest(List<Provider> providers, ChatCompletionRequest request, int estimatedTokens,
+                                        RequestBudget budget, long waitBudgetNanos) {
+        return Mono.fromCallable(() -> admit(providers, budget.excluded(), request, estimatedTokens))
+                .onErrorResume(ProviderSaturatedException.class, saturated -> {
+                    if (saturated.retryAfter == null) {
+                        // Concurrency limits have no predictable wait: fail fast
+                        return Mono.error(saturated);
+                    }
+                    long wait = saturated.retryAfter.toNanos();
+                    long waitBudget = waitBudgetNanos >= 0 ? waitBudgetNanos : rateLimiters.maxWait(saturated.providerId).toNanos();
+                    if (wait > waitBudget || !budget.allows(wait)) {
+                        return Mono.error(saturated);
+                    }
+                    return Mono.delay(Duration.ofNanos(wait))
+                            .then(routeRequest(providers, request, estimatedTokens, budget, waitBudget - wait));
+                })
+                .switchIfEmpty(Mono.error(NoProviderAvailableException::new));
+    }
+
+    /**
+     * Exact matches first, then similar prompts; a semantic hit also fills the exact cache. A cached load may be
+     * shared by callers with different timeouts, so each caller waits only as long as its own timeout allows, and
+     * the load itself is bounded by the client default (or the starting request's timeout, if longer) rather than
+     * by the timeout of whichever caller happened to start it.
+     */
     public Mono<ChatCompletionResponse> routeChatCompletion(List<Provider> providers, ChatCompletionRequest request) {
-        return routeRequest(providers, request)
-                .flatMap(provider -> provider.chatCompletion(request));
+        return Mono.defer(() -> routeChatCompletion(providers, request, newBudget(request.timeout())));
+    }
+
+    // Every subscription is one attempt against the given budget; a client's retries all share the budget of its call
+    public Mono<ChatCompletionResponse> routeChatCompletion(List<Provider> providers, ChatCompletionRequest request,
+                                                            RequestBudget budget) {
+        if (cache == null && semanticCache == null) {
+            return routeUncachedChatCompletion(providers, request, () -> budget);
+        }
+        Supplier<Mono<ChatCompletionResponse>> upstream = () -> routeUncachedChatCompletion(providers, request,
+                () -> RequestBudget.of(sharedTimeoutOf(request.timeout())));
+        Supplier<Mono<ChatCompletionResponse>> load = semanticCache != null
+                ? () -> semanticCache.getOrCompute(request, upstream)
+                : upstream;
+        return Mono.defer(() -> {
+            Duration remaining = budget.remaining();
+            Mono<ChatCompletionResponse> cached = cache != null ? cache.getOrCompute(request, load) : load.get();
+            return remaining != null ? cached.timeout(remaining) : cached;
+        });
+    }
+
+    private Mono<ChatCompletionResponse> routeUncachedChatCompletion(List<Provider> providers, ChatCompletionRequest request,
+                                                                     Supplier<RequestBudget> budgetOf) {
+        return Mono.defer(() -> {
+            int tokens = TokenEstimator.estimate(request);
+            RequestBudget budget = budgetOf.get();
+            return startAttempt(providers, budget).then(routeWithFailover(providers, request, tokens, budget,
+                    admission -> observe(admission, budget, tokens, () -> admission.provider().chatCompletion(request),
+                            response -> recordSuccess(admission.provider(), modelOf(response.model(), request.model()), response.usage(), tokens)),
+                    hedger.isEnabled()));
+        });
+    }
+
+    public Flux<ChatCompletionChunk> routeChatCompletionStream(List<Provider> providers, ChatCompletionRequest request) {
+        return Flux.defer(() -> routeChatCompletionStream(providers, request, newBudget(request.timeout())));
+    }
+
+    public Flux<ChatCompletionChunk> routeChatCompletionStream(List<Provider> providers, ChatCompletionRequest request,
+                                                               RequestBudget budget) {
+        return Flux.defer(() -> startAttempt(providers, budget)
+                .thenMany(streamWithFailover(providers, request, TokenEstimator.estimate(request), budget)));
     }
 
     public Mono<TextCompletionResponse> routeTextCompletion(List<Provider> providers, TextCompletionRequest request) {
-        return Mono.fromCallable(() -> {
-                    ChatCompletionRequest chatReq = ChatCompletionRequest.builder()
-                            .model(request.model())
-                            .messages(List.of(
-                                com.litellm.sdk.model.request.Message.builder()
-                                    .role(com.litellm.sdk.model.request.Message.Role.SYSTEM)
-                                    .content("Text completion routing")
-                                    .build()
-                            ))
-                            .build();
-                    return routingStrategy.selectProvider(providers, chatReq);
-                })
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .flatMap(provider -> provider.textCompletion(request));
+        return Mono.defer(() -> routeTextCompletion(providers, request, newBudget(request.timeout())));
+    }
+
+    public Mono<TextCompletionResponse> routeTextCompletion(List<Provider> providers, TextCompletionRequest request,
+                                                            RequestBudget budget) {
+        ChatCompletionRequest chatReq = ChatCompletionRequest.builder()
+                .model(request.model())
+                .messages(List.of(
+                    com.litellm.sdk.model.request.Message.builder()
+                        .role(com.litellm.sdk.model.request.Message.Role.SYSTEM)
+                        .content("Text completion routing")
+                        .build()
+                ))
+                .build();
+        return Mono.defer(() -> {
+            int tokens = TokenEstimator.estimate(request);
+            return startAttempt(providers, budget).then(routeWithFailover(providers, chatReq, tokens, budget,
+                    admission -> observe(admission, budget, tokens, () -> admission.provider().textCompletion(request),
+                            response -> recordSuccess(admission.provider(), modelOf(response.model(), request.model()), response.usage(), tokens)),
+                    false));
+        });
     }
 
     public Mono<EmbeddingResponse> routeEmbedding(List<Provider> providers, EmbeddingRequest request) {
-        return Mono.fromCallable(() -> {
-                    ChatCompletionRequest chatReq = ChatCompletionRequest.builder()
-                            .model(request.model())
-                            .messages(List.of(
-                                com.litellm.sdk.model.request.Message.builder()
-                                    .role(com.litellm.sdk.model.request.Message.Role.SYSTEM)
-                                    .content("Embedding routing")
-                                    .build()
-                            ))
-                            .build();
-                    return routingStrategy.selectProvider(providers, chatReq);
-                })
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .flatMap(provider -> provider.createEmbedding(request));
+        return Mono.defer(() -> routeEmbedding(providers, request, newBudget(request.timeout())));
+    }
+
+    public Mono<EmbeddingResponse> routeEmbedding(List<Provider> providers, EmbeddingRequest request,
+                                                  RequestBudget budget) {
+        ChatCompletionRequest chatReq = ChatCompletionRequest.builder()
+                .model(request.model())
+                .messages(List.of(
+                    com.litellm.sdk.model.request.Message.builder()
+                        .role(com.litellm.sdk.model.request.Message.Role.SYSTEM)
+                        .content("Embedding routing")
+                        .build()
+                ))
+                .build();
+        return Mono.defer(() -> {
+            int tokens = TokenEstimator.estimate(request);
+            return startAttempt(providers, budget).then(routeWithFailover(providers, chatReq, tokens, budget,
+                    admission -> observe(admission, budget, tokens, () -> admission.provider().createEmbedding(request),
+                            response -> recordSuccess(admission.provider(), modelOf(response.model(), request.model()), response.usage(), tokens)),
+                    false));
+        });
+    }
+
+    /**
+     * The budget for one client call: its deadline is set now from the request timeout (or the client default) and
+     * holds across every retry of the call, as does the record of providers that already failed it.
+     */
+    public RequestBudget newBudget(Duration requestTimeout) {
+        return RequestBudget.of(timeoutOf(requestTimeout));
+    }
+
+    // An attempt that starts past the deadline fails without reaching, or being counted against, any provider
+    private static Mono<Void> startAttempt(List<Provider> providers, RequestBudget budget) {
+        if (budget.expired()) {
+            return Mono.error(new TimeoutException("Request deadline passed before the attempt started"));
+        }
+        budget.startAttempt(providers);
+        return Mono.empty();
+    }
+
+    /**
+     * Runs the call on the selected provider and, when it fails in a way that points at the provider, moves on to
+     * the next candidate chosen by the strategy among those that have not failed for this request yet.
+     * Failover stops when the deadline has passed or nobody is left, surfacing the last provider error.
+     * With hedging, each attempt may race a delayed duplicate on a second provider. The strategy always sees the
+     * full candidate list, with the failed providers excluded, so its per-list state is not rebuilt under failover.
+     */
+    private <T> Mono<T> routeWithFailover(List<Provider> candidates, ChatCompletionRequest routingRequest,
+                                          int estimatedTokens, RequestBudget budget, Function<Admission, Mono<T>> call,
+                                          boolean hedged) {
+        return routeRequest(candidates, routingRequest, estimatedTokens, budget, -1)
+                .flatMap(admission -> {
+                    Provider provider = admission.provider();
+                    Mono<T> attempt = hedged && candidates.size() > 1
+                            ? hedger.hedge(admission, call, () -> admitHedge(candidates, budget, routingRequest, estimatedTokens, provider),
+                                    budget::markFailed)
+                            : call.apply(admission);
+                    return attempt.onErrorResume(FailoverManager::shouldFailOver, error -> {
+                        // Remembered even when this attempt cannot fail over, so a client retry tries someone else
+                        budget.markFailed(provider);
+                        if (!canFailOver(error, candidates, budget) || !budget.hasUntried(candidates)) {
+                            return Mono.error(error);
+                        }
+                        log.warn("Provider {} failed, failing over: {}", provider.getName(), error.getMessage());
+                        return routeWithFailover(candidates, routingRequest, estimatedTokens, budget, call, hedged)
+                                .onErrorMap(Router::isNoCandidate, next -> error);
+                    });
+                });
+    }
+
+    private Admission admitHedge(List<Provider> candidates, RequestBudget budget, ChatCompletionRequest routingRequest,
+                                 int estimatedTokens, Provider primary) {
+        try {
+            return admit(candidates, budget.excludedWith(primary), routingRequest, estimatedTokens);
+        } catch (ProviderException e) {
+            // Breakers open or rate limits reached everywhere else: no hedge
+            return null;
+        }
+    }
+
+    // Streams only fail over before the first chunk; after that the caller has seen output from this provider
+    private Flux<ChatCompletionChunk> streamWithFailover(List<Provider> candidates, ChatCompletionRequest request,
+                                                         int estimatedTokens, RequestBudget budget) {
+        return routeRequest(candidates, request, estimatedTokens, budget, -1)
+                .flatMapMany(admission -> {
+                    Provider provider = admission.provider();
+                    boolean[] emitted = new boolean[1];
+                    return observeStream(admission, budget, request, estimatedTokens)
+                            .doOnNext(chunk -> emitted[0] = true)
+                            .onErrorResume(error -> !emitted[0] && FailoverManager.shouldFailOver(error), error -> {
+                                budget.markFailed(provider);
+                                if (!canFailOver(error, candidates, budget) || !budget.hasUntried(candidates)) {
+                                    return Flux.error(error);
+                                }
+                                log.warn("Provider {} failed before streaming, failing over: {}", provider.getName(), error.getMessage());
+                                return streamWithFailover(candidates, request, estimatedTokens, budget)
+                                        .onErrorMap(Router::isNoCandidate, next -> error);
+                            });
+                });
+    }
+
+    private Flux<ChatCompletionChunk> observeStream(Admission admission, RequestBudget budget, ChatCompletionRequest request,
+                                                    int estimatedTokens) {
+        Provider provider = admission.provider();
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            Usage[] lastUsage = new Usage[1];
+            routingStrategy.onRequestStart(provider);
+            Flux<ChatCompletionChunk> stream = provider.chatCompletionStream(request);
+            Duration remaining = budget.remaining();
+            if (remaining != null) {
+                // The deadline bounds the wait for the first chunk, the span in which the stream can still fail over
+                stream = stream.timeout(Mono.delay(remaining), chunk -> Mono.never());
+            }
+            return stream
+                    .doOnNext(chunk -> {
+                        if (chunk.usage() != null) {
+                            lastUsage[0] = chunk.usage();
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        long latency = System.nanoTime() - start;
+                        admission.permit().onSuccess(latency);
+                        concurrencyLimiters.onSuccess(provider, latency);
+                        recordSuccess(provider, request.model(), lastUsage[0], estimatedTokens);
+                    })
+                    .doOnError(error -> {
+                        long latency = System.nanoTime() - start;
+                        failoverManager.onError(admission.permit(), latency, error);
+                        concurrencyLimiters.onError(provider, latency, error);
+                        rateLimiters.onError(provider, estimatedTokens, error);
+                        metricsPublisher.onFailure(provider);
+                    })
+                    .doOnCancel(() -> {
+                        admission.permit().onIgnored();
+                        concurrencyLimiters.onCancel(provider);
+                    })
+                    .doFinally(signal -> routingStrategy.onRequestComplete(provider,
+                            System.nanoTime() - start, signal == SignalType.ON_COMPLETE));
+        });
+    }
+
+    private void recordSuccess(Provider provider, String model, Usage usage, int estimatedTokens) {
+        rateLimiters.onSuccess(provider, estimatedTokens, usage);
+        metricsPublisher.onSuccess(provider, model, usage);
+    }
+
+    private boolean canFailOver(Throwable error, List<Provider> candidates, RequestBudget budget) {
+        return candidates.size() > 1
+                && !budget.expired()
+                && FailoverManager.shouldFailOver(error);
+    }
+
+    private static boolean isNoCandidate(Throwable error) {
+        return error instanceof NoProviderAvailableException || error instanceof CircuitBreakerOpenException
+                || error instanceof ProviderSaturatedException;
+    }
+
+    // Request timeout wins over the client default; zero or negative means no deadline
+    private Duration timeoutOf(Duration requestTimeout) {
+        Duration timeout = requestTimeout != null ? requestTimeout : config != null ? config.timeout() : null;
+        return timeout != null && !timeout.isZero() && !timeout.isNegative() ? timeout : null;
+    }
+
+    // Without a client default the shared load is left to the transport timeout: no caller's deadline may cut it short
+    private Duration sharedTimeoutOf(Duration requestTimeout) {
+        Duration own = timeoutOf(requestTimeout);
+        Duration fallback = timeoutOf(null);
+        if (own == null || fallback == null) {
+            return fallback;
+        }
+        return own.compareTo(fallback) >= 0 ? own : fallback;
+    }
+
+    /**
+     * Asks the strategy for a provider and admits it through its circuit breaker, concurrency limit and rate limiter;
+     * null when the strategy has none. A rejected provider makes the strategy pick again among the others before
+     * failing fast, with the shortest rate-limit wait when any candidate was only saturated.
+     */
+    private Admission admit(List<Provider> providers, Set<Provider> excluded, ChatCompletionRequest request,
+                            int estimatedTokens) throws ProviderException {
+        Optional<Provider> selected = routingStrategy.selectProvider(providers, request, excluded);
+        if (selected.isEmpty()) {
+            return null;
+        }
+
+        Set<Provider> rejected = null;
+        Provider candidate = selected.get();
+        Provider saturated = null;
+        Provider atConcurrencyLimit = null;
+        long shortestWait = Long.MAX_VALUE;
+        while (true) {
+            CircuitBreaker.Permit permit = failoverManager.acquire(candidate);
+            if (permit != null) {
+                if (!concurrencyLimiters.tryAcquire(candidate)) {
+                    atConcurrencyLimit = candidate;
+                } else {
+                    long wait = rateLimiters.tryAcquire(candidate, estimatedTokens);
+                    if (wait == 0) {
+                        return new Admission(candidate, permit);
+                    }
+                    concurrencyLimiters.onCancel(candidate);
+                    if (wait < shortestWait) {
+                        shortestWait = wait;
+                        saturated = candidate;
+                    }
+                }
+                // Hand back the breaker permission so a half-open probe slot is not lost
+                permit.onIgnored();
+            }
+            if (rejected == null) {
+                rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+                rejected.addAll(excluded);
+            }
+            // A strategy handing back a provider it was told to skip has nothing else to offer
+            if (!rejected.add(candidate)) {
+                break;
+            }
+            Optional<Provider> next = routingStrategy.selectProvider(providers, request, rejected);
+            if (next.isEmpty()) {
+                break;
+            }
+            candidate = next.get();
+        }
+        if (saturated != null) {
+            throw new ProviderSaturatedException(saturated.getName(), Duration.ofNanos(shortestWait));
+        }
+        if (atConcurrencyLimit != null) {
+            throw new ProviderSaturatedException(atConcurrencyLimit.getName(), null);
+        }
+        throw new CircuitBreakerOpenException(selected.get().getName());
+    }
+
+    public ConcurrencyLimiterRegistry concurrencyLimiters() {
+        return concurrencyLimiters;
+    }
+
+    public RateLimiterRegistry rateLimiters() {
+        return rateLimiters;
+    }
+
+    // Null when response caching is disabled
+    public CacheManager cache() {
+        return cache;
+    }
+
+    // Null when the semantic cache is disabled
+    public SemanticCacheManager semanticCache() {
+        return semanticCache;
+    }
+
+    public HedgingMetrics hedgingMetrics() {
+        return hedger.metrics();
+    }
+
+    public FailoverManager failoverManager() {
+        return failoverManager;
+    }
+
+    public ClientConfig config() {
+        return config;
     }
 
-    @Override
     public List<Provider> providers() {
-        return List.copyOf(providers);
+        return providers;
+    }
+
+    public RoutingStrategy routingStrategy() {
+        return routingStrategy;
+    }
+
+    /**
+     * Brackets a provider call with the strategy's load hooks and publishes the outcome. The call is bounded by what
+     * is left of the deadline, so a provider that hangs past it fails with a timeout that counts against it; only
+     * real cancellations, such as a losing hedge or the caller going away, are reported as ignored.
+     */
+    private <T> Mono<T> observe(Admission admission, RequestBudget budget, int estimatedTokens, Supplier<Mono<T>> call,
+                                Consumer<T> onSuccess) {
+        Provider provider = admission.provider();
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            routingStrategy.onRequestStart(provider);
+            Duration remaining = budget.remaining();
+            return (remaining != null ? call.get().timeout(remaining) : call.get())
+                    .doOnNext(onSuccess)
+                    .doOnSuccess(value -> {
+                        long latency = System.nanoTime() - start;
+                        admission.permit().onSuccess(latency);
+                        concurrencyLimiters.onSuccess(provider, latency);
+                    })
+                    .doOnError(error -> {
+                        long latency = System.nanoTime() - start;
+                        failoverManager.onError(admission.permit(), latency, error);
+                        concurrencyLimiters.onError(provider, latency, error);
+                        rateLimiters.onError(provider, estimatedTokens, error);
+                        metricsPublisher.onFailure(provider);
+                    })
+                    .doOnCancel(() -> {
+                        admission.permit().onIgnored();
+                        concurrencyLimiters.onCancel(provider);
+                    })
+                    .doFinally(signal -> routingStrategy.onRequestComplete(provider,
+                            System.nanoTime() - start, signal == SignalType.ON_COMPLETE));
+        });
+    }
+
+    // A provider admitted for one call, with the breaker permit its outcome is reported through
+    record Admission(Provider provider, CircuitBreaker.Permit permit) {
+    }
+
+    private static String modelOf(String responseModel, String requestModel) {
+        return responseModel != null ? responseModel : requestModel;
     }
 }
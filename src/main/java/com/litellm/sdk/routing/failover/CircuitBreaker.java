@@ -0,0 +1,259 @@
+package com.litellm.sdk.routing.failover;
+
+import com.litellm.sdk.config.CircuitBreakerConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free circuit breaker with closed, open and half-open states.
+ * While closed, outcomes go into a count-based sliding window; once it holds the minimum number of calls and
+ * the failure or slow-call rate reaches its threshold the breaker opens and rejects calls. After the open wait
+ * it lets a limited number of probes through in half-open state: all succeeding closes it, any failure reopens it.
+ * State changes are a single CAS on an immutable state object, so only one caller ever performs a transition.
+ * A {@link Permit} remembers the state it was admitted under, so outcomes of calls that outlived it are dropped.
+ */
+public final class CircuitBreaker {
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+    private static final int SLOW = 4;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final long slowCallNanos;
+    private final long waitNanos;
+    private final LongSupplier clock;
+    private final BiConsumer<CircuitBreaker, State> transitionListener;
+    private final AtomicReference<Phase> phase;
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config, BiConsumer<CircuitBreaker, State> transitionListener) {
+        this(name, config, transitionListener, System::nanoTime);
+    }
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config, BiConsumer<CircuitBreaker, State> transitionListener,
+                          LongSupplier clock) {
+        this.name = name;
+        this.config = config;
+        this.slowCallNanos = config.slowCallDuration().toNanos();
+        this.waitNanos = config.waitDurationInOpenState().toNanos();
+        this.clock = clock;
+        this.transitionListener = transitionListener;
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, new Window(config.slidingWindowSize()), 0));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    // Rates over the current closed window, or 0 outside the closed state
+    public double getFailureRate() {
+        Phase current = phase.get();
+        return current.state == State.CLOSED ? current.window.failureRate() : 0.0;
+    }
+
+    public double getSlowCallRate() {
+        Phase current = phase.get();
+        return current.state == State.CLOSED ? current.window.slowRate() : 0.0;
+    }
+
+    /**
+     * Returns true when a call may proceed. Every permitted call must be followed by exactly one of
+     * {@link #onSuccess}, {@link #onError} or {@link #onIgnored}, or a half-open probe slot leaks.
+     * Prefer {@link #tryAcquire()}, whose permit only reports into the state it was admitted under.
+     */
+    public boolean tryAcquirePermission() {
+        return tryAcquire() != null;
+    }
+
+    // Null when the call is rejected
+    public Permit tryAcquire() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return new Permit(this, current);
+                case OPEN:
+                    if (clock.getAsLong() - current.openedAt < waitNanos) {
+                        return null;
+                    }
+                    transition(current, State.HALF_OPEN);
+                    continue;
+                default:
+                    // Rejected callers must not take a slot, or a released probe could never be replaced
+                    int permitted = config.permittedCallsInHalfOpenState();
+                    int previous = current.probes.getAndUpdate(probes -> probes < permitted ? probes + 1 : probes);
+                    return previous < permitted ? new Permit(this, current) : null;
+            }
+        }
+    }
+
+    // Moves an open breaker whose wait has elapsed to half-open without consuming a probe
+    public void transitionToHalfOpenIfReady() {
+        Phase current = phase.get();
+        if (current.state == State.OPEN && clock.getAsLong() - current.openedAt >= waitNanos) {
+            transition(current, State.HALF_OPEN);
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        record(null, latencyNanos >= slowCallNanos ? SUCCESS | SLOW : SUCCESS);
+    }
+
+    public void onError(long latencyNanos) {
+        record(null, latencyNanos >= slowCallNanos ? FAILURE | SLOW : FAILURE);
+    }
+
+    // The call ended without telling anything about provider health (cancelled, client error); frees its probe slot
+    public void onIgnored() {
+        release(null);
+    }
+
+    public void reset() {
+        Phase current = phase.get();
+        if (current.state != State.CLOSED) {
+            transition(current, State.CLOSED);
+        }
+    }
+
+    // A call admitted under an earlier phase says nothing about the current one
+    private void record(Phase admittedIn, int outcome) {
+        Phase current = phase.get();
+        if (admittedIn != null && admittedIn != current) {
+            return;
+        }
+        if (current.state == State.CLOSED) {
+            Window window = current.window;
+            window.record(outcome);
+            if (window.total() >= config.minimumNumberOfCalls()
+                    && (window.failureRate() >= config.failureRateThreshold()
+                        || window.slowRate() >= config.slowCallRateThreshold())) {
+                transition(current, State.OPEN);
+            }
+        } else if (current.state == State.HALF_OPEN) {
+            if ((outcome & (FAILURE | SLOW)) != 0) {
+                transition(current, State.OPEN);
+            } else if (current.successes.incrementAndGet() >= config.permittedCallsInHalfOpenState()) {
+                transition(current, State.CLOSED);
+            }
+        }
+        // Results arriving while open came from calls admitted before the breaker tripped and are dropped
+    }
+
+    private void release(Phase admittedIn) {
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN && (admittedIn == null || admittedIn == current)) {
+            current.probes.getAndUpdate(probes -> probes > 0 ? probes - 1 : 0);
+        }
+    }
+
+    private void transition(Phase from, State to) {
+        Phase next = switch (to) {
+            case CLOSED -> new Phase(State.CLOSED, new Window(config.slidingWindowSize()), 0);
+            case OPEN -> new Phase(State.OPEN, null, clock.getAsLong());
+            case HALF_OPEN -> new Phase(State.HALF_OPEN, null, from.openedAt);
+        };
+        if (phase.compareAndSet(from, next) && transitionListener != null) {
+            transitionListener.accept(this, to);
+        }
+    }
+
+    /**
+     * Admission to one call. Report its outcome exactly once; a null breaker makes every report a no-op,
+     * which is what callers get when circuit breaking is disabled.
+     */
+    public static final class Permit {
+        public static final Permit UNTRACKED = new Permit(null, null);
+
+        private final CircuitBreaker breaker;
+        private final Phase admittedIn;
+
+        private Permit(CircuitBreaker breaker, Phase admittedIn) {
+            this.breaker = breaker;
+            this.admittedIn = admittedIn;
+        }
+
+        public void onSuccess(long latencyNanos) {
+            if (breaker != null) {
+                breaker.record(admittedIn, latencyNanos >= breaker.slowCallNanos ? SUCCESS | SLOW : SUCCESS);
+            }
+        }
+
+        public void onError(long latencyNanos) {
+            if (breaker != null) {
+                breaker.record(admittedIn, latencyNanos >= breaker.slowCallNanos ? FAILURE | SLOW : FAILURE);
+            }
+        }
+
+        public void onIgnored() {
+            if (breaker != null) {
+                breaker.release(admittedIn);
+            }
+        }
+    }
+
+    private static final class Phase {
+        private final State state;
+        private final Window window;
+        private final long openedAt;
+        private final AtomicInteger probes = new AtomicInteger();
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(State state, Window window, long openedAt) {
+            this.state = state;
+            this.window = window;
+            this.openedAt = openedAt;
+        }
+    }
+
+    // Ring of the last N outcomes; counters are adjusted by the delta between the replaced and the new slot
+    private static final class Window {
+        private final AtomicIntegerArray slots;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slow = new AtomicInteger();
+
+        private Window(int size) {
+            this.slots = new AtomicIntegerArray(size);
+        }
+
+        private void record(int outcome) {
+            int slot = (int) (cursor.getAndIncrement() % slots.length());
+            int previous = slots.getAndSet(slot, outcome);
+            if (previous == EMPTY) {
+                total.incrementAndGet();
+            }
+            failures.addAndGet(((outcome & FAILURE) != 0 ? 1 : 0) - ((previous & FAILURE) != 0 ? 1 : 0));
+            slow.addAndGet(((outcome & SLOW) != 0 ? 1 : 0) - ((previous & SLOW) != 0 ? 1 : 0));
+        }
+
+        private int total() {
+            return total.get();
+        }
+
+        private double failureRate() {
+            int count = total.get();
+            return count > 0 ? (double) failures.get() / count : 0.0;
+        }
+
+        private double slowRate() {
+            int count = total.get();
+            return count > 0 ? (double) slow.get() / count : 0.0;
+        }
+    }
+}
@@ -1,84 +1,138 @@
 package com.litellm.sdk.routing.failover;
 
-import com.litellm.sdk.config.RetryConfig;
+import com.litellm.sdk.config.CircuitBreakerConfig;
 import com.litellm.sdk.error.ProviderException;
 import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.error.ValidationException;
 import com.litellm.sdk.provider.Provider;
-import com.litellm.sdk.provider.ProviderHealth;
-import lombok.RequiredArgsConstructor;
+import com.litellm.sdk.provider.ProviderHealth.HealthStatus;
+import com.litellm.sdk.provider.transport.TransportException;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
-import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Keeps one {@link CircuitBreaker} per provider and mirrors its state onto the provider's health:
+ * open marks the provider unhealthy so strategies route around it, half-open and closed mark it healthy again.
+ * Only failures that say something about the provider count; client errors and rate limits are ignored.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class FailoverManager {
-    private final RetryConfig retryConfig;
-    private final ConcurrentHashMap<String, CircuitBreakerState> circuitBreakers = new ConcurrentHashMap<>();
+    @Getter
+    private final CircuitBreakerConfig config;
+    private final ConcurrentHashMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
 
-    public <T> Mono<T> executeWithFailover(List<Provider> providers, Mono<T> request) {
-        return request
-            .onErrorResume(throwable -> handleFailure(providers, throwable));
+    public FailoverManager(CircuitBreakerConfig config) {
+        this.config = config != null ? config : CircuitBreakerConfig.builder().build();
     }
 
-    private <T> Mono<T> handleFailure(List<Provider> providers, Throwable throwable) {
-        if (throwable instanceof RateLimitException rateLimitException) {
-            return handleRateLimit(providers, rateLimitException);
-        } else if (throwable instanceof ProviderException providerException) {
-            return handleProviderFailure(providers, providerException);
-        } else {
-            log.warn("Unexpected error during request: {}", throwable.getMessage());
-            return Mono.error(throwable);
-        }
+    public boolean tryAcquirePermission(Provider provider) {
+        return !config.enabled() || circuitBreaker(provider).tryAcquirePermission();
     }
 
-    private <T> Mono<T> handleRateLimit(List<Provider> providers, RateLimitException rateLimitException) {
-        String providerId = rateLimitException.providerId;
-        log.warn("Rate limit hit for provider: {}. Waiting {} before retry",
-            providerId, rateLimitException.retryAfter);
-
-        circuitBreakers.putIfAbsent(providerId, new CircuitBreakerState());
+    // Null when the breaker rejects the call; a no-op permit when circuit breaking is disabled
+    public CircuitBreaker.Permit acquire(Provider provider) {
+        return config.enabled() ? circuitBreaker(provider).tryAcquire() : CircuitBreaker.Permit.UNTRACKED;
+    }
 
-        return Mono.delay(rateLimitException.retryAfter)
-            .flatMap(ignored -> Mono.<T>error(new RuntimeException("Retry after rate limit")));
+    public void onError(CircuitBreaker.Permit permit, long latencyNanos, Throwable error) {
+        if (isProviderFailure(error)) {
+            permit.onError(latencyNanos);
+        } else {
+            permit.onIgnored();
+        }
     }
 
-    private <T> Mono<T> handleProviderFailure(List<Provider> providers, ProviderException providerException) {
-        String providerId = providerException.providerId;
-        log.warn("Provider failure for {}: {}", providerId, providerException.getMessage());
+    public void onSuccess(Provider provider, long latencyNanos) {
+        if (config.enabled()) {
+            circuitBreaker(provider).onSuccess(latencyNanos);
+        }
+    }
 
-        CircuitBreakerState state = circuitBreakers.computeIfAbsent(providerId, k -> new CircuitBreakerState());
-        state.recordFailure();
+    public void onError(Provider provider, long latencyNanos, Throwable error) {
+        if (!config.enabled()) {
+            return;
+        }
+        CircuitBreaker breaker = circuitBreaker(provider);
+        if (isProviderFailure(error)) {
+            breaker.onError(latencyNanos);
+        } else {
+            breaker.onIgnored();
+        }
+    }
 
-        if (state.isOpen()) {
-            state.markUnhealthy();
-            log.error("Circuit breaker opened for provider: {}", providerId);
-            return Mono.error(new RuntimeException("Circuit breaker opened for provider"));
+    public void onCancel(Provider provider) {
+        if (config.enabled()) {
+            circuitBreaker(provider).onIgnored();
         }
+    }
 
-        return Mono.error(providerException);
+    public Optional<CircuitBreaker> getCircuitBreaker(String providerName) {
+        return Optional.ofNullable(circuitBreakers.get(providerName));
     }
 
-    private static class CircuitBreakerState {
-        private int failureCount = 0;
-        private long lastFailureTime = 0;
-        private static final int FAILURE_THRESHOLD = 5;
-        private static final Duration OPEN_DURATION = Duration.ofSeconds(60);
+    public CircuitBreaker circuitBreaker(Provider provider) {
+        CircuitBreaker breaker = circuitBreakers.get(provider.getName());
+        return breaker != null ? breaker : circuitBreakers.computeIfAbsent(provider.getName(),
+            name -> new CircuitBreaker(name, config, (cb, state) -> onTransition(provider, cb, state)));
+    }
 
-        public void recordFailure() {
-            failureCount++;
-            lastFailureTime = System.currentTimeMillis();
+    // Walks the cause chain because providers wrap transport failures in RuntimeExceptions
+    public static boolean isProviderFailure(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof RateLimitException || current instanceof ValidationException
+                    || current instanceof IllegalArgumentException) {
+                return false;
+            }
+            if (current instanceof ProviderException providerException) {
+                return providerException.isRetryable();
+            }
+            if (current instanceof TransportException transportException) {
+                int status = transportException.getStatusCode();
+                return status >= 500 || status == 408;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
         }
+        // Connection failures, timeouts and anything else unexpected count against the provider
+        return true;
+    }
 
-        public boolean isOpen() {
-            return failureCount >= FAILURE_THRESHOLD &&
-                System.currentTimeMillis() - lastFailureTime < OPEN_DURATION.toMillis();
+    // Rate limits do not count against the breaker, but another provider may still have capacity
+    public static boolean shouldFailOver(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof RateLimitException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
         }
+        return isProviderFailure(error);
+    }
 
-        public void markUnhealthy() {
+    private void onTransition(Provider provider, CircuitBreaker breaker, CircuitBreaker.State state) {
+        switch (state) {
+            case OPEN -> {
+                log.warn("Circuit breaker opened for provider: {}", breaker.getName());
+                provider.updateHealth(HealthStatus.UNHEALTHY, "Circuit breaker open");
+                // Bring the provider back into rotation for probing once the wait elapses
+                Schedulers.parallel().schedule(breaker::transitionToHalfOpenIfReady,
+                    config.waitDurationInOpenState().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            case HALF_OPEN -> {
+                log.info("Circuit breaker half-open for provider: {}", breaker.getName());
+                provider.updateHealth(HealthStatus.HEALTHY, "Circuit breaker half-open");
+            }
+            case CLOSED -> {
+                log.info("Circuit breaker closed for provider: {}", breaker.getName());
+                provider.updateHealth(HealthStatus.HEALTHY, null);
+            }
         }
     }
 }
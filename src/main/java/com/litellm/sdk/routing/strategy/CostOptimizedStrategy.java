@@ -5,49 +5,83 @@ import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.provider.Provider;
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Routes to the healthy provider with the lowest observed cost per request. Providers whose cost is not known
+ * yet get one request in {@value #EXPLORATION_INTERVAL} so it can be observed, rather than being treated as free;
+ * they get every request only while no provider's cost is known.
+ */
 @RequiredArgsConstructor
 public class CostOptimizedStrategy implements RoutingStrategy {
+    private static final int EXPLORATION_INTERVAL = 20;
+
     private final RoutingStrategyConfig config;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong explorations = new AtomicLong();
     private final Map<String, ProviderMetricsSnapshot> providerMetrics = new ConcurrentHashMap<>();
+    private volatile ProviderSnapshot snapshot = ProviderSnapshot.EMPTY;
 
     @Override
     public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request) {
-        if (availableProviders == null || availableProviders.isEmpty()) {
-            return Optional.empty();
-        }
-
-        List<Provider> healthyProviders = availableProviders.stream()
-            .filter(Provider::isHealthy)
-            .toList();
+        return selectProvider(availableProviders, request, Set.of());
+    }
 
-        if (healthyProviders.isEmpty()) {
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                             Set<Provider> excluded) {
+        ProviderSnapshot previous = snapshot;
+        ProviderSnapshot current = previous.refresh(availableProviders);
+        if (current != previous) {
+            snapshot = current;
+        }
+        if (!current.hasHealthy()) {
             return Optional.empty();
         }
 
-        if (providerMetrics.isEmpty()) {
-            return healthyProviders.stream().findFirst();
+        int cheapest = -1;
+        double cheapestCost = Double.POSITIVE_INFINITY;
+        int unknown = 0;
+        for (int i = 0; i < current.healthyCount(); i++) {
+            if (excluded.contains(current.healthy(i))) {
+                continue;
+            }
+            if (providerMetrics.isEmpty()) {
+                return current.select(i);
+            }
+            double cost = getAverageCost(current.healthy(i));
+            if (Double.isNaN(cost)) {
+                unknown++;
+            } else if (cost < cheapestCost) {
+                cheapest = i;
+                cheapestCost = cost;
+            }
+        }
+        if (unknown > 0 && (cheapest < 0 || requests.getAndIncrement() % EXPLORATION_INTERVAL == 0)) {
+            return current.select(nthUnknown(current, excluded, (int) (explorations.getAndIncrement() % unknown)));
         }
+        return cheapest >= 0 ? current.select(cheapest) : Optional.empty();
+    }
 
-        return healthyProviders.stream()
-            .min((p1, p2) -> {
-                BigDecimal cost1 = getAverageCost(p1);
-                BigDecimal cost2 = getAverageCost(p2);
-                return cost1.compareTo(cost2);
-            });
+    private int nthUnknown(ProviderSnapshot current, Set<Provider> excluded, int n) {
+        for (int i = 0; i < current.healthyCount(); i++) {
+            Provider provider = current.healthy(i);
+            if (!excluded.contains(provider) && Double.isNaN(getAverageCost(provider)) && n-- == 0) {
+                return i;
+            }
+        }
+        return 0;
     }
 
-    private BigDecimal getAverageCost(Provider provider) {
+    // NaN when the provider's cost is not known yet: no snapshot, or no priced successful call so far
+    private double getAverageCost(Provider provider) {
         ProviderMetricsSnapshot metrics = providerMetrics.get(provider.getName());
-        if (metrics == null) {
-            return new BigDecimal("1.0");
-        }
-        return new BigDecimal(metrics.costPerRequest());
+        return metrics != null ? metrics.costPerRequest() : Double.NaN;
     }
 
     @Override
@@ -0,0 +1,67 @@
+package com.litellm.sdk.routing.strategy;
+
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.provider.Provider;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Sends all traffic to the healthy provider with the best {@link ProviderConfig#priority()}.
+ * Lower values win; providers without a priority come last, and ties keep their configured order.
+ */
+@RequiredArgsConstructor
+public class FailoverStrategy implements RoutingStrategy {
+    private final RoutingStrategyConfig config;
+    private volatile ProviderSnapshot snapshot = ProviderSnapshot.EMPTY;
+
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request) {
+        return selectProvider(availableProviders, request, Set.of());
+    }
+
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                             Set<Provider> excluded) {
+        ProviderSnapshot previous = snapshot;
+        ProviderSnapshot current = previous.refresh(availableProviders);
+        if (current != previous) {
+            snapshot = current;
+        }
+        if (!current.hasHealthy()) {
+            return Optional.empty();
+        }
+
+        int selected = -1;
+        int selectedPriority = Integer.MAX_VALUE;
+        for (int i = 0; i < current.healthyCount(); i++) {
+            if (excluded.contains(current.healthy(i))) {
+                continue;
+            }
+            int priority = getPriority(current.healthy(i));
+            if (selected < 0 || priority < selectedPriority) {
+                selected = i;
+                selectedPriority = priority;
+            }
+        }
+        return selected >= 0 ? current.select(selected) : Optional.empty();
+    }
+
+    private int getPriority(Provider provider) {
+        ProviderConfig providerConfig = provider.getConfig();
+        return providerConfig != null && providerConfig.priority() != null ? providerConfig.priority() : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public RoutingStrategyConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public void updateProviderMetrics(String providerId, ProviderMetricsSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.litellm.sdk.routing.strategy;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.provider.Provider;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Consults the fallback strategy whenever the primary one cannot pick a provider or fails while choosing.
+ * Metrics are forwarded to both so the fallback is warm when it takes over.
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class FallbackStrategy implements RoutingStrategy {
+    private final RoutingStrategy primary;
+    private final RoutingStrategy fallback;
+
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request) {
+        return selectProvider(availableProviders, request, Set.of());
+    }
+
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                             Set<Provider> excluded) {
+        try {
+            Optional<Provider> selected = primary.selectProvider(availableProviders, request, excluded);
+            if (selected.isPresent()) {
+                return selected;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Primary routing strategy failed, using fallback strategy", e);
+        }
+        return fallback.selectProvider(availableProviders, request, excluded);
+    }
+
+    @Override
+    public RoutingStrategyConfig getConfig() {
+        return primary.getConfig();
+    }
+
+    @Override
+    public void updateProviderMetrics(String providerId, ProviderMetricsSnapshot snapshot) {
+        primary.updateProviderMetrics(providerId, snapshot);
+        fallback.updateProviderMetrics(providerId, snapshot);
+    }
+
+    @Override
+    public void onRequestStart(Provider provider) {
+        primary.onRequestStart(provider);
+        fallback.onRequestStart(provider);
+    }
+
+    @Override
+    public void onRequestComplete(Provider provider, long latencyNanos, boolean success) {
+        primary.onRequestComplete(provider, latencyNanos, success);
+        fallback.onRequestComplete(provider, latencyNanos, success);
+    }
+}
@@ -5,49 +5,63 @@ import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.provider.Provider;
 import lombok.RequiredArgsConstructor;
 
-import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 public class LatencyBasedStrategy implements RoutingStrategy {
+    private static final double MIN_SUCCESS_RATE = 0.01;
+
     private final RoutingStrategyConfig config;
     private final Map<String, ProviderMetricsSnapshot> providerMetrics = new ConcurrentHashMap<>();
+    private volatile ProviderSnapshot snapshot = ProviderSnapshot.EMPTY;
 
     @Override
     public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request) {
-        if (availableProviders == null || availableProviders.isEmpty()) {
-            return Optional.empty();
-        }
-
-        List<Provider> healthyProviders = availableProviders.stream()
-            .filter(Provider::isHealthy)
-            .toList();
+        return selectProvider(availableProviders, request, Set.of());
+    }
 
-        if (healthyProviders.isEmpty()) {
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                             Set<Provider> excluded) {
+        ProviderSnapshot previous = snapshot;
+        ProviderSnapshot current = previous.refresh(availableProviders);
+        if (current != previous) {
+            snapshot = current;
+        }
+        if (!current.hasHealthy()) {
             return Optional.empty();
         }
 
-        if (providerMetrics.isEmpty()) {
-            return healthyProviders.stream().findFirst();
+        int best = -1;
+        double bestScore = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < current.healthyCount(); i++) {
+            if (excluded.contains(current.healthy(i))) {
+                continue;
+            }
+            if (providerMetrics.isEmpty()) {
+                return current.select(i);
+            }
+            double score = getEffectiveLatencyMs(current.healthy(i));
+            if (best < 0 || score < bestScore) {
+                best = i;
+                bestScore = score;
+            }
         }
-
-        return healthyProviders.stream()
-            .min((p1, p2) -> {
-                Duration latency1 = getAverageLatency(p1);
-                Duration latency2 = getAverageLatency(p2);
-                return latency1.compareTo(latency2);
-            });
+        return best >= 0 ? current.select(best) : Optional.empty();
     }
 
-    private Duration getAverageLatency(Provider provider) {
+    // Providers without a snapshot rank first so every provider gets measured under live traffic,
+    // and latency is inflated by the failure rate so a fast but failing provider loses its lead
+    private double getEffectiveLatencyMs(Provider provider) {
         ProviderMetricsSnapshot metrics = providerMetrics.get(provider.getName());
         if (metrics == null) {
-            return Duration.ofMillis(1000);
+            return 0.0;
         }
-        return Duration.ofMillis((long) metrics.averageLatencyMs());
+        return metrics.averageLatencyMs() / Math.max(metrics.successRate(), MIN_SUCCESS_RATE);
     }
 
     @Override
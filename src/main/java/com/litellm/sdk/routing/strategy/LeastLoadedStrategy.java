@@ -0,0 +1,160 @@
+package com.litellm.sdk.routing.strategy;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.provider.Provider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Power-of-two-choices over in-flight requests: two distinct healthy providers are sampled at random
+ * and the one with fewer outstanding calls wins. With the {@code latencyWeighted} parameter the load is
+ * multiplied by an EWMA of successful call latency, so a slow provider needs fewer calls to look busy.
+ * The EWMA smoothing factor is read from {@code ewmaAlpha} (default 0.3).
+ */
+public class LeastLoadedStrategy implements RoutingStrategy {
+    private static final double DEFAULT_EWMA_ALPHA = 0.3;
+    private static final long NO_LATENCY = Double.doubleToRawLongBits(-1.0);
+
+    private final RoutingStrategyConfig config;
+    private final boolean latencyWeighted;
+    private final double ewmaAlpha;
+    private final Map<String, ProviderLoad> loads = new ConcurrentHashMap<>();
+    private volatile ProviderSnapshot snapshot = ProviderSnapshot.EMPTY;
+
+    public LeastLoadedStrategy(RoutingStrategyConfig config) {
+        this.config = config;
+        Map<String, Object> parameters = config != null ? config.parameters() : Map.of();
+        this.latencyWeighted = Boolean.parseBoolean(String.valueOf(parameters.get("latencyWeighted")));
+        Object alpha = parameters.get("ewmaAlpha");
+        this.ewmaAlpha = alpha != null ? Double.parseDouble(alpha.toString()) : DEFAULT_EWMA_ALPHA;
+        if (ewmaAlpha <= 0 || ewmaAlpha > 1) {
+            throw new IllegalArgumentException("ewmaAlpha must be in (0, 1]");
+        }
+    }
+
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request) {
+        return selectProvider(availableProviders, request, Set.of());
+    }
+
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                             Set<Provider> excluded) {
+        ProviderSnapshot previous = snapshot;
+        ProviderSnapshot current = previous.refresh(availableProviders);
+        if (current != previous) {
+            snapshot = current;
+        }
+        int[] allowed = excluded.isEmpty() ? null : allowedIndices(current, excluded);
+        int count = allowed != null ? allowed.length : current.healthyCount();
+        if (count == 0) {
+            return Optional.empty();
+        }
+        if (count == 1) {
+            return current.select(allowed != null ? allowed[0] : 0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        if (allowed != null) {
+            first = allowed[first];
+            second = allowed[second];
+        }
+        return current.select(isLessLoaded(current.healthy(second), current.healthy(first)) ? second : first);
+    }
+
+    // Only built when a request has providers to skip, so the common path allocates nothing
+    private static int[] allowedIndices(ProviderSnapshot current, Set<Provider> excluded) {
+        int[] allowed = new int[current.healthyCount()];
+        int count = 0;
+        for (int i = 0; i < current.healthyCount(); i++) {
+            if (!excluded.contains(current.healthy(i))) {
+                allowed[count++] = i;
+            }
+        }
+        return Arrays.copyOf(allowed, count);
+    }
+
+    private boolean isLessLoaded(Provider candidate, Provider other) {
+        ProviderLoad candidateLoad = loadFor(candidate);
+        ProviderLoad otherLoad = loadFor(other);
+        int candidateInFlight = candidateLoad.inFlight.get();
+        int otherInFlight = otherLoad.inFlight.get();
+
+        if (latencyWeighted) {
+            double candidateLatency = candidateLoad.latency();
+            double otherLatency = otherLoad.latency();
+            // Until both have a latency sample, outstanding calls alone decide
+            if (candidateLatency >= 0 && otherLatency >= 0) {
+                return (candidateInFlight + 1) * candidateLatency < (otherInFlight + 1) * otherLatency;
+            }
+        }
+        return candidateInFlight < otherInFlight;
+    }
+
+    @Override
+    public void onRequestStart(Provider provider) {
+        loadFor(provider).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onRequestComplete(Provider provider, long latencyNanos, boolean success) {
+        ProviderLoad load = loadFor(provider);
+        load.inFlight.updateAndGet(value -> value > 0 ? value - 1 : 0);
+        if (success) {
+            load.recordLatency(latencyNanos / 1_000_000.0, ewmaAlpha);
+        }
+    }
+
+    public int getInFlight(String providerName) {
+        ProviderLoad load = loads.get(providerName);
+        return load != null ? load.inFlight.get() : 0;
+    }
+
+    private ProviderLoad loadFor(Provider provider) {
+        ProviderLoad load = loads.get(provider.getName());
+        return load != null ? load : loads.computeIfAbsent(provider.getName(), name -> new ProviderLoad());
+    }
+
+    @Override
+    public RoutingStrategyConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public void updateProviderMetrics(String providerId, ProviderMetricsSnapshot snapshot) {
+    }
+
+    private static final class ProviderLoad {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong latencyBits = new AtomicLong(NO_LATENCY);
+
+        private double latency() {
+            return Double.longBitsToDouble(latencyBits.get());
+        }
+
+        private void recordLatency(double latencyMs, double alpha) {
+            long bits;
+            long updated;
+            do {
+                bits = latencyBits.get();
+                double previous = Double.longBitsToDouble(bits);
+                double next = previous < 0 ? latencyMs : previous + alpha * (latencyMs - previous);
+                updated = Double.doubleToRawLongBits(next);
+            } while (!latencyBits.compareAndSet(bits, updated));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.litellm.sdk.routing.strategy;
+
+import com.litellm.sdk.provider.Provider;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable view of a provider list with its healthy members precomputed.
+ * Strategies keep the last snapshot and call {@link #refresh(List)} on each selection; while the list and
+ * every provider's health are unchanged the same instance comes back, so the hot path only reads arrays.
+ */
+public final class ProviderSnapshot {
+    public static final ProviderSnapshot EMPTY = new ProviderSnapshot(new Provider[0], new boolean[0], 0);
+
+    private final Provider[] providers;
+    private final boolean[] healthFlags;
+    private final Provider[] healthy;
+    private final Optional<Provider>[] selections;
+    private final long version;
+
+    @SuppressWarnings("unchecked")
+    private ProviderSnapshot(Provider[] providers, boolean[] healthFlags, long version) {
+        this.providers = providers;
+        this.healthFlags = healthFlags;
+        this.version = version;
+
+        int healthyCount = 0;
+        for (boolean flag : healthFlags) {
+            if (flag) {
+                healthyCount++;
+            }
+        }
+        this.healthy = new Provider[healthyCount];
+        this.selections = new Optional[healthyCount];
+        for (int i = 0, j = 0; i < providers.length; i++) {
+            if (healthFlags[i]) {
+                healthy[j] = providers[i];
+                selections[j] = Optional.of(providers[i]);
+                j++;
+            }
+        }
+    }
+
+    public static ProviderSnapshot of(List<Provider> providers) {
+        return EMPTY.refresh(providers);
+    }
+
+    // Returns this snapshot when nothing changed, otherwise a rebuilt one with the next version
+    public ProviderSnapshot refresh(List<Provider> current) {
+        if (current == null || current.isEmpty()) {
+            return providers.length == 0 ? this : new ProviderSnapshot(new Provider[0], new boolean[0], version + 1);
+        }
+        if (matches(current)) {
+            return this;
+        }
+
+        Provider[] newProviders = current.toArray(new Provider[0]);
+        boolean[] newFlags = new boolean[newProviders.length];
+        for (int i = 0; i < newProviders.length; i++) {
+            newFlags[i] = newProviders[i].isHealthy();
+        }
+        return new ProviderSnapshot(newProviders, newFlags, version + 1);
+    }
+
+    private boolean matches(List<Provider> current) {
+        if (current.size() != providers.length) {
+            return false;
+        }
+        for (int i = 0; i < providers.length; i++) {
+            Provider provider = current.get(i);
+            if (provider != providers[i] || provider.isHealthy() != healthFlags[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return providers.length;
+    }
+
+    public Provider provider(int index) {
+        return providers[index];
+    }
+
+    public int healthyCount() {
+        return healthy.length;
+    }
+
+    public boolean hasHealthy() {
+        return healthy.length > 0;
+    }
+
+    public Provider healthy(int index) {
+        return healthy[index];
+    }
+
+    // Cached Optional of the healthy provider at index, so returning a selection allocates nothing
+    public Optional<Provider> select(int index) {
+        return selections[index];
+    }
+}
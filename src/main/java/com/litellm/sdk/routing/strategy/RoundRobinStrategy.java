@@ -7,29 +7,41 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @RequiredArgsConstructor
 public class RoundRobinStrategy implements RoutingStrategy {
     private final RoutingStrategyConfig config;
     private final AtomicInteger counter = new AtomicInteger(0);
+    private volatile ProviderSnapshot snapshot = ProviderSnapshot.EMPTY;
 
     @Override
     public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request) {
-        if (availableProviders == null || availableProviders.isEmpty()) {
-            return Optional.empty();
-        }
-
-        List<Provider> healthyProviders = availableProviders.stream()
-            .filter(Provider::isHealthy)
-            .toList();
+        return selectProvider(availableProviders, request, Set.of());
+    }
 
-        if (healthyProviders.isEmpty()) {
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                             Set<Provider> excluded) {
+        ProviderSnapshot previous = snapshot;
+        ProviderSnapshot current = previous.refresh(availableProviders);
+        if (current != previous) {
+            snapshot = current;
+        }
+        if (!current.hasHealthy()) {
             return Optional.empty();
         }
 
-        int index = counter.getAndIncrement() % healthyProviders.size();
-        return Optional.of(healthyProviders.get(index));
+        int count = current.healthyCount();
+        int start = Math.floorMod(counter.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % count;
+            if (!excluded.contains(current.healthy(index))) {
+                return current.select(index);
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -4,16 +4,46 @@ import com.litellm.sdk.provider.Provider;
 import com.litellm.sdk.config.RoutingStrategyConfig;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface RoutingStrategy {
     Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request);
 
+    /**
+     * Selects among the available providers that are not excluded. The router always passes its full provider list
+     * and names the providers a request has already tried here, so state a strategy keeps per list stays stable.
+     * The default narrows the list and delegates, which suits strategies that keep no such state.
+     */
+    default Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                              Set<Provider> excluded) {
+        if (excluded.isEmpty()) {
+            return selectProvider(availableProviders, request);
+        }
+        List<Provider> allowed = new ArrayList<>(availableProviders.size());
+        for (Provider provider : availableProviders) {
+            if (!excluded.contains(provider)) {
+                allowed.add(provider);
+            }
+        }
+        return allowed.isEmpty() ? Optional.empty() : selectProvider(allowed, request);
+    }
+
     RoutingStrategyConfig getConfig();
 
     void updateProviderMetrics(String providerId, ProviderMetricsSnapshot snapshot);
 
+    // Called by the router when a call to the selected provider starts; load-aware strategies count in-flight work here
+    default void onRequestStart(Provider provider) {
+    }
+
+    // Called exactly once per started call, including cancellations, with the elapsed wall time
+    default void onRequestComplete(Provider provider, long latencyNanos, boolean success) {
+    }
+
+    // costPerRequest is NaN while no priced request to the provider has succeeded
     record ProviderMetricsSnapshot(String providerId, double averageLatencyMs, double successRate,
                                    double costPerRequest) {
     }
@@ -0,0 +1,34 @@
+package com.litellm.sdk.routing.strategy;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.config.RoutingStrategyConfig.StrategyType;
+
+public final class RoutingStrategyFactory {
+    private RoutingStrategyFactory() {
+    }
+
+    // Builds the configured strategy, wrapped with its fallback when one is set; defaults to round robin
+    public static RoutingStrategy create(RoutingStrategyConfig config) {
+        if (config == null) {
+            return new RoundRobinStrategy(null);
+        }
+
+        RoutingStrategy primary = create(config.type(), config);
+        StrategyType fallbackType = config.fallbackStrategy();
+        if (fallbackType == null || fallbackType == config.type()) {
+            return primary;
+        }
+        return new FallbackStrategy(primary, create(fallbackType, config));
+    }
+
+    public static RoutingStrategy create(StrategyType type, RoutingStrategyConfig config) {
+        return switch (type) {
+            case ROUND_ROBIN -> new RoundRobinStrategy(config);
+            case WEIGHTED -> new WeightedStrategy(config);
+            case LATENCY_BASED -> new LatencyBasedStrategy(config);
+            case COST_OPTIMIZED -> new CostOptimizedStrategy(config);
+            case FAILOVER -> new FailoverStrategy(config);
+            case LEAST_LOADED -> new LeastLoadedStrategy(config);
+        };
+    }
+}
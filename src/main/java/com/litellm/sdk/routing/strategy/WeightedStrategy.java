@@ -1,61 +1,169 @@
 package com.litellm.sdk.routing.strategy;
 
+import com.litellm.sdk.config.ProviderConfig;
 import com.litellm.sdk.config.RoutingStrategyConfig;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.provider.Provider;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Smooth weighted round robin: weights are expanded once into an interleaved schedule (the nginx algorithm),
+ * so a provider with weight 3 next to one with weight 1 is picked A A B A rather than A A A B.
+ * The schedule is rebuilt only when provider health or a weight changes; selection is a single array read.
+ */
 @RequiredArgsConstructor
 public class WeightedStrategy implements RoutingStrategy {
+    private static final int MAX_SCHEDULE_LENGTH = 1 << 16;
+
     private final RoutingStrategyConfig config;
     private final AtomicInteger counter = new AtomicInteger(0);
+    private final Map<String, Integer> weightOverrides = new ConcurrentHashMap<>();
+    private final AtomicInteger weightsVersion = new AtomicInteger(0);
+    private volatile ProviderSnapshot snapshot = ProviderSnapshot.EMPTY;
+    private volatile Schedule schedule;
 
     @Override
     public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request) {
-        if (availableProviders == null || availableProviders.isEmpty()) {
+        return selectProvider(availableProviders, request, Set.of());
+    }
+
+    @Override
+    public Optional<Provider> selectProvider(List<Provider> availableProviders, ChatCompletionRequest request,
+                                             Set<Provider> excluded) {
+        ProviderSnapshot previous = snapshot;
+        ProviderSnapshot current = previous.refresh(availableProviders);
+        if (current != previous) {
+            snapshot = current;
+        }
+        if (!current.hasHealthy()) {
             return Optional.empty();
         }
 
-        List<Provider> healthyProviders = availableProviders.stream()
-            .filter(Provider::isHealthy)
-            .toList();
+        Schedule active = schedule;
+        int version = weightsVersion.get();
+        if (active == null || active.snapshot() != current || active.weightsVersion() != version) {
+            // Racing callers may each build a schedule; they are identical, so the last write wins harmlessly
+            active = buildSchedule(current, version);
+            schedule = active;
+        }
 
-        if (healthyProviders.isEmpty()) {
-            return Optional.empty();
+        // Excluded providers are skipped in schedule order, so the schedule itself never changes under failover
+        int[] sequence = active.sequence();
+        int position = counter.getAndIncrement();
+        for (int i = 0; i < sequence.length; i++) {
+            int index = sequence[Math.floorMod(position + i, sequence.length)];
+            if (!excluded.contains(current.healthy(index))) {
+                return current.select(index);
+            }
         }
+        // Only zero-weight providers are left; they still take traffic rather than none being served
+        for (int i = 0; i < current.healthyCount(); i++) {
+            if (!excluded.contains(current.healthy(i))) {
+                return current.select(i);
+            }
+        }
+        return Optional.empty();
+    }
 
-        int totalWeight = healthyProviders.stream()
-            .mapToInt(this::getProviderWeight)
-            .sum();
+    // Takes effect on the next selection without blocking in-flight callers
+    public void updateWeight(String providerName, int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative for provider: " + providerName);
+        }
+        weightOverrides.put(providerName, weight);
+        weightsVersion.incrementAndGet();
+    }
 
-        if (totalWeight <= 0) {
-            return healthyProviders.stream().findFirst();
+    private Schedule buildSchedule(ProviderSnapshot current, int version) {
+        int count = current.healthyCount();
+        int[] weights = new int[count];
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            weights[i] = getProviderWeight(current.healthy(i));
+            total += weights[i];
         }
 
-        int index = counter.getAndIncrement() % totalWeight;
-        int cumulativeWeight = 0;
+        if (total == 0) {
+            // All weights zero: fall back to plain round robin over the healthy providers
+            Arrays.fill(weights, 1);
+            total = count;
+        }
 
-        for (Provider provider : healthyProviders) {
-            cumulativeWeight += getProviderWeight(provider);
-            if (index < cumulativeWeight) {
-                return Optional.of(provider);
+        int divisor = 0;
+        for (int weight : weights) {
+            divisor = gcd(divisor, weight);
+        }
+        total = 0;
+        for (int i = 0; i < count; i++) {
+            weights[i] /= divisor;
+            total += weights[i];
+        }
+
+        if (total > MAX_SCHEDULE_LENGTH) {
+            // Scale huge weight sums down proportionally, keeping every non-zero weight selectable
+            double scale = (double) MAX_SCHEDULE_LENGTH / total;
+            total = 0;
+            for (int i = 0; i < count; i++) {
+                weights[i] = weights[i] > 0 ? Math.max(1, (int) (weights[i] * scale)) : 0;
+                total += weights[i];
             }
         }
 
-        return Optional.of(healthyProviders.get(healthyProviders.size() - 1));
+        int length = (int) total;
+        int[] sequence = new int[length];
+        long[] currentWeights = new long[count];
+        for (int slot = 0; slot < length; slot++) {
+            int best = -1;
+            for (int i = 0; i < count; i++) {
+                currentWeights[i] += weights[i];
+                if (weights[i] > 0 && (best < 0 || currentWeights[i] > currentWeights[best])) {
+                    best = i;
+                }
+            }
+            currentWeights[best] -= length;
+            sequence[slot] = best;
+        }
+        return new Schedule(current, version, sequence);
     }
 
     private int getProviderWeight(Provider provider) {
-        try {
-            String weightParam = (String) config.parameters().get("weight_" + provider.getName());
-            return weightParam != null ? Integer.parseInt(weightParam) : 1;
-        } catch (Exception e) {
-            return 1;
+        Integer override = weightOverrides.get(provider.getName());
+        if (override != null) {
+            return override;
+        }
+
+        // An explicit weight_<name> strategy parameter wins over the provider's own configured weight
+        Object weightParam = config != null ? config.parameters().get("weight_" + provider.getName()) : null;
+        if (weightParam instanceof Number number) {
+            return Math.max(number.intValue(), 0);
+        }
+        if (weightParam != null) {
+            try {
+                return Math.max(Integer.parseInt(weightParam.toString().trim()), 0);
+            } catch (NumberFormatException e) {
+                return 1;
+            }
         }
+
+        ProviderConfig providerConfig = provider.getConfig();
+        return providerConfig != null && providerConfig.weight() != null ? Math.max(providerConfig.weight(), 0) : 1;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
     }
 
     @Override
@@ -66,4 +174,7 @@ public class WeightedStrategy implements RoutingStrategy {
     @Override
     public void updateProviderMetrics(String providerId, ProviderMetricsSnapshot snapshot) {
     }
+
+    private record Schedule(ProviderSnapshot snapshot, int weightsVersion, int[] sequence) {
+    }
 }
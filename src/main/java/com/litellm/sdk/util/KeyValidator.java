@@ -2,13 +2,14 @@ package com.litellm.sdk.util;
 
 import com.litellm.sdk.config.LiteLLMConfig;
 import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.provider.transport.TransportRegistry;
+import com.litellm.sdk.provider.transport.TransportRequest;
+import com.litellm.sdk.provider.transport.TransportResponse;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 public final class KeyValidator {
@@ -127,24 +128,25 @@ public final class KeyValidator {
     }
 
     private static boolean validateWithApiCall(String model, String apiKey, Duration timeout) throws Exception {
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(timeout)
-                .build();
-
         String provider = determineProvider(model);
         String url = buildValidationUrl(provider);
         String body = buildValidationRequestBody(model);
 
-        HttpRequest request = HttpRequest.newBuilder()
+        TransportRequest request = TransportRequest.builder()
                 .uri(URI.create(url))
                 .timeout(timeout)
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + apiKey)
-                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .headers(Map.of(
+                        "Content-Type", "application/json",
+                        "Authorization", "Bearer " + apiKey))
+                .body(body)
                 .build();
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        return response.statusCode() == 200;
+        // Reuse the default pool for the provider origin; the timeout bounds this call only, not the shared pool
+        TransportResponse response = TransportRegistry.shared()
+                .transportFor(url)
+                .execute(request)
+                .block(timeout);
+        return response != null && response.statusCode() == 200;
     }
 
     private static String determineProvider(String model) {
@@ -0,0 +1,107 @@
+package com.litellm.sdk.unit.batch;
+
+import com.litellm.sdk.batch.BatchExecutor;
+import com.litellm.sdk.batch.BatchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BatchExecutor Unit Tests")
+class BatchExecutorTest {
+
+    // Each request is the number of milliseconds it takes to answer
+    private static final List<Integer> DELAYS = List.of(40, 10, 30, 20);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should run requests concurrently and emit results in input order")
+    void shouldKeepInputOrder() {
+        // When & Then
+        StepVerifier.withVirtualTime(() -> BatchExecutor.inOrder(DELAYS, 4, this::call))
+            .thenAwait(Duration.ofMillis(40))
+            .assertNext(result -> assertThat(result.response()).isEqualTo("done-40"))
+            .assertNext(result -> assertThat(result.response()).isEqualTo("done-10"))
+            .assertNext(result -> assertThat(result.response()).isEqualTo("done-30"))
+            .assertNext(result -> assertThat(result.response()).isEqualTo("done-20"))
+            .verifyComplete();
+        assertThat(maxInFlight.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should emit results as they complete in the streaming variant")
+    void shouldEmitAsCompleted() {
+        // When & Then
+        StepVerifier.withVirtualTime(() -> BatchExecutor.asCompleted(DELAYS, 4, this::call).map(BatchResult::index))
+            .thenAwait(Duration.ofMillis(40))
+            .expectNext(1, 3, 2, 0)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should never exceed the concurrency limit")
+    void shouldBoundConcurrency() {
+        // When & Then
+        StepVerifier.withVirtualTime(() -> BatchExecutor.inOrder(DELAYS, 2, this::call))
+            .thenAwait(Duration.ofMillis(100))
+            .expectNextCount(4)
+            .verifyComplete();
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report failures per item without aborting the batch")
+    void shouldReportPartialFailures() {
+        // Given
+        Function<Integer, Mono<String>> call = delay -> delay == 10
+            ? Mono.error(new IllegalStateException("rate limited"))
+            : delay == 30 ? Mono.empty() : Mono.just("done-" + delay);
+
+        // When
+        List<BatchResult<String>> results = BatchExecutor.inOrder(DELAYS, 4, call).collectList().block();
+
+        // Then
+        assertThat(results).extracting(BatchResult::isSuccess).containsExactly(true, false, false, true);
+        assertThat(results.get(1).error()).hasMessage("rate limited");
+        assertThat(results.get(2).error()).isInstanceOf(IllegalStateException.class);
+        assertThat(results.get(3).response()).isEqualTo("done-20");
+    }
+
+    @Test
+    @DisplayName("Should capture exceptions thrown while starting a request")
+    void shouldCaptureSynchronousFailures() {
+        // When
+        List<BatchResult<String>> results = BatchExecutor.<Integer, String>inOrder(List.of(1, 2), 2, delay -> {
+            throw new IllegalArgumentException("bad request " + delay);
+        }).collectList().block();
+
+        // Then
+        assertThat(results).extracting(result -> result.error().getMessage())
+            .containsExactly("bad request 1", "bad request 2");
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive concurrency limit")
+    void shouldRejectInvalidConcurrency() {
+        // When & Then
+        assertThatThrownBy(() -> BatchExecutor.inOrder(DELAYS, 0, this::call))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Mono<String> call(Integer delay) {
+        return Mono.fromRunnable(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+            .then(Mono.delay(Duration.ofMillis(delay)))
+            .doOnSuccess(tick -> inFlight.decrementAndGet())
+            .map(tick -> "done-" + delay);
+    }
+}
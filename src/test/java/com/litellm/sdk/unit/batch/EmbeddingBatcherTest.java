@@ -0,0 +1,211 @@
+package com.litellm.sdk.unit.batch;
+
+import com.litellm.sdk.batch.EmbeddingBatcher;
+import com.litellm.sdk.config.EmbeddingBatchConfig;
+import com.litellm.sdk.limit.TokenEstimator;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.response.EmbeddingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EmbeddingBatcher Unit Tests")
+class EmbeddingBatcherTest {
+
+    private final List<EmbeddingRequest> upstreamCalls = new CopyOnWriteArrayList<>();
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.create();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent requests into one upstream call and fan results out in order")
+    void shouldCoalesceConcurrentRequests() throws Exception {
+        // Given
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true).build(), this::embed);
+        List<CompletableFuture<EmbeddingResponse>> results = IntStream.range(0, 10)
+            .mapToObj(i -> batcher.submit(request("req-" + i, String.valueOf(i))).toFuture())
+            .toList();
+
+        // When
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Then
+        assertThat(upstreamCalls).hasSize(1);
+        assertThat(upstreamCalls.get(0).input()).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            EmbeddingResponse response = results.get(i).get();
+            assertThat(response.id()).isEqualTo("req-" + i);
+            assertThat(response.embeddings()).hasSize(1);
+            assertThat(response.embedding()).containsExactly((float) i);
+        }
+        assertThat(batcher.getBatchCount()).isEqualTo(1);
+        assertThat(batcher.getBatchedRequestCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should keep multi-input requests contiguous and apportion usage")
+    void shouldSliceMultiInputRequests() throws Exception {
+        // Given
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true).build(), this::embed);
+        CompletableFuture<EmbeddingResponse> first = batcher.submit(EmbeddingRequest.builder()
+            .model("text-embedding-3-small").input(List.of("1", "2", "3")).build()).toFuture();
+        CompletableFuture<EmbeddingResponse> second = batcher.submit(request("req-b", "4")).toFuture();
+
+        // When
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Then
+        assertThat(first.get().embeddings()).extracting(vector -> vector[0]).containsExactly(1f, 2f, 3f);
+        assertThat(second.get().embedding()).containsExactly(4f);
+        assertThat(first.get().usage().getPromptTokens() + second.get().usage().getPromptTokens()).isEqualTo(40);
+        assertThat(first.get().usage().getPromptTokens()).isGreaterThan(second.get().usage().getPromptTokens());
+    }
+
+    @Test
+    @DisplayName("Should send a full batch immediately and start a new one")
+    void shouldSplitBatchesBySize() {
+        // Given
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true).maxBatchSize(4).build(),
+            this::embed);
+
+        // When
+        IntStream.range(0, 6).forEach(i -> batcher.submit(request("req-" + i, String.valueOf(i))).subscribe());
+
+        // Then
+        assertThat(upstreamCalls).hasSize(1);
+        assertThat(upstreamCalls.get(0).input()).containsExactly("0", "1", "2", "3");
+
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+        assertThat(upstreamCalls).hasSize(2);
+        assertThat(upstreamCalls.get(1).input()).containsExactly("4", "5");
+    }
+
+    @Test
+    @DisplayName("Should close a batch before it exceeds the token budget")
+    void shouldSplitBatchesByTokens() {
+        // Given
+        String text = "x".repeat(48);
+        int tokens = TokenEstimator.estimate(request("req", text));
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true)
+            .maxBatchTokens(2 * tokens + 1).build(), this::embed);
+
+        // When
+        IntStream.range(0, 3).forEach(i -> batcher.submit(request("req-" + i, text)).subscribe());
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Then
+        assertThat(upstreamCalls).extracting(call -> call.input().size()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("Should flush a lone request after the wait and not before")
+    void shouldFlushAfterMaxWait() {
+        // Given
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true)
+            .maxWait(Duration.ofMillis(20)).build(), this::embed);
+        CompletableFuture<EmbeddingResponse> result = batcher.submit(request("req-1", "7")).toFuture();
+
+        // When
+        scheduler.advanceTimeBy(Duration.ofMillis(19));
+        boolean doneEarly = result.isDone();
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+
+        // Then
+        assertThat(doneEarly).isFalse();
+        assertThat(result).isCompleted();
+        assertThat(upstreamCalls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should only batch requests for the same model")
+    void shouldBatchPerModel() {
+        // Given
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true).build(), this::embed);
+
+        // When
+        batcher.submit(request("req-1", "1")).subscribe();
+        batcher.submit(EmbeddingRequest.builder().model("text-embedding-3-large").inputText("2").build()).subscribe();
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Then
+        assertThat(upstreamCalls).extracting(EmbeddingRequest::model)
+            .containsExactlyInAnyOrder("text-embedding-3-small", "text-embedding-3-large");
+    }
+
+    @Test
+    @DisplayName("Should fail every request of a failed batch")
+    void shouldPropagateErrors() {
+        // Given
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true).build(),
+            request -> Mono.error(new IllegalStateException("upstream down")));
+        CompletableFuture<EmbeddingResponse> first = batcher.submit(request("req-1", "1")).toFuture();
+        CompletableFuture<EmbeddingResponse> second = batcher.submit(request("req-2", "2")).toFuture();
+
+        // When
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Then
+        assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class).hasMessageContaining("upstream down");
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class).hasMessageContaining("upstream down");
+    }
+
+    @Test
+    @DisplayName("Should fail the batch when the vector count does not match the inputs")
+    void shouldRejectMismatchedVectorCount() {
+        // Given
+        EmbeddingBatcher batcher = newBatcher(EmbeddingBatchConfig.builder().enabled(true).build(),
+            request -> Mono.just(EmbeddingResponse.builder().embedding(new float[] {1f}).build()));
+        CompletableFuture<EmbeddingResponse> first = batcher.submit(request("req-1", "1")).toFuture();
+        CompletableFuture<EmbeddingResponse> second = batcher.submit(request("req-2", "2")).toFuture();
+
+        // When
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Then
+        assertThatThrownBy(first::get).hasMessageContaining("1 vectors for 2 inputs");
+        assertThatThrownBy(second::get).hasMessageContaining("1 vectors for 2 inputs");
+    }
+
+    private EmbeddingBatcher newBatcher(EmbeddingBatchConfig config,
+                                        Function<EmbeddingRequest, Mono<EmbeddingResponse>> sender) {
+        return new EmbeddingBatcher(config, request -> {
+            upstreamCalls.add(request);
+            return sender.apply(request);
+        }, scheduler);
+    }
+
+    // One single-element vector per input, holding the input's numeric value
+    private Mono<EmbeddingResponse> embed(EmbeddingRequest request) {
+        List<float[]> vectors = request.input().stream()
+            .map(input -> new float[] {input.startsWith("x") ? 0f : Float.parseFloat(input)})
+            .toList();
+        return Mono.just(EmbeddingResponse.builder()
+            .id(request.id())
+            .embeddings(vectors)
+            .provider("openai")
+            .model(request.model())
+            .usage(new Usage(40, 0, 40))
+            .build());
+    }
+
+    private static EmbeddingRequest request(String id, String text) {
+        return EmbeddingRequest.builder().id(id).model("text-embedding-3-small").inputText(text).build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.litellm.sdk.unit.cache;
+
+import com.litellm.sdk.cache.CacheKey;
+import com.litellm.sdk.cache.Murmur3Hasher;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheKey Unit Tests")
+class CacheKeyTest {
+
+    @Test
+    @DisplayName("Should match the MurmurHash3 x64 128-bit reference output")
+    void shouldMatchMurmur3ReferenceOutput() {
+        // Given
+        byte[] input = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        long[] hash = new Murmur3Hasher().putBytes(input).finish();
+
+        // Then
+        assertThat(hash[0]).isEqualTo(0xe34bbc7bbc071b6cL);
+        assertThat(hash[1]).isEqualTo(0x7a433ca9c49a9347L);
+    }
+
+    @Test
+    @DisplayName("Should give identical requests the same key regardless of id, timeout and metadata")
+    void shouldIgnoreFieldsThatDoNotAffectTheCompletion() {
+        // Given
+        ChatCompletionRequest first = request("Hello", 0.7).toBuilder()
+            .id("req-1")
+            .timeout(Duration.ofSeconds(5))
+            .build();
+        ChatCompletionRequest second = request("Hello", 0.7).toBuilder()
+            .id("req-2")
+            .metadata(Map.of("user", "u1"))
+            .build();
+
+        // When / Then
+        assertThat(CacheKey.of(first)).isEqualTo(CacheKey.of(second));
+        assertThat(CacheKey.sameRequest(first, second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should give different keys when content or parameters differ")
+    void shouldSeparateDifferentRequests() {
+        // Given
+        CacheKey base = CacheKey.of(request("Hello", 0.7));
+
+        // When / Then
+        assertThat(CacheKey.of(request("Hello!", 0.7))).isNotEqualTo(base);
+        assertThat(CacheKey.of(request("Hello", 0.8))).isNotEqualTo(base);
+        assertThat(CacheKey.of(request("Hello", null))).isNotEqualTo(base);
+        assertThat(CacheKey.of(request("Hello", 0.7).toBuilder().model("gpt-4").build())).isNotEqualTo(base);
+    }
+
+    @Test
+    @DisplayName("Should not let message boundaries shift between fields")
+    void shouldKeepMessageBoundaries() {
+        // Given
+        ChatCompletionRequest split = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(new Message(Message.Role.USER, "ab"), new Message(Message.Role.USER, "c")))
+            .build();
+        ChatCompletionRequest shifted = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(new Message(Message.Role.USER, "a"), new Message(Message.Role.USER, "bc")))
+            .build();
+
+        // When / Then
+        assertThat(CacheKey.of(split)).isNotEqualTo(CacheKey.of(shifted));
+    }
+
+    private ChatCompletionRequest request(String content, Double temperature) {
+        return ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(new Message(Message.Role.USER, content)))
+            .temperature(temperature)
+            .maxTokens(100)
+            .build();
+    }
+}
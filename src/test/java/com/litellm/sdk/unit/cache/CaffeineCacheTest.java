@@ -13,12 +13,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -289,4 +294,194 @@ class CaffeineCacheTest {
         var stats = cache.getStats();
         assertThat(stats.size()).isGreaterThanOrEqualTo(2);
     }
+
+    @Test
+    @DisplayName("Should load on a miss and serve later calls from cache marked as cached")
+    void shouldLoadOnMissAndMarkHitsCached() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        ChatCompletionResponse first = cache.getOrCompute(request1, () -> {
+            loads.incrementAndGet();
+            return Mono.just(response1);
+        }).block();
+        ChatCompletionResponse second = cache.getOrCompute(request1, () -> {
+            loads.incrementAndGet();
+            return Mono.just(response2);
+        }).block();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(first.cached()).isFalse();
+        assertThat(second.id()).isEqualTo("resp-1");
+        assertThat(second.cached()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should coalesce identical in-flight requests into one load")
+    void shouldCoalesceInFlightRequests() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<ChatCompletionResponse> upstream = Sinks.one();
+        List<ChatCompletionResponse> results = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            cache.getOrCompute(request1, () -> {
+                loads.incrementAndGet();
+                return upstream.asMono();
+            }).subscribe(results::add);
+        }
+        upstream.tryEmitValue(response1);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(results).hasSize(5);
+        assertThat(results).filteredOn(ChatCompletionResponse::cached).hasSize(4);
+        assertThat(cache.getCoalescedCount()).isEqualTo(4);
+        assertThat(cache.get(request1).block()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not cache failed loads")
+    void shouldNotCacheFailures() {
+        // When
+        StepVerifier.create(cache.getOrCompute(request1, () -> Mono.error(new IllegalStateException("upstream down"))))
+            .verifyError(IllegalStateException.class);
+
+        // Then
+        StepVerifier.create(cache.getOrCompute(request1, () -> Mono.just(response1)))
+            .assertNext(response -> assertThat(response.id()).isEqualTo("resp-1"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should share a failed load with every waiter and then let the next call retry")
+    void shouldShareFailuresWithoutCachingThem() {
+        // Given
+        Sinks.One<ChatCompletionResponse> upstream = Sinks.one();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            cache.getOrCompute(request1, () -> {
+                loads.incrementAndGet();
+                return upstream.asMono();
+            }).subscribe(response -> { }, errors::add);
+        }
+        upstream.tryEmitError(new IllegalStateException("upstream down"));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(errors).hasSize(3).allMatch(IllegalStateException.class::isInstance);
+        StepVerifier.create(cache.getOrCompute(request1, request -> Mono.just(response1)))
+            .assertNext(response -> assertThat(response.cached()).isFalse())
+            .verifyComplete();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep a shared load running when the caller that started it cancels")
+    void shouldSurviveLeaderCancellation() {
+        // Given
+        Sinks.One<ChatCompletionResponse> upstream = Sinks.one();
+        List<ChatCompletionResponse> results = new CopyOnWriteArrayList<>();
+
+        // When
+        cache.getOrCompute(request1, () -> upstream.asMono()).subscribe().dispose();
+        cache.getOrCompute(request1, () -> Mono.error(new AssertionError("should join the pending load")))
+            .subscribe(results::add);
+        upstream.tryEmitValue(response1);
+
+        // Then
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).cached()).isTrue();
+        assertThat(cache.get(request1).block()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should serve hits for equal requests when key verification is enabled")
+    void shouldServeVerifiedHits() {
+        // Given
+        lenient().when(mockConfig.verifyKeys()).thenReturn(true);
+        CaffeineCache verifying = new CaffeineCache(mockConfig);
+        verifying.put(request1, response1).block();
+
+        // When
+        ChatCompletionResponse hit = verifying.get(request1.toBuilder().id("another-id").build()).block();
+
+        // Then
+        assertThat(hit).isNotNull();
+        assertThat(hit.id()).isEqualTo("resp-1");
+        StepVerifier.create(verifying.get(request2)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should bound a weighted cache by estimated retained bytes")
+    void shouldEvictByWeight() {
+        // Given
+        lenient().when(mockConfig.maxWeightBytes()).thenReturn(50_000L);
+        CaffeineCache weighted = new CaffeineCache(mockConfig);
+        String largeContent = "x".repeat(9_000);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            ChatCompletionRequest request = request1.toBuilder()
+                .messages(List.of(new Message(Message.Role.USER, "prompt " + i)))
+                .build();
+            ChatCompletionResponse response = response1.toBuilder()
+                .choices(List.of(Choice.builder()
+                    .index(0)
+                    .message(ResponseMessage.builder().content(largeContent).role("assistant").build())
+                    .build()))
+                .build();
+            weighted.put(request, response).block();
+        }
+        weighted.close();
+
+        // Then
+        var stats = weighted.getStats();
+        assertThat(stats.bytesRetained()).isPositive().isLessThanOrEqualTo(50_000L);
+        assertThat(stats.bytesEvicted()).isPositive();
+        assertThat(stats.evictionCount()).isPositive();
+        assertThat(stats.size()).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("Should report retained bytes for a count-bounded cache")
+    void shouldReportRetainedBytes() {
+        // When
+        cache.put(request1, response1).block();
+
+        // Then
+        assertThat(cache.getStats().bytesRetained()).isPositive();
+        assertThat(cache.getStats().bytesEvicted()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply per-model TTL overrides")
+    void shouldApplyModelTtlOverrides() {
+        // Given
+        lenient().when(mockConfig.modelTtls()).thenReturn(Map.of("gpt-4", Duration.ofSeconds(30)));
+        CaffeineCache overridden = new CaffeineCache(mockConfig);
+
+        // When / Then
+        assertThat(overridden.ttlFor("gpt-4")).isEqualTo(Duration.ofSeconds(30));
+        assertThat(overridden.ttlFor("gpt-3.5-turbo")).isEqualTo(Duration.ofSeconds(300));
+        assertThat(overridden.ttlFor(null)).isEqualTo(Duration.ofSeconds(300));
+    }
+
+    @Test
+    @DisplayName("Should take per-model TTL overrides as given rather than scaling them by timeUnit")
+    void shouldNotScaleModelTtlOverrides() {
+        // Given
+        lenient().when(mockConfig.timeUnit()).thenReturn(TimeUnit.MINUTES);
+        lenient().when(mockConfig.modelTtls()).thenReturn(Map.of("gpt-4", Duration.ofMinutes(10)));
+        CaffeineCache overridden = new CaffeineCache(mockConfig);
+
+        // When / Then
+        assertThat(overridden.ttlFor("gpt-4")).isEqualTo(Duration.ofMinutes(10));
+    }
 }
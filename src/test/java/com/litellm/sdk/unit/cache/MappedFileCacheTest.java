@@ -0,0 +1,239 @@
+package com.litellm.sdk.unit.cache;
+
+import com.litellm.sdk.cache.MappedFileCache;
+import com.litellm.sdk.cache.ResponseCodec;
+import com.litellm.sdk.config.CacheConfig;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice.ResponseMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedFileCache Unit Tests")
+class MappedFileCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private CacheConfig config;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        config = CacheConfig.builder()
+            .ttl(Duration.ofSeconds(60))
+            .persistentMaxBytes(64L * 1024)
+            .build();
+        file = tempDir.resolve("responses.cache");
+    }
+
+    @Test
+    @DisplayName("Should round-trip every response field through the binary codec")
+    void shouldRoundTripResponses() {
+        // Given
+        ChatCompletionResponse response = response("Hello there").toBuilder()
+            .usage(new Usage(12, 3, 15))
+            .created(1_700_000_000L)
+            .timestamp(Instant.ofEpochSecond(1_700_000_000L, 42))
+            .choices(List.of(Choice.builder()
+                .index(0)
+                .finishReason("stop")
+                .message(ResponseMessage.builder()
+                    .content("Hello there")
+                    .role("assistant")
+                    .images(List.of(Map.of("url", "https://example.com/a.png")))
+                    .thinkingBlocks(List.of())
+                    .build())
+                .build()))
+            .build();
+
+        // When
+        ChatCompletionResponse decoded = ResponseCodec.decode(ResponseCodec.encode(response));
+
+        // Then
+        assertThat(decoded).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("Should serve entries written before a restart")
+    void shouldSurviveReopen() {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        cache.put(request("first"), response("one")).block();
+        cache.put(request("second"), response("two")).block();
+        cache.close();
+
+        // When
+        MappedFileCache reopened = new MappedFileCache(file, config, clock::get);
+
+        // Then
+        assertThat(reopened.get(request("first")).block().getContent()).isEqualTo("one");
+        assertThat(reopened.get(request("second")).block().getContent()).isEqualTo("two");
+        assertThat(reopened.getStats().size()).isEqualTo(2);
+        assertThat(reopened.getStats().bytesRetained()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep the latest write for a key across restarts")
+    void shouldReplayOverwrites() {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        cache.put(request("prompt"), response("old")).block();
+        cache.put(request("prompt"), response("new")).block();
+
+        // When
+        MappedFileCache reopened = new MappedFileCache(file, config, clock::get);
+
+        // Then
+        assertThat(reopened.get(request("prompt")).block().getContent()).isEqualTo("new");
+        assertThat(reopened.getStats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve expired entries")
+    void shouldExpireEntries() {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        cache.put(request("prompt"), response("answer")).block();
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(61).toMillis());
+
+        // Then
+        assertThat(cache.get(request("prompt")).block()).isNull();
+        assertThat(cache.getStats().evictionCount()).isEqualTo(1);
+        assertThat(new MappedFileCache(file, config, clock::get).getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report the time an entry has left so a faster tier can expire it together")
+    void shouldReportRemainingTtl() {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        cache.put(request("prompt"), response("answer")).block();
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(45).toMillis());
+
+        // Then
+        assertThat(cache.getEntry(request("prompt")).block().remainingTtl()).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    @DisplayName("Should keep invalidated entries invalid after a restart")
+    void shouldPersistInvalidation() {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        cache.put(request("kept"), response("kept")).block();
+        cache.put(request("dropped"), response("dropped")).block();
+
+        // When
+        cache.invalidate(request("dropped"));
+        MappedFileCache reopened = new MappedFileCache(file, config, clock::get);
+
+        // Then
+        assertThat(cache.get(request("dropped")).block()).isNull();
+        assertThat(reopened.get(request("dropped")).block()).isNull();
+        assertThat(reopened.get(request("kept")).block()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should forget everything on invalidateAll, including after a restart")
+    void shouldPersistInvalidateAll() {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        cache.put(request("prompt"), response("answer")).block();
+
+        // When
+        cache.invalidateAll();
+        cache.put(request("after"), response("x")).block();
+        MappedFileCache reopened = new MappedFileCache(file, config, clock::get);
+
+        // Then
+        assertThat(cache.get(request("prompt")).block()).isNull();
+        assertThat(reopened.get(request("prompt")).block()).isNull();
+        assertThat(reopened.get(request("after")).block()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not serve a record whose bytes changed under the reader")
+    void shouldRejectRecordsFailingTheChecksum() throws IOException {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        cache.put(request("prompt"), response("answer")).block();
+
+        // When
+        // Overwrite the last payload byte through a second mapping, as a concurrent append would
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer shared = channel.map(FileChannel.MapMode.READ_WRITE, 0, 64L * 1024);
+            int end = 16 + shared.getInt(16);
+            shared.put(end - 1, (byte) (shared.get(end - 1) ^ 0x5a));
+        }
+
+        // Then
+        assertThat(cache.get(request("prompt")).block()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should compact a full file and keep the most recent entries")
+    void shouldCompactWhenFull() {
+        // Given
+        MappedFileCache cache = new MappedFileCache(file, config, clock::get);
+        String content = "y".repeat(8_000);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            cache.put(request("prompt " + i), response(content + i)).block();
+        }
+
+        // Then
+        var stats = cache.getStats();
+        assertThat(stats.size()).isLessThan(20);
+        assertThat(stats.bytesEvicted()).isPositive();
+        assertThat(cache.get(request("prompt 19")).block().getContent()).isEqualTo(content + 19);
+        assertThat(cache.get(request("prompt 0")).block()).isNull();
+        MappedFileCache reopened = new MappedFileCache(file, config, clock::get);
+        assertThat(reopened.get(request("prompt 19")).block()).isNotNull();
+        assertThat(reopened.getStats().size()).isEqualTo(stats.size());
+    }
+
+    private ChatCompletionRequest request(String prompt) {
+        return ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(new Message(Message.Role.USER, prompt)))
+            .build();
+    }
+
+    private ChatCompletionResponse response(String content) {
+        return ChatCompletionResponse.builder()
+            .id("resp")
+            .model("gpt-3.5-turbo")
+            .provider("openai")
+            .cached(false)
+            .choices(List.of(Choice.builder()
+                .index(0)
+                .finishReason("stop")
+                .message(ResponseMessage.builder().content(content).role("assistant").build())
+                .build()))
+            .build();
+    }
+}
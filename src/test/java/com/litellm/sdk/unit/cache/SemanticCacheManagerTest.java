@@ -0,0 +1,212 @@
+package com.litellm.sdk.unit.cache;
+
+import com.litellm.sdk.cache.SemanticCacheManager;
+import com.litellm.sdk.config.SemanticCacheConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice.ResponseMessage;
+import com.litellm.sdk.model.response.EmbeddingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SemanticCacheManager Unit Tests")
+class SemanticCacheManagerTest {
+
+    // Paraphrases point in nearly the same direction; the unrelated question is orthogonal
+    private static final Map<String, float[]> EMBEDDINGS = Map.of(
+        "user: How do I reset my password?", new float[] {1.0f, 0.0f, 0.0f},
+        "user: How can I reset my password", new float[] {0.99f, 0.1f, 0.0f},
+        "user: What are your opening hours?", new float[] {0.0f, 1.0f, 0.0f},
+        "user: Where is my order?", new float[] {0.0f, 0.0f, 2.0f});
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger embeddingCalls = new AtomicInteger();
+    private SemanticCacheManager cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache(SemanticCacheConfig.builder().enabled(true).ttl(Duration.ofMinutes(10)).build(), this::embed);
+    }
+
+    @Test
+    @DisplayName("Should serve a paraphrased prompt from cache")
+    void shouldServeParaphrases() {
+        // Given
+        load(request("How do I reset my password?"), "Use the reset link.");
+
+        // When
+        ChatCompletionResponse hit = cache.getOrCompute(request("How can I reset my password"),
+            () -> Mono.error(new AssertionError("should be served from cache"))).block();
+
+        // Then
+        assertThat(hit.getContent()).isEqualTo("Use the reset link.");
+        assertThat(hit.cached()).isTrue();
+        assertThat(cache.getStats().hitCount()).isEqualTo(1);
+        assertThat(embeddingCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should call upstream for prompts below the similarity threshold")
+    void shouldMissUnrelatedPrompts() {
+        // Given
+        load(request("How do I reset my password?"), "Use the reset link.");
+
+        // When
+        ChatCompletionResponse response = load(request("What are your opening hours?"), "9 to 5.");
+
+        // Then
+        assertThat(response.getContent()).isEqualTo("9 to 5.");
+        assertThat(response.cached()).isFalse();
+        assertThat(cache.getStats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep models and sampling parameters apart")
+    void shouldPartitionByModelAndParameters() {
+        // Given
+        load(request("How do I reset my password?"), "Use the reset link.");
+
+        // When
+        ChatCompletionResponse otherModel = cache.get(request("How do I reset my password?").toBuilder()
+            .model("gpt-4").build()).block();
+        ChatCompletionResponse otherTemperature = cache.get(request("How do I reset my password?").toBuilder()
+            .temperature(1.5).build()).block();
+        ChatCompletionResponse same = cache.get(request("How do I reset my password?")).block();
+
+        // Then
+        assertThat(otherModel).isNull();
+        assertThat(otherTemperature).isNull();
+        assertThat(same).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void shouldExpireEntries() {
+        // Given
+        load(request("How do I reset my password?"), "Use the reset link.");
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        // Then
+        assertThat(cache.get(request("How do I reset my password?")).block()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should overwrite the oldest entry when a model's partition is full")
+    void shouldBoundEntriesPerModel() {
+        // Given
+        cache = newCache(SemanticCacheConfig.builder().enabled(true).maxEntriesPerModel(2).build(), this::embed);
+
+        // When
+        load(request("How do I reset my password?"), "Use the reset link.");
+        load(request("What are your opening hours?"), "9 to 5.");
+        load(request("Where is my order?"), "On its way.");
+
+        // Then
+        var stats = cache.getStats();
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.evictionCount()).isEqualTo(1);
+        assertThat(stats.bytesRetained()).isPositive();
+        assertThat(cache.get(request("How do I reset my password?")).block()).isNull();
+        assertThat(cache.get(request("Where is my order?")).block()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should invalidate a request's own entry without embedding it again")
+    void shouldInvalidateByKeyWithoutEmbedding() {
+        // Given
+        load(request("How do I reset my password?"), "Use the reset link.");
+        load(request("What are your opening hours?"), "9 to 5.");
+        int callsBefore = embeddingCalls.get();
+
+        // When
+        // A paraphrase has a different key, so it leaves the stored entry alone
+        cache.invalidate(request("How can I reset my password"));
+        cache.invalidate(request("How do I reset my password?"));
+
+        // Then
+        assertThat(embeddingCalls.get()).isEqualTo(callsBefore);
+        assertThat(cache.getStats().size()).isEqualTo(1);
+        assertThat(cache.get(request("How do I reset my password?")).block()).isNull();
+        assertThat(cache.get(request("What are your opening hours?")).block()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should replace the entry when the same request is stored again")
+    void shouldReplaceEntryForSameRequest() {
+        // When
+        cache.put(request("How do I reset my password?"), response("Use the reset link.")).block();
+        cache.put(request("How do I reset my password?"), response("Use the new reset page.")).block();
+
+        // Then
+        assertThat(cache.getStats().size()).isEqualTo(1);
+        assertThat(cache.getStats().evictionCount()).isZero();
+        assertThat(cache.get(request("How do I reset my password?")).block().getContent())
+            .isEqualTo("Use the new reset page.");
+    }
+
+    @Test
+    @DisplayName("Should fall through to upstream when embedding fails")
+    void shouldIgnoreEmbeddingFailures() {
+        // Given
+        cache = newCache(SemanticCacheConfig.builder().enabled(true).build(),
+            request -> Mono.error(new IllegalStateException("embedding provider down")));
+
+        // When
+        ChatCompletionResponse response = load(request("How do I reset my password?"), "Use the reset link.");
+
+        // Then
+        assertThat(response.getContent()).isEqualTo("Use the reset link.");
+        assertThat(cache.getStats().size()).isZero();
+    }
+
+    private SemanticCacheManager newCache(SemanticCacheConfig config,
+                                          Function<EmbeddingRequest, Mono<EmbeddingResponse>> embedder) {
+        return new SemanticCacheManager(config, embedder, clock::get);
+    }
+
+    private Mono<EmbeddingResponse> embed(EmbeddingRequest request) {
+        embeddingCalls.incrementAndGet();
+        return Mono.just(EmbeddingResponse.builder()
+            .model(request.model())
+            .embedding(EMBEDDINGS.get(request.inputText()))
+            .build());
+    }
+
+    private ChatCompletionResponse load(ChatCompletionRequest request, String answer) {
+        return cache.getOrCompute(request, () -> Mono.just(response(answer))).block();
+    }
+
+    private ChatCompletionRequest request(String prompt) {
+        return ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(new Message(Message.Role.USER, prompt)))
+            .build();
+    }
+
+    private ChatCompletionResponse response(String content) {
+        return ChatCompletionResponse.builder()
+            .id("resp")
+            .cached(false)
+            .choices(List.of(Choice.builder()
+                .index(0)
+                .message(ResponseMessage.builder().content(content).role("assistant").build())
+                .build()))
+            .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.litellm.sdk.unit.cache;
+
+import com.litellm.sdk.cache.CacheManager;
+import com.litellm.sdk.cache.CacheManager.CachedEntry;
+import com.litellm.sdk.cache.CaffeineCache;
+import com.litellm.sdk.cache.TieredCache;
+import com.litellm.sdk.config.CacheConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice;
+import com.litellm.sdk.model.response.ChatCompletionResponse.Choice.ResponseMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TieredCache Unit Tests")
+class TieredCacheTest {
+
+    @Mock
+    private CacheManager l2;
+
+    private CaffeineCache l1;
+    private TieredCache cache;
+    private ChatCompletionRequest request;
+    private ChatCompletionResponse response;
+
+    @BeforeEach
+    void setUp() {
+        l1 = new CaffeineCache(CacheConfig.builder().maxSize(10).build());
+        cache = new TieredCache(l1, l2);
+        lenient().when(l2.put(any(), any())).thenReturn(Mono.empty());
+        lenient().when(l2.getEntry(any())).thenReturn(Mono.empty());
+
+        request = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(new Message(Message.Role.USER, "Hello")))
+            .build();
+        response = ChatCompletionResponse.builder()
+            .id("resp-1")
+            .cached(false)
+            .choices(List.of(Choice.builder()
+                .index(0)
+                .message(ResponseMessage.builder().content("Hi").role("assistant").build())
+                .build()))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should serve L2 hits as cached and promote them into L1")
+    void shouldPromoteL2Hits() {
+        // Given
+        lenient().when(l2.getEntry(request)).thenReturn(Mono.just(new CachedEntry(response, Duration.ofMinutes(1))));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        ChatCompletionResponse first = cache.getOrCompute(request, () -> {
+            loads.incrementAndGet();
+            return Mono.just(response);
+        }).block();
+        ChatCompletionResponse second = cache.getOrCompute(request, () -> Mono.just(response)).block();
+
+        // Then
+        assertThat(loads.get()).isZero();
+        assertThat(first.cached()).isTrue();
+        assertThat(second.cached()).isTrue();
+        assertThat(l1.get(request).block()).isNotNull();
+        verify(l2, times(1)).getEntry(request);
+    }
+
+    @Test
+    @DisplayName("Should expire promoted entries with their L2 record instead of a fresh L1 TTL")
+    void shouldKeepL2ExpiryOnPromotion() {
+        // Given
+        lenient().when(l2.getEntry(request)).thenReturn(Mono.just(new CachedEntry(response, Duration.ofMillis(50))));
+
+        // When
+        ChatCompletionResponse promoted = cache.get(request).block();
+        Mono.delay(Duration.ofMillis(200)).block();
+
+        // Then
+        assertThat(promoted).isNotNull();
+        assertThat(l1.get(request).block()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load misses from upstream and write them behind to L2")
+    void shouldWriteMissesToBothTiers() {
+        // When
+        ChatCompletionResponse loaded = cache.getOrCompute(request, () -> Mono.just(response)).block();
+
+        // Then
+        assertThat(loaded.cached()).isFalse();
+        assertThat(l1.get(request).block()).isNotNull();
+        verify(l2, timeout(1000)).put(request, response);
+    }
+
+    @Test
+    @DisplayName("Should answer L1 hits without consulting L2")
+    void shouldServeL1HitsDirectly() {
+        // Given
+        l1.put(request, response).block();
+
+        // When
+        ChatCompletionResponse hit = cache.get(request).block();
+
+        // Then
+        assertThat(hit).isNotNull();
+        verify(l2, never()).getEntry(any());
+    }
+}
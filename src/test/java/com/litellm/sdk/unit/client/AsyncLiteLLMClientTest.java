@@ -5,12 +5,15 @@ import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.Message;
 import com.litellm.sdk.model.request.TextCompletionRequest;
 import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.response.ChatCompletionChunk;
 import com.litellm.sdk.model.response.ChatCompletionResponse;
 import com.litellm.sdk.model.response.ChatCompletionResponse.Choice;
 import com.litellm.sdk.model.response.ChatCompletionResponse.Choice.ResponseMessage;
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
 import com.litellm.sdk.client.AsyncLiteLLMClient;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.routing.RequestBudget;
 import com.litellm.sdk.routing.Router;
 import com.litellm.sdk.retry.RetryPolicy;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
@@ -111,12 +115,15 @@ class AsyncLiteLLMClientTest {
             .model("text-embedding-ada-002")
             .build();
 
+        lenient().when(mockRetryPolicy.apply(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(mockRetryPolicy.applyStream(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
         lenient().when(mockRouter.providers()).thenReturn(List.of());
-        lenient().when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class)))
+        lenient().when(mockRouter.newBudget(any())).thenAnswer(invocation -> RequestBudget.of(null));
+        lenient().when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.empty());
-        lenient().when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class)))
+        lenient().when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.empty());
-        lenient().when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class)))
+        lenient().when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.empty());
     }
 
@@ -124,7 +131,7 @@ class AsyncLiteLLMClientTest {
     @DisplayName("Should execute async chat completion")
     void shouldExecuteAsyncChatCompletion() {
         // Given
-        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class)))
+        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(chatResponse));
 
         // When
@@ -135,14 +142,14 @@ class AsyncLiteLLMClientTest {
         ChatCompletionResponse response = result.block();
         assertThat(response).isNotNull();
         assertThat(response.id()).isEqualTo("chat-123");
-        verify(mockRouter).routeChatCompletion(anyList(), any(ChatCompletionRequest.class));
+        verify(mockRouter).routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class));
     }
 
     @Test
     @DisplayName("Should execute async text completion")
     void shouldExecuteAsyncTextCompletion() {
         // Given
-        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class)))
+        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(textResponse));
 
         // When
@@ -153,14 +160,14 @@ class AsyncLiteLLMClientTest {
         TextCompletionResponse response = result.block();
         assertThat(response).isNotNull();
         assertThat(response.id()).isEqualTo("text-123");
-        verify(mockRouter).routeTextCompletion(anyList(), any(TextCompletionRequest.class));
+        verify(mockRouter).routeTextCompletion(anyList(), any(TextCompletionRequest.class), any(RequestBudget.class));
     }
 
     @Test
     @DisplayName("Should execute async embedding creation")
     void shouldExecuteAsyncEmbedding() {
         // Given
-        when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class)))
+        when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(embeddingResponse));
 
         // When
@@ -171,25 +178,42 @@ class AsyncLiteLLMClientTest {
         EmbeddingResponse response = result.block();
         assertThat(response).isNotNull();
         assertThat(response.id()).isEqualTo("emb-123");
-        verify(mockRouter).routeEmbedding(anyList(), any(EmbeddingRequest.class));
+        verify(mockRouter).routeEmbedding(anyList(), any(EmbeddingRequest.class), any(RequestBudget.class));
     }
 
     @Test
     @DisplayName("Should execute async streaming chat completion")
     void shouldExecuteAsyncStreamingChatCompletion() {
         // Given
-        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class)))
-            .thenReturn(Mono.just(chatResponse));
+        ChatCompletionChunk first = ChatCompletionChunk.builder()
+            .id("chat-123")
+            .choices(List.of(ChatCompletionChunk.Choice.builder()
+                .index(0)
+                .delta(ChatCompletionChunk.Choice.Delta.builder().role("assistant").content("Hello").build())
+                .build()))
+            .build();
+        ChatCompletionChunk last = ChatCompletionChunk.builder()
+            .id("chat-123")
+            .choices(List.of(ChatCompletionChunk.Choice.builder()
+                .index(0)
+                .delta(ChatCompletionChunk.Choice.Delta.builder().content("!").build())
+                .finishReason("stop")
+                .build()))
+            .usage(Usage.of(5, 2))
+            .build();
+        when(mockRouter.routeChatCompletionStream(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
+            .thenReturn(Flux.just(first, last));
 
         // When
-        Mono<ChatCompletionResponse> result = client.chatCompletionStream(chatRequest);
+        Flux<ChatCompletionChunk> result = client.chatCompletionStream(chatRequest);
 
         // Then
-        assertThat(result).isNotNull();
-        ChatCompletionResponse response = result.block();
-        assertThat(response).isNotNull();
-        assertThat(response.id()).isEqualTo("chat-123");
-        verify(mockRouter).routeChatCompletion(anyList(), any(ChatCompletionRequest.class));
+        List<ChatCompletionChunk> chunks = result.collectList().block();
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0).getContent()).isEqualTo("Hello");
+        assertThat(chunks.get(1).getFinishReason()).isEqualTo("stop");
+        assertThat(chunks.get(1).usage().getTotalTokens()).isEqualTo(7);
+        verify(mockRouter).routeChatCompletionStream(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class));
     }
 
     @Test
@@ -245,7 +269,7 @@ class AsyncLiteLLMClientTest {
     void shouldHandleChatCompletionErrorsWithRetry() {
         // Given
         RuntimeException error = new RuntimeException("Test error");
-        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class)))
+        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.error(error));
 
         // When
@@ -262,7 +286,7 @@ class AsyncLiteLLMClientTest {
     void shouldHandleTextCompletionErrorsWithRetry() {
         // Given
         RuntimeException error = new RuntimeException("Test error");
-        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class)))
+        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.error(error));
 
         // When
@@ -279,7 +303,7 @@ class AsyncLiteLLMClientTest {
     void shouldHandleEmbeddingErrorsWithRetry() {
         // Given
         RuntimeException error = new RuntimeException("Test error");
-        when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class)))
+        when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.error(error));
 
         // When
@@ -298,6 +322,6 @@ class AsyncLiteLLMClientTest {
         assertThat(client.chatCompletion(chatRequest)).isInstanceOf(Mono.class);
         assertThat(client.textCompletion(textRequest)).isInstanceOf(Mono.class);
         assertThat(client.embeddings(embeddingRequest)).isInstanceOf(Mono.class);
-        assertThat(client.chatCompletionStream(chatRequest)).isInstanceOf(Mono.class);
+        assertThat(client.chatCompletionStream(chatRequest)).isInstanceOf(Flux.class);
     }
 }
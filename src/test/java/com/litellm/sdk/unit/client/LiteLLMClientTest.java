@@ -1,6 +1,9 @@
 package com.litellm.sdk.unit.client;
 
+import com.litellm.sdk.batch.BatchResult;
 import com.litellm.sdk.client.LiteLLMClient;
+import com.litellm.sdk.config.RetryConfig;
+import com.litellm.sdk.error.ProviderException;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.Message;
 import com.litellm.sdk.model.request.TextCompletionRequest;
@@ -11,6 +14,8 @@ import com.litellm.sdk.model.response.ChatCompletionResponse.Choice.ResponseMess
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
 import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.retry.RetryPolicy;
+import com.litellm.sdk.routing.RequestBudget;
 import com.litellm.sdk.routing.Router;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +25,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.lenient;
@@ -108,13 +116,14 @@ class LiteLLMClientTest {
             .build();
 
         lenient().when(mockRouter.providers()).thenReturn(List.of(mockProvider));
+        lenient().when(mockRouter.newBudget(any())).thenAnswer(invocation -> RequestBudget.of(null));
     }
 
     @Test
     @DisplayName("Should execute chat completion successfully")
     void shouldExecuteChatCompletion() {
         // Given
-        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class)))
+        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(chatResponse));
 
         // When
@@ -124,14 +133,14 @@ class LiteLLMClientTest {
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo("chat-123");
         assertThat(result.getContent()).isEqualTo("Hello! How can I help you?");
-        verify(mockRouter).routeChatCompletion(anyList(), any(ChatCompletionRequest.class));
+        verify(mockRouter).routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class));
     }
 
     @Test
     @DisplayName("Should execute text completion successfully")
     void shouldExecuteTextCompletion() {
         // Given
-        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class)))
+        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(textResponse));
 
         // When
@@ -141,14 +150,14 @@ class LiteLLMClientTest {
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo("text-123");
         assertThat(result.content()).isEqualTo("Hello text response");
-        verify(mockRouter).routeTextCompletion(anyList(), any(TextCompletionRequest.class));
+        verify(mockRouter).routeTextCompletion(anyList(), any(TextCompletionRequest.class), any(RequestBudget.class));
     }
 
     @Test
     @DisplayName("Should execute embedding creation successfully")
     void shouldExecuteEmbedding() {
         // Given
-        when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class)))
+        when(mockRouter.routeEmbedding(anyList(), any(EmbeddingRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(embeddingResponse));
 
         // When
@@ -158,7 +167,7 @@ class LiteLLMClientTest {
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo("emb-123");
         assertThat(result.model()).isEqualTo("text-embedding-ada-002");
-        verify(mockRouter).routeEmbedding(anyList(), any(EmbeddingRequest.class));
+        verify(mockRouter).routeEmbedding(anyList(), any(EmbeddingRequest.class), any(RequestBudget.class));
     }
 
     @Test
@@ -170,7 +179,7 @@ class LiteLLMClientTest {
             .messages(List.of(Message.builder().role(Message.Role.USER).content("Hi").build()))
             .build();
 
-        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class)))
+        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(chatResponse));
 
         List<ChatCompletionRequest> requests = List.of(chatRequest, request2);
@@ -194,7 +203,7 @@ class LiteLLMClientTest {
             .prompt("Hi")
             .build();
 
-        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class)))
+        when(mockRouter.routeTextCompletion(anyList(), any(TextCompletionRequest.class), any(RequestBudget.class)))
             .thenReturn(Mono.just(textResponse));
 
         List<TextCompletionRequest> requests = List.of(textRequest, request2);
@@ -209,6 +218,54 @@ class LiteLLMClientTest {
         assertThat(results.get(1)).isEqualTo(textResponse);
     }
 
+    @Test
+    @DisplayName("Should retry a transient 503 on the blocking path")
+    void shouldRetryTransientFailures() {
+        // Given
+        LiteLLMClient retryingClient = new LiteLLMClient(mockRouter, new RetryPolicy(RetryConfig.builder()
+            .initialDelay(Duration.ofMillis(1))
+            .maxDelay(Duration.ofMillis(5))
+            .build()));
+        AtomicInteger attempts = new AtomicInteger();
+        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
+            .thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(new ProviderException("service unavailable", "openai", 503))
+                : Mono.just(chatResponse)));
+
+        // When
+        ChatCompletionResponse result = retryingClient.chatCompletion(chatRequest);
+
+        // Then
+        assertThat(result).isEqualTo(chatResponse);
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report per-item failures in batch results")
+    void shouldReportBatchFailuresPerItem() {
+        // Given
+        ChatCompletionRequest failing = ChatCompletionRequest.builder()
+            .model("gpt-4")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hi").build()))
+            .build();
+
+        when(mockRouter.routeChatCompletion(anyList(), any(ChatCompletionRequest.class), any(RequestBudget.class)))
+            .thenAnswer(invocation -> invocation.getArgument(1) == failing
+                ? Mono.error(new IllegalStateException("provider down"))
+                : Mono.just(chatResponse));
+
+        // When
+        List<BatchResult<ChatCompletionResponse>> results =
+            client.batchChatCompletionResults(List.of(chatRequest, failing, chatRequest), 2);
+
+        // Then
+        assertThat(results).extracting(BatchResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BatchResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(1).error()).hasMessage("provider down");
+        assertThatThrownBy(() -> client.batchChatCompletion(List.of(chatRequest, failing)))
+            .hasMessage("provider down");
+    }
+
     @Test
     @DisplayName("Should close client without errors")
     void shouldCloseClient() {
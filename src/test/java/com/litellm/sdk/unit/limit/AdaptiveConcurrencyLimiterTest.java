@@ -0,0 +1,161 @@
+package com.litellm.sdk.unit.limit;
+
+import com.litellm.sdk.config.ConcurrencyLimitConfig;
+import com.litellm.sdk.limit.AdaptiveConcurrencyLimiter;
+import com.litellm.sdk.limit.AdaptiveConcurrencyLimiter.Outcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig.builder()
+            .enabled(true)
+            .initialLimit(initialLimit)
+            .minLimit(1)
+            .maxLimit(10)
+            .backoffRatio(0.5)
+            .build());
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the current limit")
+    void shouldRejectBeyondLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        // When / Then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(FAST, Outcome.IGNORED);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should grow additively while latency is stable and the limit is in use")
+    void shouldGrowWhileLatencyStable() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        // When
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, Outcome.SUCCESS);
+        limiter.release(FAST, Outcome.SUCCESS);
+
+        // Then - only the first completion saw at least half of the limit in use
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not grow when the limit is not the bottleneck")
+    void shouldNotGrowWhenUnderused() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, Outcome.SUCCESS);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on sustained latency inflation")
+    void shouldBackOffOnSustainedInflation() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+        complete(limiter, FAST, 20);
+
+        // When - one slow call is not enough
+        complete(limiter, SLOW, 1);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        // When - latency stays at five times the baseline
+        complete(limiter, SLOW, 5);
+
+        // Then
+        assertThat(limiter.getLimit()).isLessThan(8);
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on drops but never below the minimum")
+    void shouldBackOffOnDrops() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release(FAST, Outcome.DROPPED);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        // When - rate limited three more times
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, Outcome.DROPPED);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold its limit under healthy load with mixed completion lengths")
+    void shouldStayStableWithMixedLengthLatencies() {
+        // Given - 200ms overhead plus 20ms per output token, 10 to 500 tokens
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig.builder()
+            .enabled(true)
+            .initialLimit(20)
+            .maxLimit(40)
+            .build());
+        Random random = new Random(42);
+        int lowest = limiter.getLimit();
+
+        // When - the limit is kept saturated so every completion is eligible to grow it
+        for (int i = 0; i < 5_000; i++) {
+            while (limiter.tryAcquire()) {
+                // fill up to the current limit
+            }
+            long latency = TimeUnit.MILLISECONDS.toNanos(200 + 20L * (10 + random.nextInt(491)));
+            limiter.release(latency, Outcome.SUCCESS);
+            lowest = Math.min(lowest, limiter.getLimit());
+        }
+
+        // Then
+        assertThat(lowest).isEqualTo(20);
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    private static void complete(AdaptiveConcurrencyLimiter limiter, long latencyNanos, int calls) {
+        for (int i = 0; i < calls; i++) {
+            limiter.tryAcquire();
+            limiter.release(latencyNanos, Outcome.SUCCESS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should validate limit bounds")
+    void shouldValidateBounds() {
+        assertThatThrownBy(() -> ConcurrencyLimitConfig.builder().minLimit(5).initialLimit(2).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
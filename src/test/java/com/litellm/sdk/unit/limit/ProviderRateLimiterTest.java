@@ -0,0 +1,182 @@
+package com.litellm.sdk.unit.limit;
+
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.config.RateLimitConfig;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.limit.ProviderRateLimiter;
+import com.litellm.sdk.limit.RateLimiterRegistry;
+import com.litellm.sdk.limit.TokenBucket;
+import com.litellm.sdk.model.common.Usage;
+import com.litellm.sdk.provider.Provider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProviderRateLimiter Unit Tests")
+class ProviderRateLimiterTest {
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity and then refill continuously")
+    void shouldRefillBucket() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, TimeUnit.SECONDS.toNanos(1), clock.get());
+
+        // When / Then
+        assertThat(bucket.tryAcquire(1, clock.get())).isZero();
+        assertThat(bucket.tryAcquire(1, clock.get())).isZero();
+        assertThat(bucket.tryAcquire(1, clock.get())).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryAcquire(1, clock.get())).isZero();
+        assertThat(bucket.available(clock.get())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should enforce requests per second and give back partial reservations")
+    void shouldEnforceRequestLimits() {
+        // Given
+        ProviderRateLimiter limiter = new ProviderRateLimiter(RateLimitConfig.builder()
+            .requestsPerSecond(10)
+            .tokensPerMinute(100)
+            .build(), clock::get);
+
+        // When - the token bucket rejects, so the request slot must be returned
+        assertThat(limiter.tryAcquire(80)).isZero();
+        assertThat(limiter.tryAcquire(80)).isPositive();
+
+        // Then - nine request slots remain for cheap calls
+        for (int i = 0; i < 9; i++) {
+            assertThat(limiter.tryAcquire(1)).isZero();
+        }
+        assertThat(limiter.tryAcquire(1)).isPositive();
+        assertThat(limiter.isSaturated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reconcile the token estimate with reported usage")
+    void shouldReconcileTokens() {
+        // Given
+        ProviderRateLimiter limiter = new ProviderRateLimiter(RateLimitConfig.builder()
+            .tokensPerMinute(1000)
+            .build(), clock::get);
+        assertThat(limiter.tryAcquire(500)).isZero();
+
+        // When - the call actually used 100 tokens
+        limiter.reconcile(500, Usage.ofTotal(100));
+
+        // Then
+        assertThat(limiter.getAvailableTokens()).isEqualTo(900);
+
+        // When - the next call used more than estimated
+        assertThat(limiter.tryAcquire(100)).isZero();
+        limiter.reconcile(100, Usage.ofTotal(400));
+
+        // Then
+        assertThat(limiter.getAvailableTokens()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should settle no more than was charged when the estimate exceeds the token limit")
+    void shouldCapSettlementAtCharge() {
+        // Given
+        ProviderRateLimiter limiter = new ProviderRateLimiter(RateLimitConfig.builder()
+            .tokensPerMinute(1000)
+            .build(), clock::get);
+        assertThat(limiter.tryAcquire(5000)).isZero();
+        assertThat(limiter.getAvailableTokens()).isZero();
+
+        // When - the call used 200 tokens, though 5000 were estimated and only 1000 charged
+        limiter.reconcile(5000, Usage.ofTotal(200));
+
+        // Then
+        assertThat(limiter.getAvailableTokens()).isEqualTo(800);
+
+        // When - another oversized call is admitted, a call already in flight reports 300 tokens over its estimate,
+        // and the oversized call then fails without reaching the provider
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        assertThat(limiter.tryAcquire(5000)).isZero();
+        limiter.reconcile(100, Usage.ofTotal(400));
+        limiter.release(5000);
+
+        // Then - the other call's usage is still counted
+        assertThat(limiter.getAvailableTokens()).isEqualTo(700);
+    }
+
+    @Test
+    @DisplayName("Should only refund tokens for calls that never reached the provider")
+    void shouldRefundOnlyUnsentCalls() {
+        // Given
+        RateLimiterRegistry registry = new RateLimiterRegistry();
+        Provider provider = mock(Provider.class);
+        when(provider.getName()).thenReturn("openai");
+        when(provider.getConfig()).thenReturn(ProviderConfig.builder()
+            .rateLimit(RateLimitConfig.builder().tokensPerMinute(100_000).build())
+            .build());
+        ProviderRateLimiter limiter = registry.limiterFor(provider).orElseThrow();
+
+        // When - a server error and a timeout both reached the provider
+        assertThat(registry.tryAcquire(provider, 30_000)).isZero();
+        registry.onError(provider, 30_000, new ProviderException("unavailable", "openai", 503));
+        assertThat(registry.tryAcquire(provider, 30_000)).isZero();
+        registry.onError(provider, 30_000, new RuntimeException(new TimeoutException()));
+
+        // Then
+        assertThat(limiter.getAvailableTokens()).isLessThanOrEqualTo(41_000);
+
+        // When - the connection was refused
+        assertThat(registry.tryAcquire(provider, 30_000)).isZero();
+        registry.onError(provider, 30_000, new RuntimeException(new ConnectException("Connection refused")));
+
+        // Then
+        assertThat(limiter.getAvailableTokens()).isBetween(40_000L, 41_000L);
+    }
+
+    @Test
+    @DisplayName("Should pause after an upstream rate limit for Retry-After or the cooldown")
+    void shouldCoolDownAfterUpstreamRateLimit() {
+        // Given
+        ProviderRateLimiter limiter = new ProviderRateLimiter(RateLimitConfig.builder()
+            .requestsPerMinute(100)
+            .cooldownPeriod(Duration.ofSeconds(5))
+            .build(), clock::get);
+
+        // When
+        limiter.onRateLimited(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(limiter.tryAcquire(1)).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(limiter.tryAcquire(1)).isZero();
+
+        // When - no Retry-After was sent
+        limiter.onRateLimited(null);
+
+        // Then
+        assertThat(limiter.tryAcquire(1)).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive limits")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> RateLimitConfig.builder().requestsPerSecond(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,154 @@
+package com.litellm.sdk.unit.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.model.request.EmbeddingRequest;
+import com.litellm.sdk.model.response.EmbeddingResponse;
+import com.litellm.sdk.provider.EmbeddingParser;
+import com.litellm.sdk.provider.LiteLLMProvider;
+import com.litellm.sdk.provider.transport.ProviderTransport;
+import com.litellm.sdk.provider.transport.TransportRequest;
+import com.litellm.sdk.provider.transport.TransportResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EmbeddingParser Unit Tests")
+class EmbeddingParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should parse float vectors in index order with usage")
+    void shouldParseFloatVectorsByIndex() throws Exception {
+        // Given
+        String body = """
+            {"object": "list", "model": "text-embedding-3-small",
+             "data": [
+               {"object": "embedding", "index": 1, "embedding": [0.5, -0.25]},
+               {"object": "embedding", "index": 0, "embedding": [1.0, 2.0]}
+             ],
+             "usage": {"prompt_tokens": 8, "total_tokens": 8}}
+            """;
+
+        // When
+        EmbeddingParser.Result result = EmbeddingParser.parse(objectMapper, "openai", body, 2);
+
+        // Then
+        assertThat(result.model()).isEqualTo("text-embedding-3-small");
+        assertThat(result.vectors()).hasSize(2);
+        assertThat(result.vectors().get(0)).containsExactly(1.0f, 2.0f);
+        assertThat(result.vectors().get(1)).containsExactly(0.5f, -0.25f);
+        assertThat(result.usage().getPromptTokens()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should decode base64 little-endian float32 vectors")
+    void shouldDecodeBase64Vectors() throws Exception {
+        // Given
+        ByteBuffer bytes = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putFloat(0.125f).putFloat(-3f).putFloat(42f);
+        String encoded = Base64.getEncoder().encodeToString(bytes.array());
+        String body = "{\"data\": [{\"index\": 0, \"embedding\": \"" + encoded + "\"}]}";
+
+        // When
+        EmbeddingParser.Result result = EmbeddingParser.parse(objectMapper, "openai", body, 1);
+
+        // Then
+        assertThat(result.vectors().get(0)).containsExactly(0.125f, -3f, 42f);
+        assertThat(result.usage()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a response missing the vector for one of the inputs")
+    void shouldRejectMissingIndex() {
+        // Given - input 1 of 3 has no vector
+        String body = """
+            {"data": [
+               {"index": 0, "embedding": [1.0]},
+               {"index": 2, "embedding": [3.0]}
+             ]}
+            """;
+
+        // When & Then
+        assertThatThrownBy(() -> EmbeddingParser.parse(objectMapper, "openai", body, 3))
+            .isInstanceOf(ProviderException.class)
+            .hasMessageContaining("no embedding for input 1 of 3");
+    }
+
+    @Test
+    @DisplayName("Should reject embedding indices outside the inputs")
+    void shouldRejectOutOfRangeIndex() {
+        // Given
+        String negative = "{\"data\": [{\"index\": -1, \"embedding\": [1.0]}]}";
+        String tooLarge = "{\"data\": [{\"index\": 0, \"embedding\": [1.0]}, {\"index\": 2, \"embedding\": [2.0]}]}";
+
+        // When & Then
+        assertThatThrownBy(() -> EmbeddingParser.parse(objectMapper, "openai", negative, 1))
+            .isInstanceOf(ProviderException.class)
+            .hasMessageContaining("index -1");
+        assertThatThrownBy(() -> EmbeddingParser.parse(objectMapper, "openai", tooLarge, 2))
+            .isInstanceOf(ProviderException.class)
+            .hasMessageContaining("index 2");
+    }
+
+    @Test
+    @DisplayName("Should split large inputs into batches and keep vectors in input order")
+    void shouldBatchEmbeddingInputs() {
+        // Given
+        ProviderTransport transport = mock(ProviderTransport.class);
+        List<TransportRequest> sent = new ArrayList<>();
+        when(transport.execute(any())).thenAnswer(invocation -> {
+            TransportRequest request = invocation.getArgument(0);
+            sent.add(request);
+            List<?> inputs = (List<?>) objectMapper.readValue(request.body(), Map.class).get("input");
+            StringBuilder data = new StringBuilder();
+            for (int i = 0; i < inputs.size(); i++) {
+                String text = (String) inputs.get(i);
+                data.append(i > 0 ? "," : "")
+                    .append("{\"index\":").append(i)
+                    .append(",\"embedding\":[").append(text.substring(text.indexOf('-') + 1)).append(",1.0]}");
+            }
+            String body = "{\"data\":[" + data + "],\"usage\":{\"prompt_tokens\":" + inputs.size()
+                + ",\"total_tokens\":" + inputs.size() + "}}";
+            return Mono.just(new TransportResponse(200, Map.of(), body));
+        });
+        LiteLLMProvider provider = new LiteLLMProvider(ProviderConfig.builder()
+            .id("openai")
+            .apiKey("test-api-key")
+            .baseUrl("https://api.openai.com")
+            .build(), transport);
+        List<String> inputs = IntStream.range(0, 4100).mapToObj(i -> "doc-" + i).toList();
+
+        // When
+        EmbeddingResponse response = provider.createEmbedding(EmbeddingRequest.builder()
+            .model("text-embedding-3-small")
+            .input(inputs)
+            .build()).block();
+
+        // Then
+        assertThat(sent).hasSize(3);
+        assertThat(sent.get(0).uri().getPath()).isEqualTo("/embeddings");
+        assertThat(response.embeddings()).hasSize(4100);
+        assertThat(response.embeddings().get(4099)).containsExactly(4099f, 1.0f);
+        assertThat(response.embedding()).containsExactly(0f, 1.0f);
+        assertThat(response.vector(2048).get(0)).isEqualTo(2048f);
+        assertThat(response.usage().getPromptTokens()).isEqualTo(4100);
+        assertThat(response.provider()).isEqualTo("openai");
+    }
+}
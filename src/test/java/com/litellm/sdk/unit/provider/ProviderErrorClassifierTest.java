@@ -0,0 +1,132 @@
+package com.litellm.sdk.unit.provider;
+
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.provider.LiteLLMProvider;
+import com.litellm.sdk.provider.ProviderErrorClassifier;
+import com.litellm.sdk.provider.transport.ProviderTransport;
+import com.litellm.sdk.provider.transport.TransportException;
+import com.litellm.sdk.provider.transport.TransportRequest;
+import com.litellm.sdk.provider.transport.TransportResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProviderErrorClassifier Unit Tests")
+class ProviderErrorClassifierTest {
+
+    private static TransportException httpError(int status, Map<String, List<String>> headers, String body) {
+        return new TransportException(new TransportResponse(status, headers, body));
+    }
+
+    @Test
+    @DisplayName("Should map 429 to a rate limit exception with the requested wait")
+    void shouldMapRateLimit() {
+        // Given
+        TransportException error = httpError(429, Map.of(
+                "Retry-After", List.of("7"),
+                "x-ratelimit-remaining-tokens", List.of("0")),
+            "{\"error\":{\"message\":\"Too many tokens\",\"type\":\"tokens\"}}");
+
+        // When
+        Throwable classified = ProviderErrorClassifier.classify("openai", error);
+
+        // Then
+        assertThat(classified).isInstanceOf(RateLimitException.class);
+        RateLimitException rateLimit = (RateLimitException) classified;
+        assertThat(rateLimit.retryAfter).isEqualTo(Duration.ofSeconds(7));
+        assertThat(rateLimit.rateLimitType).isEqualTo(RateLimitException.TOKEN_LIMIT);
+        assertThat(rateLimit.providerId).isEqualTo("openai");
+        assertThat(rateLimit.getMessage()).contains("Too many tokens");
+        assertThat(rateLimit.getCause()).isSameAs(error);
+    }
+
+    @Test
+    @DisplayName("Should prefer retry-after-ms and fall back to rate limit reset headers")
+    void shouldReadRetryAfterVariants() {
+        // Then
+        assertThat(ProviderErrorClassifier.retryAfter(new TransportResponse(429,
+            Map.of("retry-after-ms", List.of("250"), "Retry-After", List.of("5")), "")))
+            .isEqualTo(Duration.ofMillis(250));
+        assertThat(ProviderErrorClassifier.retryAfter(new TransportResponse(429,
+            Map.of("x-ratelimit-reset-requests", List.of("1s"), "x-ratelimit-reset-tokens", List.of("6m0s")), "")))
+            .isEqualTo(Duration.ofMinutes(6));
+        assertThat(ProviderErrorClassifier.retryAfter(new TransportResponse(429, Map.of(), ""))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map HTTP errors to provider exceptions that are retryable only when transient")
+    void shouldMapHttpErrors() {
+        // When
+        ProviderException badRequest = (ProviderException) ProviderErrorClassifier.classify("openai",
+            httpError(400, Map.of(), "{\"error\":{\"message\":\"Bad model\",\"code\":\"model_not_found\"}}"));
+        ProviderException requestTimeout = (ProviderException) ProviderErrorClassifier.classify("openai",
+            httpError(408, Map.of(), ""));
+        ProviderException unavailable = (ProviderException) ProviderErrorClassifier.classify("openai",
+            httpError(503, Map.of(), "<html>busy</html>"));
+
+        // Then
+        assertThat(badRequest.httpStatusCode).isEqualTo(400);
+        assertThat(badRequest.providerErrorCode).isEqualTo("model_not_found");
+        assertThat(badRequest.isRetryable()).isFalse();
+        assertThat(requestTimeout.isRetryable()).isTrue();
+        assertThat(unavailable.isRetryable()).isTrue();
+        assertThat(unavailable.providerErrorCode).isEqualTo("HTTP_503");
+    }
+
+    @Test
+    @DisplayName("Should map connection failures and timeouts to retryable provider exceptions")
+    void shouldMapConnectionFailures() {
+        // When
+        Throwable connect = ProviderErrorClassifier.classify("openai",
+            new RuntimeException("wrapped", new ConnectException("Connection refused")));
+        Throwable timeout = ProviderErrorClassifier.classify("openai", new TimeoutException("Did not observe any item"));
+        Throwable other = ProviderErrorClassifier.classify("openai", new IllegalStateException("bug"));
+
+        // Then
+        assertThat(connect).isInstanceOf(ProviderException.class);
+        assertThat(((ProviderException) connect).httpStatusCode).isEqualTo(503);
+        assertThat(((ProviderException) timeout).httpStatusCode).isEqualTo(504);
+        assertThat(other).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should surface typed errors from provider chat completions")
+    void shouldSurfaceTypedErrorsFromProvider() {
+        // Given
+        ProviderTransport transport = Mockito.mock(ProviderTransport.class);
+        when(transport.execute(any(TransportRequest.class))).thenReturn(Mono.just(
+            new TransportResponse(429, Map.of("Retry-After", List.of("2")), "")));
+        LiteLLMProvider provider = new LiteLLMProvider(ProviderConfig.builder()
+            .id("openai")
+            .name("OpenAI")
+            .apiKey("test-api-key")
+            .baseUrl("https://api.openai.com")
+            .models(List.of("gpt-4"))
+            .build(), transport);
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+            .model("gpt-4")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hello").build()))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> provider.chatCompletion(request).block(Duration.ofSeconds(5)))
+            .hasCauseInstanceOf(RateLimitException.class);
+        assertThat(provider.getErrorCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.litellm.sdk.unit.provider;
+
+import com.litellm.sdk.provider.metrics.LatencyHistogram;
+import com.litellm.sdk.provider.metrics.ProviderMetricsRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ProviderMetricsRecorder Unit Tests")
+class ProviderMetricsRecorderTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private AtomicLong clock;
+    private ProviderMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        recorder = new ProviderMetricsRecorder(new LatencyHistogram(6, WINDOW_NANOS, clock::get));
+    }
+
+    @Test
+    @DisplayName("Should report neutral values before any request")
+    void shouldReportNeutralValuesWhenEmpty() {
+        // Then
+        assertThat(recorder.getRequestCount()).isZero();
+        assertThat(recorder.getAverageLatency()).isEqualTo(Duration.ZERO);
+        assertThat(recorder.getP95Latency()).isEqualTo(Duration.ZERO);
+        assertThat(recorder.getSuccessRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should compute percentiles within bucket precision")
+    void shouldComputePercentiles() {
+        // Given - latencies of 1ms to 100ms
+        for (int i = 1; i <= 100; i++) {
+            recorder.recordRequest(Duration.ofMillis(i), true);
+        }
+
+        // Then
+        assertThat(recorder.getP50Latency().toMillis()).isCloseTo(50, within(2L));
+        assertThat(recorder.getP95Latency().toMillis()).isCloseTo(95, within(3L));
+        assertThat(recorder.getP99Latency().toMillis()).isCloseTo(99, within(3L));
+        assertThat(recorder.getAverageLatency().toMillis()).isCloseTo(50, within(1L));
+    }
+
+    @Test
+    @DisplayName("Should track status classes, tokens and success rate")
+    void shouldTrackStatusAndTokens() {
+        // When
+        recorder.recordRequest(TimeUnit.MILLISECONDS.toNanos(20), 200, 10, 5);
+        recorder.recordRequest(TimeUnit.MILLISECONDS.toNanos(20), 200, 7, 3);
+        recorder.recordRequest(TimeUnit.MILLISECONDS.toNanos(20), 429, 0, 0);
+        recorder.recordRequest(TimeUnit.MILLISECONDS.toNanos(20), 0, 0, 0);
+
+        // Then
+        assertThat(recorder.getRequestCount()).isEqualTo(4);
+        assertThat(recorder.getSuccessCount()).isEqualTo(2);
+        assertThat(recorder.getErrorCount()).isEqualTo(2);
+        assertThat(recorder.getStatusClassCount(2)).isEqualTo(2);
+        assertThat(recorder.getStatusClassCount(4)).isEqualTo(1);
+        assertThat(recorder.getStatusClassCount(0)).isEqualTo(1);
+        assertThat(recorder.getPromptTokenCount()).isEqualTo(17);
+        assertThat(recorder.getCompletionTokenCount()).isEqualTo(8);
+        assertThat(recorder.getSuccessRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should decay old samples out of the rolling window")
+    void shouldDecayOldSamples() {
+        // Given - a slow failing period
+        for (int i = 0; i < 10; i++) {
+            recorder.recordRequest(Duration.ofSeconds(2), false);
+        }
+
+        // When - the rolling period passes and fast successes arrive
+        clock.addAndGet(6 * WINDOW_NANOS);
+        for (int i = 0; i < 10; i++) {
+            recorder.recordRequest(Duration.ofMillis(10), true);
+        }
+
+        // Then - rolling values reflect only recent traffic, lifetime counters keep everything
+        assertThat(recorder.getSuccessRate()).isEqualTo(1.0);
+        assertThat(recorder.getP99Latency().toMillis()).isLessThanOrEqualTo(11);
+        assertThat(recorder.getRequestCount()).isEqualTo(20);
+        assertThat(recorder.getErrorCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should keep samples from windows still inside the rolling period")
+    void shouldKeepRecentWindows() {
+        // Given
+        recorder.recordRequest(Duration.ofMillis(10), false);
+
+        // When
+        clock.addAndGet(3 * WINDOW_NANOS);
+        recorder.recordRequest(Duration.ofMillis(10), true);
+
+        // Then
+        assertThat(recorder.getSuccessRate()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,159 @@
+package com.litellm.sdk.unit.provider;
+
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.model.response.ChatCompletionChunk;
+import com.litellm.sdk.model.response.ChatCompletionResponse;
+import com.litellm.sdk.provider.LiteLLMProvider;
+import com.litellm.sdk.provider.transport.ReactorNettyTransport;
+import com.litellm.sdk.provider.transport.TransportException;
+import com.litellm.sdk.provider.transport.TransportRequest;
+import com.litellm.sdk.provider.transport.TransportResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReactorNettyTransport Unit Tests")
+class ReactorNettyTransportTest {
+
+    private DisposableServer server;
+    private final AtomicReference<String> lastRequestBody = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                .post("/v1/chat/completions", (request, response) -> request.receive().aggregate().asString()
+                    .flatMapMany(body -> {
+                        lastRequestBody.set(body);
+                        if (body.contains("\"stream\":true")) {
+                            return response.header("Content-Type", "text/event-stream")
+                                .sendString(Flux.just(
+                                    "data: {\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"Hel\"}}]}\n\n",
+                                    "data: {\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"lo\"},\"finish_reason\":\"stop\"}]}\n\n",
+                                    "data: {\"id\":\"c1\",\"choices\":[],\"usage\":{\"prompt_tokens\":3,\"completion_tokens\":2}}\n\n",
+                                    "data: [DONE]\n\n"));
+                        }
+                        return response.header("Content-Type", "application/json")
+                            .sendString(Mono.just("{\"id\":\"c2\",\"model\":\"gpt-4\",\"choices\":[{\"index\":0,"
+                                + "\"finish_reason\":\"stop\",\"message\":{\"role\":\"assistant\",\"content\":\"Hi\"}}],"
+                                + "\"usage\":{\"prompt_tokens\":3,\"completion_tokens\":1}}"));
+                    }))
+                .post("/v1/missing", (request, response) -> response.status(404)
+                    .header("Retry-After", "3")
+                    .sendString(Mono.just("not found"))))
+            .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should return response for any status code")
+    void shouldReturnResponseForAnyStatusCode() {
+        // Given
+        ReactorNettyTransport transport = new ReactorNettyTransport();
+
+        // When
+        TransportResponse response = transport.execute(request("/v1/missing")).block();
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(404);
+        assertThat(response.body()).isEqualTo("not found");
+        assertThat(response.header("retry-after")).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("Should fail stream with transport exception on error status")
+    void shouldFailStreamOnErrorStatus() {
+        // Given
+        ReactorNettyTransport transport = new ReactorNettyTransport();
+
+        // When & Then
+        StepVerifier.create(transport.stream(request("/v1/missing")))
+            .expectErrorSatisfies(error -> {
+                assertThat(error).isInstanceOf(TransportException.class);
+                assertThat(((TransportException) error).getStatusCode()).isEqualTo(404);
+            })
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should execute chat completion through the transport")
+    void shouldExecuteChatCompletionThroughTransport() {
+        // Given
+        LiteLLMProvider provider = new LiteLLMProvider(providerConfig(), new ReactorNettyTransport());
+
+        // When
+        ChatCompletionResponse response = provider.chatCompletion(chatRequest()).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(response.getContent()).isEqualTo("Hi");
+        assertThat(response.usage().getTotalTokens()).isEqualTo(4);
+        assertThat(lastRequestBody.get()).doesNotContain("\"stream\"");
+    }
+
+    @Test
+    @DisplayName("Should stream chat completion chunks with final usage")
+    void shouldStreamChatCompletionChunks() {
+        // Given
+        LiteLLMProvider provider = new LiteLLMProvider(providerConfig(), new ReactorNettyTransport());
+
+        // When
+        List<ChatCompletionChunk> chunks = provider.chatCompletionStream(chatRequest())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0).getContent()).isEqualTo("Hel");
+        assertThat(chunks.get(1).getContent()).isEqualTo("lo");
+        assertThat(chunks.get(1).getFinishReason()).isEqualTo("stop");
+        assertThat(chunks.get(2).usage().getTotalTokens()).isEqualTo(5);
+        assertThat(lastRequestBody.get()).contains("\"include_usage\":true");
+    }
+
+    private TransportRequest request(String path) {
+        return TransportRequest.builder()
+            .uri(URI.create("http://localhost:" + server.port() + path))
+            .body("{}")
+            .timeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    private ProviderConfig providerConfig() {
+        return ProviderConfig.builder()
+            .id("local")
+            .name("Local")
+            .apiKey("test-key")
+            .baseUrl("http://localhost:" + server.port() + "/v1")
+            .models(List.of("gpt-4"))
+            .weight(1)
+            .timeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    private ChatCompletionRequest chatRequest() {
+        return ChatCompletionRequest.builder()
+            .model("gpt-4")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hello").build()))
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.litellm.sdk.unit.provider;
+
+import com.litellm.sdk.provider.ServerSentEventDecoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ServerSentEventDecoder Unit Tests")
+class ServerSentEventDecoderTest {
+
+    private ServerSentEventDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new ServerSentEventDecoder();
+    }
+
+    @Test
+    @DisplayName("Should decode complete events from a single buffer")
+    void shouldDecodeCompleteEvents() {
+        // When
+        List<String> events = decoder.decode(buffer("data: {\"a\":1}\n\ndata: [DONE]\n\n"));
+
+        // Then
+        assertThat(events).containsExactly("{\"a\":1}", "[DONE]");
+    }
+
+    @Test
+    @DisplayName("Should carry partial lines across buffers")
+    void shouldCarryPartialLinesAcrossBuffers() {
+        // When
+        List<String> first = decoder.decode(buffer("data: {\"con"));
+        List<String> second = decoder.decode(buffer("tent\":\"hi\"}\n"));
+        List<String> third = decoder.decode(buffer("\n"));
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(third).containsExactly("{\"content\":\"hi\"}");
+    }
+
+    @Test
+    @DisplayName("Should keep multi-byte characters split across buffers intact")
+    void shouldKeepMultiByteCharactersIntact() {
+        // Given
+        byte[] bytes = "data: привіт\n\n".getBytes(StandardCharsets.UTF_8);
+        int split = "data: п".getBytes(StandardCharsets.UTF_8).length - 1;
+
+        // When
+        List<String> events = decoder.decode(List.of(
+            ByteBuffer.wrap(Arrays.copyOfRange(bytes, 0, split)),
+            ByteBuffer.wrap(Arrays.copyOfRange(bytes, split, bytes.length))));
+
+        // Then
+        assertThat(events).containsExactly("привіт");
+    }
+
+    @Test
+    @DisplayName("Should join multi-line data and ignore comments and other fields")
+    void shouldJoinMultiLineData() {
+        // When
+        List<String> events = decoder.decode(buffer(": keep-alive\r\nevent: message\r\ndata: line1\r\ndata: line2\r\n\r\n"));
+
+        // Then
+        assertThat(events).containsExactly("line1\nline2");
+    }
+
+    @Test
+    @DisplayName("Should flush a trailing event without a blank line")
+    void shouldFlushTrailingEvent() {
+        // When
+        List<String> events = decoder.decode(buffer("data: last"));
+
+        // Then
+        assertThat(events).isEmpty();
+        assertThat(decoder.finish()).containsExactly("last");
+    }
+
+    private static ByteBuffer buffer(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
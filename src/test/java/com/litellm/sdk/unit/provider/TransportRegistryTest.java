@@ -0,0 +1,141 @@
+package com.litellm.sdk.unit.provider;
+
+import com.litellm.sdk.config.ConnectionPoolConfig;
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.provider.LiteLLMProvider;
+import com.litellm.sdk.provider.transport.ConnectionPoolStats;
+import com.litellm.sdk.provider.transport.ProviderTransport;
+import com.litellm.sdk.provider.transport.TransportRegistry;
+import com.litellm.sdk.provider.transport.TransportRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransportRegistry Unit Tests")
+class TransportRegistryTest {
+
+    private TransportRegistry registry;
+    private DisposableServer server;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TransportRegistry();
+        server = HttpServer.create()
+            .port(0)
+            .route(routes -> routes.post("/v1/ping", (request, response) -> response.sendString(Mono.just("pong"))))
+            .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should share one transport per origin")
+    void shouldShareTransportPerOrigin() {
+        // When
+        ProviderTransport first = registry.transportFor("https://proxy.example.com/v1");
+        ProviderTransport second = registry.transportFor("https://PROXY.example.com:443/v2");
+        ProviderTransport other = registry.transportFor("http://proxy.example.com/v1");
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first).isNotSameAs(other);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not let one caller's pool settings leak to another on the same origin")
+    void shouldKeepPoolsPerSettings() {
+        // Given
+        ConnectionPoolConfig small = ConnectionPoolConfig.builder().maxConnections(4).build();
+
+        // When
+        ProviderTransport shared = registry.transportFor("https://proxy.example.com/v1");
+        ProviderTransport sameSettings = registry.transportFor("https://proxy.example.com/v2",
+            ConnectionPoolConfig.builder().build());
+        ProviderTransport own = registry.transportFor("https://proxy.example.com/v1", small);
+
+        // Then
+        assertThat(sameSettings).isSameAs(shared);
+        assertThat(own).isNotSameAs(shared);
+        assertThat(registry.transportFor("https://proxy.example.com/v1", small)).isSameAs(own);
+    }
+
+    @Test
+    @DisplayName("Should keep shared transport open when a provider closes")
+    void shouldKeepSharedTransportOpenOnProviderClose() {
+        // Given
+        String baseUrl = "http://localhost:" + server.port() + "/v1";
+        ProviderTransport transport = registry.transportFor(baseUrl,
+            ConnectionPoolConfig.builder().maxConnections(4).build());
+
+        // When
+        transport.close();
+        String body = transport.execute(request(baseUrl)).block(Duration.ofSeconds(5)).body();
+
+        // Then
+        assertThat(body).isEqualTo("pong");
+    }
+
+    @Test
+    @DisplayName("Should expose pool occupancy after requests")
+    void shouldExposePoolOccupancy() {
+        // Given
+        String baseUrl = "http://localhost:" + server.port() + "/v1";
+        ProviderTransport transport = registry.transportFor(baseUrl,
+            ConnectionPoolConfig.builder().maxConnections(4).build());
+
+        // When
+        transport.execute(request(baseUrl)).block(Duration.ofSeconds(5));
+        ConnectionPoolStats stats = registry.getPoolStats(baseUrl);
+
+        // Then
+        assertThat(stats.maxConnections()).isEqualTo(4);
+        assertThat(stats.allocated()).isGreaterThanOrEqualTo(1);
+        assertThat(stats.acquired()).isLessThanOrEqualTo(stats.allocated());
+        assertThat(transport.poolStats().maxConnections()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should report provider pool stats through provider metrics")
+    void shouldReportPoolStatsThroughProviderMetrics() {
+        // Given
+        ProviderConfig config = ProviderConfig.builder()
+            .id("local")
+            .name("Local")
+            .apiKey("key")
+            .baseUrl("http://localhost:" + server.port() + "/v1")
+            .models(List.of("gpt-4"))
+            .weight(1)
+            .build();
+        ProviderTransport transport = registry.transportFor(config.baseUrl(),
+            ConnectionPoolConfig.builder().maxConnections(8).build());
+        LiteLLMProvider provider = new LiteLLMProvider(config, transport);
+
+        // When
+        transport.execute(request(config.baseUrl())).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(provider.getMetrics().getConnectionPoolStats().maxConnections()).isEqualTo(8);
+    }
+
+    private static TransportRequest request(String baseUrl) {
+        return TransportRequest.builder()
+            .uri(URI.create(baseUrl + "/ping"))
+            .timeout(Duration.ofSeconds(5))
+            .build();
+    }
+}
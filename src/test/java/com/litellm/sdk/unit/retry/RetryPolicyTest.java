@@ -0,0 +1,196 @@
+package com.litellm.sdk.unit.retry;
+
+import com.litellm.sdk.config.RetryConfig;
+import com.litellm.sdk.config.RetryConfig.BackoffStrategy;
+import com.litellm.sdk.error.CircuitBreakerOpenException;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.ProviderSaturatedException;
+import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.error.ValidationException;
+import com.litellm.sdk.provider.transport.TransportException;
+import com.litellm.sdk.provider.transport.TransportResponse;
+import com.litellm.sdk.retry.RetryBudget;
+import com.litellm.sdk.retry.RetryPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RetryPolicy Unit Tests")
+class RetryPolicyTest {
+
+    private static RetryPolicy policy(BackoffStrategy strategy) {
+        return new RetryPolicy(RetryConfig.builder()
+            .maxAttempts(5)
+            .initialDelay(Duration.ofMillis(100))
+            .maxDelay(Duration.ofSeconds(1))
+            .backoffStrategy(strategy)
+            .jitter(false)
+            .build());
+    }
+
+    @Test
+    @DisplayName("Should compute delays for each backoff strategy")
+    void shouldComputeDelaysPerStrategy() {
+        // Then
+        assertThat(policy(BackoffStrategy.FIXED).calculateDelay(3)).isEqualTo(Duration.ofMillis(100));
+        assertThat(policy(BackoffStrategy.LINEAR).calculateDelay(3)).isEqualTo(Duration.ofMillis(300));
+        assertThat(policy(BackoffStrategy.EXPONENTIAL).calculateDelay(3)).isEqualTo(Duration.ofMillis(400));
+        assertThat(policy(BackoffStrategy.EXPONENTIAL).calculateDelay(10)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(policy(BackoffStrategy.EXPONENTIAL_WITH_JITTER).calculateDelay(3))
+            .isBetween(Duration.ofMillis(100), Duration.ofMillis(400));
+    }
+
+    @Test
+    @DisplayName("Should honor a longer Retry-After and give up when it exceeds the max delay")
+    void shouldHonorRetryAfter() {
+        // Given
+        RetryPolicy retryPolicy = policy(BackoffStrategy.FIXED);
+        RateLimitException shortWait = new RateLimitException("slow down", "openai", Duration.ofMillis(500));
+        RateLimitException longWait = new RateLimitException("slow down", "openai", Duration.ofSeconds(30));
+        TransportException transportError = new TransportException(
+            new TransportResponse(503, Map.of("Retry-After", List.of("1")), "busy"));
+
+        // Then
+        assertThat(retryPolicy.delayFor(shortWait, 1)).isEqualTo(Duration.ofMillis(500));
+        assertThat(retryPolicy.delayFor(longWait, 1)).isNull();
+        assertThat(retryPolicy.delayFor(new RuntimeException(transportError), 1)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should classify transient failures as retryable through wrapping exceptions")
+    void shouldClassifyRetryableErrors() {
+        // Given
+        RetryPolicy retryPolicy = policy(BackoffStrategy.FIXED);
+        TransportException serverError = new TransportException(new TransportResponse(502, Map.of(), ""));
+        TransportException clientError = new TransportException(new TransportResponse(400, Map.of(), ""));
+
+        // Then
+        assertThat(retryPolicy.isRetryable(new RuntimeException("wrapped", serverError))).isTrue();
+        assertThat(retryPolicy.isRetryable(new RuntimeException("wrapped", clientError))).isFalse();
+        assertThat(retryPolicy.isRetryable(new ProviderException("down", "openai", 503))).isTrue();
+        assertThat(retryPolicy.isRetryable(new ValidationException("bad", "model", "x"))).isFalse();
+        assertThat(retryPolicy.isRetryable(new RuntimeException("boom"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not retry client-side load shedding rejections")
+    void shouldNotRetryClientSideRejections() {
+        // Given
+        RetryPolicy retryPolicy = policy(BackoffStrategy.FIXED);
+
+        // Then
+        assertThat(retryPolicy.isRetryable(new CircuitBreakerOpenException("openai"))).isFalse();
+        assertThat(retryPolicy.isRetryable(new ProviderSaturatedException("openai", null))).isFalse();
+        assertThat(retryPolicy.isRetryable(new ProviderSaturatedException("openai", Duration.ofSeconds(2)))).isFalse();
+        assertThat(retryPolicy.isRetryable(new RateLimitException("slow down", "openai", Duration.ofSeconds(2)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop retrying once the provider's retry budget is spent")
+    void shouldStopRetryingWhenBudgetExhausted() {
+        // Given - two retry tokens, no deposits and no refill
+        RetryPolicy retryPolicy = new RetryPolicy(RetryConfig.builder()
+            .maxAttempts(10)
+            .initialDelay(Duration.ofMillis(1))
+            .backoffStrategy(BackoffStrategy.FIXED)
+            .jitter(false)
+            .retryBudgetRatio(0.0)
+            .retryBudgetMaxTokens(2)
+            .retryBudgetMinPerSecond(0.0)
+            .build());
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new ProviderException("down", "openai", 503));
+        });
+
+        // When
+        assertThatThrownBy(() -> retryPolicy.apply(failing, value -> "openai").block(Duration.ofSeconds(5)))
+            .isInstanceOf(RuntimeException.class)
+            .hasCauseInstanceOf(ProviderException.class);
+        assertThatThrownBy(() -> retryPolicy.apply(failing, value -> "openai").block(Duration.ofSeconds(5)))
+            .hasCauseInstanceOf(ProviderException.class);
+
+        // Then - first request used both tokens, second got no retry
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(retryPolicy.getBudget().getAvailableTokens("openai")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not retry when the delay reaches past the call's deadline")
+    void shouldNotRetryPastDeadline() {
+        // Given
+        RetryPolicy retryPolicy = policy(BackoffStrategy.FIXED);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new ProviderException("down", "openai", 503));
+        });
+
+        // When
+        // 50ms left of the deadline, less than the 100ms backoff
+        assertThatThrownBy(() -> retryPolicy.apply(failing, value -> "openai", () -> Duration.ofMillis(50))
+                .block(Duration.ofSeconds(5)))
+            .hasCauseInstanceOf(ProviderException.class);
+
+        // Then - no retry, and no retry token spent
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(retryPolicy.getBudget().getAvailableTokens("openai"))
+            .isEqualTo(policy(BackoffStrategy.FIXED).getBudget().getAvailableTokens("openai"));
+    }
+
+    @Test
+    @DisplayName("Should not retry a stream after it emitted an element")
+    void shouldNotRetryStreamAfterFirstElement() {
+        // Given
+        RetryPolicy retryPolicy = policy(BackoffStrategy.FIXED);
+        AtomicInteger subscriptions = new AtomicInteger();
+        Flux<String> stream = Flux.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Flux.concat(Flux.just("chunk"), Flux.error(new ProviderException("down", "openai", 503)));
+        });
+
+        // When
+        assertThatThrownBy(() -> retryPolicy.applyStream(stream, value -> "openai").blockLast(Duration.ofSeconds(5)))
+            .hasCauseInstanceOf(ProviderException.class);
+
+        // Then
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refill the retry budget from requests and elapsed time")
+    void shouldRefillBudget() {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        RetryBudget budget = new RetryBudget(0.5, 1, 1.0, clock::get);
+        assertThat(budget.tryAcquire("openai")).isTrue();
+        assertThat(budget.tryAcquire("openai")).isFalse();
+
+        // When - two requests deposit one token
+        budget.recordRequest("openai");
+        budget.recordRequest("openai");
+
+        // Then
+        assertThat(budget.tryAcquire("openai")).isTrue();
+        assertThat(budget.tryAcquire("openai")).isFalse();
+
+        // When - one second of refill
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(budget.tryAcquire("openai")).isTrue();
+        assertThat(budget.tryAcquire("other")).isTrue();
+    }
+}
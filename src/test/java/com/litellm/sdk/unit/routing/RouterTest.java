@@ -1,6 +1,14 @@
 package com.litellm.sdk.unit.routing;
 
+import com.litellm.sdk.config.CacheConfig;
+import com.litellm.sdk.config.CircuitBreakerConfig;
 import com.litellm.sdk.config.ClientConfig;
+import com.litellm.sdk.config.ConcurrencyLimitConfig;
+import com.litellm.sdk.config.HedgingConfig;
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.config.RateLimitConfig;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.ProviderSaturatedException;
 import com.litellm.sdk.model.request.ChatCompletionRequest;
 import com.litellm.sdk.model.request.TextCompletionRequest;
 import com.litellm.sdk.model.request.EmbeddingRequest;
@@ -9,24 +17,38 @@ import com.litellm.sdk.model.response.ChatCompletionResponse;
 import com.litellm.sdk.model.response.TextCompletionResponse;
 import com.litellm.sdk.model.response.EmbeddingResponse;
 import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.provider.ProviderHealth;
+import com.litellm.sdk.routing.RequestBudget;
 import com.litellm.sdk.routing.Router;
+import com.litellm.sdk.routing.failover.CircuitBreaker;
 import com.litellm.sdk.routing.strategy.RoutingStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,7 +65,9 @@ class RouterTest {
     @Mock
     private Provider mockProvider2;
 
-    @Mock
+    // Real default methods, so exclusion-aware selection narrows the list and reaches the stubbed selectProvider;
+    // lenient because that default shares the stubbed method's name
+    @Mock(answer = Answers.CALLS_REAL_METHODS, strictness = Mock.Strictness.LENIENT)
     private RoutingStrategy mockStrategy;
 
     @Mock
@@ -282,4 +306,450 @@ class RouterTest {
         // Then
         verify(mockStrategy).selectProvider(anyList(), any(ChatCompletionRequest.class));
     }
+
+    @Test
+    @DisplayName("Should publish provider metrics to strategy after completed call")
+    void shouldPublishProviderMetricsAfterCall() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.just(mockChatResponse));
+        when(mockProvider1.getAverageLatency()).thenReturn(java.time.Duration.ofMillis(120));
+        when(mockProvider1.getSuccessRate()).thenReturn(0.9);
+
+        // When
+        router.routeChatCompletion(providers, chatRequest).block();
+
+        // Then
+        ArgumentCaptor<RoutingStrategy.ProviderMetricsSnapshot> snapshot =
+            ArgumentCaptor.forClass(RoutingStrategy.ProviderMetricsSnapshot.class);
+        verify(mockStrategy).updateProviderMetrics(eq("openai"), snapshot.capture());
+        assertThat(snapshot.getValue().averageLatencyMs()).isEqualTo(120.0);
+        assertThat(snapshot.getValue().successRate()).isEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("Should publish provider metrics after failed call")
+    void shouldPublishProviderMetricsAfterFailure() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider2));
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new RuntimeException("boom")));
+
+        // When & Then
+        assertThatThrownBy(() -> router.routeChatCompletion(providers, chatRequest).block())
+            .hasMessageContaining("boom");
+        verify(mockStrategy, atLeastOnce()).updateProviderMetrics(eq("anthropic"), any(RoutingStrategy.ProviderMetricsSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("Should report call start and completion to the strategy")
+    void shouldReportLoadHooksToStrategy() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.just(mockChatResponse));
+
+        // When
+        router.routeChatCompletion(providers, chatRequest).block();
+
+        // Then
+        verify(mockStrategy).onRequestStart(mockProvider1);
+        verify(mockStrategy).onRequestComplete(eq(mockProvider1), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should route around a provider whose circuit breaker is open")
+    void shouldRouteAroundOpenCircuit() {
+        // Given
+        when(mockConfig.circuitBreaker()).thenReturn(CircuitBreakerConfig.builder()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .waitDurationInOpenState(java.time.Duration.ofMinutes(5))
+            .build());
+        Router breakerRouter = new Router(mockConfig, providers, mockStrategy);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new java.io.IOException("connection refused")));
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.just(mockChatResponse));
+
+        // When - two requests fail over and trip the breaker for the first provider
+        for (int i = 0; i < 2; i++) {
+            assertThat(breakerRouter.routeChatCompletion(providers, chatRequest).block()).isEqualTo(mockChatResponse);
+        }
+        ChatCompletionResponse result = breakerRouter.routeChatCompletion(providers, chatRequest).block();
+
+        // Then - the third request skips the open provider entirely
+        assertThat(result).isEqualTo(mockChatResponse);
+        verify(mockProvider1, times(2)).chatCompletion(chatRequest);
+        verify(mockProvider1).updateHealth(ProviderHealth.HealthStatus.UNHEALTHY, "Circuit breaker open");
+    }
+
+    @Test
+    @DisplayName("Should count a provider that hangs past the request deadline against its circuit breaker")
+    void shouldOpenCircuitForHangingProvider() {
+        // Given
+        when(mockConfig.circuitBreaker()).thenReturn(CircuitBreakerConfig.builder()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .waitDurationInOpenState(Duration.ofMinutes(5))
+            .build());
+        Router breakerRouter = new Router(mockConfig, providers, mockStrategy);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(Mono.never());
+        ChatCompletionRequest bounded = chatRequest.toBuilder().timeout(Duration.ofMillis(50)).build();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> breakerRouter.routeChatCompletion(providers, bounded).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+        }
+
+        // Then
+        assertThat(breakerRouter.failoverManager().getCircuitBreaker("openai").orElseThrow().getState())
+            .isEqualTo(CircuitBreaker.State.OPEN);
+        verify(mockProvider1).updateHealth(ProviderHealth.HealthStatus.UNHEALTHY, "Circuit breaker open");
+    }
+
+    @Test
+    @DisplayName("Should fail over to the next provider within the same request")
+    void shouldFailOverWithinRequest() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new ProviderException("unavailable", "openai", 503)));
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.just(mockChatResponse));
+
+        // When
+        ChatCompletionResponse result = router.routeChatCompletion(providers, chatRequest).block();
+
+        // Then
+        assertThat(result).isEqualTo(mockChatResponse);
+        verify(mockProvider1).chatCompletion(chatRequest);
+        verify(mockProvider2).chatCompletion(chatRequest);
+        verify(mockStrategy).selectProvider(eq(providers), eq(chatRequest), argThat(excluded -> excluded.contains(mockProvider1)));
+    }
+
+    @Test
+    @DisplayName("Should start a retry from providers that have not failed the call yet")
+    void shouldRetryOnProvidersNotYetFailed() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new ProviderException("unavailable", "openai", 503)));
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new ProviderException("bad request", "anthropic", 400)))
+            .thenReturn(Mono.just(mockChatResponse));
+        RequestBudget budget = router.newBudget(null);
+        assertThatThrownBy(() -> router.routeChatCompletion(providers, chatRequest, budget).block())
+            .hasMessageContaining("bad request");
+
+        // When
+        // A client retry of the same call shares its budget
+        ChatCompletionResponse result = router.routeChatCompletion(providers, chatRequest, budget).block();
+
+        // Then
+        assertThat(result).isEqualTo(mockChatResponse);
+        verify(mockProvider1).chatCompletion(chatRequest);
+        verify(mockProvider2, times(2)).chatCompletion(chatRequest);
+    }
+
+    @Test
+    @DisplayName("Should not start an attempt once the call's deadline has passed")
+    void shouldNotStartAttemptPastDeadline() throws InterruptedException {
+        // Given
+        RequestBudget budget = router.newBudget(Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        // When & Then
+        assertThatThrownBy(() -> router.routeChatCompletion(providers, chatRequest, budget).block())
+            .hasCauseInstanceOf(TimeoutException.class);
+        verify(mockProvider1, never()).chatCompletion(any(ChatCompletionRequest.class));
+        verify(mockProvider2, never()).chatCompletion(any(ChatCompletionRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should not fail over on client errors")
+    void shouldNotFailOverOnClientErrors() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new ProviderException("bad request", "openai", 400)));
+
+        // When & Then
+        assertThatThrownBy(() -> router.routeChatCompletion(providers, chatRequest).block())
+            .hasMessageContaining("bad request");
+        verify(mockProvider2, never()).chatCompletion(any(ChatCompletionRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should surface the last provider error when every provider fails")
+    void shouldSurfaceLastErrorWhenAllFail() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new ProviderException("first down", "openai", 502)));
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.error(new ProviderException("second down", "anthropic", 503)));
+
+        // When & Then
+        assertThatThrownBy(() -> router.routeChatCompletion(providers, chatRequest).block())
+            .hasMessageContaining("second down");
+    }
+
+    @Test
+    @DisplayName("Should hedge a slow primary and cancel the losing call")
+    void shouldHedgeSlowPrimary() {
+        // Given
+        when(mockConfig.hedging()).thenReturn(HedgingConfig.builder()
+            .enabled(true)
+            .fallbackDelay(java.time.Duration.ofMillis(50))
+            .build());
+        Router hedgingRouter = new Router(mockConfig, providers, mockStrategy);
+        ChatCompletionResponse slowResponse = org.mockito.Mockito.mock(ChatCompletionResponse.class);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.delay(java.time.Duration.ofSeconds(5)).thenReturn(slowResponse));
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.just(mockChatResponse));
+
+        // When
+        ChatCompletionResponse result = hedgingRouter.routeChatCompletion(providers, chatRequest)
+            .block(java.time.Duration.ofSeconds(2));
+
+        // Then
+        assertThat(result).isEqualTo(mockChatResponse);
+        assertThat(hedgingRouter.hedgingMetrics().getHedgedCount()).isEqualTo(1);
+        assertThat(hedgingRouter.hedgingMetrics().getHedgeWinCount()).isEqualTo(1);
+        assertThat(hedgingRouter.hedgingMetrics().getWastedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop hedging once the hedge budget is spent")
+    void shouldRespectHedgeBudget() {
+        // Given - no budget accrues, so only the initial token can be spent
+        when(mockConfig.hedging()).thenReturn(HedgingConfig.builder()
+            .enabled(true)
+            .fallbackDelay(java.time.Duration.ofMillis(10))
+            .budgetPercent(0.0)
+            .build());
+        Router hedgingRouter = new Router(mockConfig, providers, mockStrategy);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.delay(java.time.Duration.ofMillis(100)).thenReturn(mockChatResponse));
+        lenient().when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.delay(java.time.Duration.ofSeconds(5)).thenReturn(mockChatResponse));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            hedgingRouter.routeChatCompletion(providers, chatRequest).block(java.time.Duration.ofSeconds(2));
+        }
+
+        // Then
+        assertThat(hedgingRouter.hedgingMetrics().getHedgedCount()).isEqualTo(1);
+        assertThat(hedgingRouter.hedgingMetrics().getBudgetRejectedCount()).isEqualTo(2);
+        assertThat(hedgingRouter.hedgingMetrics().getWastedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should route around a provider whose client-side rate limit is exhausted")
+    void shouldRouteAroundSaturatedProvider() {
+        // Given
+        when(mockProvider1.getConfig()).thenReturn(rateLimitedConfig(RateLimitConfig.builder()
+            .requestsPerSecond(1)
+            .build()));
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(Mono.just(mockChatResponse));
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(Mono.just(mockChatResponse));
+
+        // When
+        router.routeChatCompletion(providers, chatRequest).block();
+        router.routeChatCompletion(providers, chatRequest).block();
+
+        // Then
+        verify(mockProvider1, times(1)).chatCompletion(any(ChatCompletionRequest.class));
+        verify(mockProvider2, times(1)).chatCompletion(any(ChatCompletionRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should wait for rate limit capacity only within the configured max wait")
+    void shouldWaitForCapacityWithinMaxWait() {
+        // Given
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        lenient().when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(Mono.just(mockChatResponse));
+        List<Provider> single = List.of(mockProvider1);
+
+        // When - an upstream 429 paused the provider and waiting is not allowed
+        when(mockProvider1.getConfig()).thenReturn(rateLimitedConfig(RateLimitConfig.builder()
+            .requestsPerMinute(100)
+            .build()));
+        Router failFast = new Router(mockConfig, single, mockStrategy);
+        failFast.rateLimiters().limiterFor(mockProvider1).orElseThrow().onRateLimited(java.time.Duration.ofSeconds(30));
+
+        // Then
+        assertThatThrownBy(() -> failFast.routeChatCompletion(single, chatRequest).block())
+            .hasCauseInstanceOf(ProviderSaturatedException.class);
+
+        // When - the same pause, but the provider allows waiting for it
+        when(mockProvider1.getConfig()).thenReturn(rateLimitedConfig(RateLimitConfig.builder()
+            .requestsPerMinute(100)
+            .maxWait(java.time.Duration.ofSeconds(1))
+            .build()));
+        Router waiting = new Router(mockConfig, single, mockStrategy);
+        waiting.rateLimiters().limiterFor(mockProvider1).orElseThrow().onRateLimited(java.time.Duration.ofMillis(50));
+
+        // Then
+        assertThat(waiting.routeChatCompletion(single, chatRequest).block(java.time.Duration.ofSeconds(2)))
+            .isEqualTo(mockChatResponse);
+        verify(mockProvider1, times(1)).chatCompletion(any(ChatCompletionRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should spill over to another provider when the concurrency limit is reached")
+    void shouldSpillOverAtConcurrencyLimit() {
+        // Given
+        when(mockConfig.concurrencyLimit()).thenReturn(ConcurrencyLimitConfig.builder()
+            .enabled(true)
+            .initialLimit(1)
+            .maxLimit(1)
+            .build());
+        Router limitedRouter = new Router(mockConfig, providers, mockStrategy);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenAnswer(invocation -> {
+                List<Provider> candidates = invocation.getArgument(0);
+                return java.util.Optional.of(candidates.get(0));
+            });
+        reactor.core.publisher.Sinks.One<ChatCompletionResponse> pending = reactor.core.publisher.Sinks.one();
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(pending.asMono());
+        when(mockProvider2.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(Mono.just(mockChatResponse));
+
+        // When - the first call holds provider1's only slot
+        reactor.core.Disposable inFlight = limitedRouter.routeChatCompletion(providers, chatRequest).subscribe();
+        ChatCompletionResponse spilled = limitedRouter.routeChatCompletion(providers, chatRequest).block();
+
+        // Then
+        assertThat(spilled).isEqualTo(mockChatResponse);
+        verify(mockProvider2).chatCompletion(any(ChatCompletionRequest.class));
+        assertThat(limitedRouter.concurrencyLimiters().getLimiter("openai").orElseThrow().getInFlight()).isEqualTo(1);
+
+        // When - the held call is cancelled, its slot is released
+        inFlight.dispose();
+
+        // Then
+        assertThat(limitedRouter.concurrencyLimiters().getLimiter("openai").orElseThrow().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should shrink the concurrency limit when a call outlives the request deadline")
+    void shouldBackOffConcurrencyLimitOnDeadlineExpiry() {
+        // Given
+        when(mockConfig.concurrencyLimit()).thenReturn(ConcurrencyLimitConfig.builder()
+            .enabled(true)
+            .initialLimit(10)
+            .build());
+        Router limitedRouter = new Router(mockConfig, providers, mockStrategy);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(Mono.never());
+        ChatCompletionRequest bounded = chatRequest.toBuilder().timeout(Duration.ofMillis(50)).build();
+
+        // When
+        assertThatThrownBy(() -> limitedRouter.routeChatCompletion(providers, bounded).block())
+            .hasCauseInstanceOf(TimeoutException.class);
+
+        // Then
+        var limiter = limitedRouter.concurrencyLimiters().getLimiter("openai").orElseThrow();
+        assertThat(limiter.getLimit()).isLessThan(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated chat completions from the response cache")
+    void shouldServeRepeatedChatCompletionsFromCache() {
+        // Given
+        when(mockConfig.cache()).thenReturn(CacheConfig.builder().enabled(true).build());
+        Router cachingRouter = new Router(mockConfig, providers, mockStrategy);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        ChatCompletionResponse response = ChatCompletionResponse.builder().id("resp-1").cached(false).build();
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class))).thenReturn(Mono.just(response));
+
+        // When
+        ChatCompletionResponse first = cachingRouter.routeChatCompletion(providers, chatRequest).block();
+        ChatCompletionResponse second = cachingRouter.routeChatCompletion(providers, chatRequest).block();
+
+        // Then
+        assertThat(first.cached()).isFalse();
+        assertThat(second.cached()).isTrue();
+        verify(mockProvider1, times(1)).chatCompletion(any(ChatCompletionRequest.class));
+        assertThat(cachingRouter.cache().getStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should apply each caller's own timeout to a shared cached load")
+    void shouldApplyPerCallerTimeoutsToSharedLoad() {
+        // Given
+        when(mockConfig.cache()).thenReturn(CacheConfig.builder().enabled(true).build());
+        Router cachingRouter = new Router(mockConfig, providers, mockStrategy);
+        when(mockStrategy.selectProvider(anyList(), any(ChatCompletionRequest.class)))
+            .thenReturn(java.util.Optional.of(mockProvider1));
+        ChatCompletionResponse response = ChatCompletionResponse.builder().id("resp-1").cached(false).build();
+        when(mockProvider1.chatCompletion(any(ChatCompletionRequest.class)))
+            .thenReturn(Mono.delay(Duration.ofMillis(300)).thenReturn(response));
+        ChatCompletionRequest impatient = chatRequest.toBuilder().timeout(Duration.ofMillis(50)).build();
+        ChatCompletionRequest patient = chatRequest.toBuilder().timeout(Duration.ofSeconds(5)).build();
+
+        // When - the short-timeout caller starts the load and the long-timeout caller joins it
+        CompletableFuture<ChatCompletionResponse> leader = cachingRouter.routeChatCompletion(providers, impatient).toFuture();
+        CompletableFuture<ChatCompletionResponse> follower = cachingRouter.routeChatCompletion(providers, patient).toFuture();
+
+        // Then
+        assertThatThrownBy(leader::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(follower.join().id()).isEqualTo("resp-1");
+        verify(mockProvider1, times(1)).chatCompletion(any(ChatCompletionRequest.class));
+    }
+
+    private static ProviderConfig rateLimitedConfig(RateLimitConfig rateLimit) {
+        return ProviderConfig.builder()
+            .id("openai")
+            .name("openai")
+            .rateLimit(rateLimit)
+            .build();
+    }
 }
@@ -0,0 +1,212 @@
+package com.litellm.sdk.unit.routing.failover;
+
+import com.litellm.sdk.config.CircuitBreakerConfig;
+import com.litellm.sdk.routing.failover.CircuitBreaker;
+import com.litellm.sdk.routing.failover.CircuitBreaker.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker Unit Tests")
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(5);
+
+    private AtomicLong clock;
+    private List<State> transitions;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        transitions = new ArrayList<>();
+        CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+            .slidingWindowSize(10)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(0.5)
+            .slowCallRateThreshold(0.5)
+            .slowCallDuration(Duration.ofSeconds(1))
+            .waitDurationInOpenState(Duration.ofSeconds(30))
+            .permittedCallsInHalfOpenState(2)
+            .build();
+        breaker = new CircuitBreaker("openai", config, (cb, state) -> transitions.add(state), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should stay closed until the minimum number of calls is reached")
+    void shouldStayClosedBelowMinimumCalls() {
+        // When
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should open when the failure rate reaches the threshold")
+    void shouldOpenOnFailureRate() {
+        // When
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(transitions).containsExactly(State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should open when the slow call rate reaches the threshold")
+    void shouldOpenOnSlowCallRate() {
+        // When
+        breaker.onSuccess(SLOW);
+        breaker.onSuccess(SLOW);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should limit probes in half-open state and close after they succeed")
+    void shouldProbeAndClose() {
+        // Given
+        tripBreaker();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // When
+        boolean firstProbe = breaker.tryAcquirePermission();
+        boolean secondProbe = breaker.tryAcquirePermission();
+        boolean thirdProbe = breaker.tryAcquirePermission();
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(firstProbe).isTrue();
+        assertThat(secondProbe).isTrue();
+        assertThat(thirdProbe).isFalse();
+
+        // When
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.getFailureRate()).isZero();
+        assertThat(transitions).containsExactly(State.OPEN, State.HALF_OPEN, State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should reopen when a half-open probe fails")
+    void shouldReopenOnProbeFailure() {
+        // Given
+        tripBreaker();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        breaker.tryAcquirePermission();
+
+        // When
+        breaker.onError(FAST);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should release a probe slot for ignored calls")
+    void shouldReleaseProbeForIgnoredCalls() {
+        // Given
+        tripBreaker();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+
+        // When
+        breaker.onIgnored();
+
+        // Then
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should admit a new probe after a cancelled one even when extra callers were rejected")
+    void shouldNotLoseProbeSlotsToRejectedCallers() {
+        // Given
+        tripBreaker();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        CircuitBreaker.Permit first = breaker.tryAcquire();
+        CircuitBreaker.Permit second = breaker.tryAcquire();
+        assertThat(breaker.tryAcquire()).isNull();
+
+        // When
+        first.onIgnored();
+        CircuitBreaker.Permit replacement = breaker.tryAcquire();
+
+        // Then
+        assertThat(replacement).isNotNull();
+        second.onSuccess(FAST);
+        replacement.onSuccess(FAST);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should ignore outcomes of calls admitted before the last transition")
+    void shouldIgnoreStaleOutcomes() {
+        // Given
+        CircuitBreaker.Permit stale = breaker.tryAcquire();
+        tripBreaker();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        // When
+        stale.onSuccess(FAST);
+        stale.onIgnored();
+        probe.onSuccess(FAST);
+
+        // Then - one real probe success out of two required
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isNotNull();
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict old outcomes from the sliding window")
+    void shouldSlideWindow() {
+        // Given - a failure below the threshold
+        breaker.onError(FAST);
+        for (int i = 0; i < 3; i++) {
+            breaker.onSuccess(FAST);
+        }
+        assertThat(breaker.getFailureRate()).isEqualTo(0.25);
+
+        // When - enough successes to push it out of the window
+        for (int i = 0; i < 10; i++) {
+            breaker.onSuccess(FAST);
+        }
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.getFailureRate()).isZero();
+    }
+
+    private void tripBreaker() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onError(FAST);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+}
@@ -0,0 +1,93 @@
+package com.litellm.sdk.unit.routing.failover;
+
+import com.litellm.sdk.config.CircuitBreakerConfig;
+import com.litellm.sdk.error.ProviderException;
+import com.litellm.sdk.error.RateLimitException;
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.provider.ProviderHealth.HealthStatus;
+import com.litellm.sdk.routing.failover.FailoverManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FailoverManager Unit Tests")
+class FailoverManagerTest {
+
+    @Mock
+    private Provider provider;
+
+    private FailoverManager failoverManager;
+
+    @BeforeEach
+    void setUp() {
+        failoverManager = new FailoverManager(CircuitBreakerConfig.builder()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(2)
+            .waitDurationInOpenState(Duration.ofMinutes(5))
+            .build());
+        lenient().when(provider.getName()).thenReturn("openai");
+    }
+
+    @Test
+    @DisplayName("Should mark the provider unhealthy when its breaker opens")
+    void shouldMarkProviderUnhealthyWhenOpen() {
+        // When
+        failoverManager.onError(provider, 1_000, new IOException("connection reset"));
+        failoverManager.onError(provider, 1_000, new RuntimeException("wrapped", new ProviderException("boom", "openai", 502)));
+
+        // Then
+        verify(provider).updateHealth(HealthStatus.UNHEALTHY, "Circuit breaker open");
+        assertThat(failoverManager.tryAcquirePermission(provider)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore client errors and rate limits")
+    void shouldIgnoreNonProviderFailures() {
+        // When
+        failoverManager.onError(provider, 1_000, new ProviderException("bad request", "openai", 400));
+        failoverManager.onError(provider, 1_000, new RateLimitException("slow down", "openai", Duration.ofSeconds(1)));
+        failoverManager.onError(provider, 1_000, new IllegalArgumentException("invalid"));
+
+        // Then
+        assertThat(failoverManager.tryAcquirePermission(provider)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should always permit calls when disabled")
+    void shouldPermitWhenDisabled() {
+        // Given
+        FailoverManager disabled = new FailoverManager(CircuitBreakerConfig.builder()
+            .enabled(false)
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(1)
+            .build());
+
+        // When
+        disabled.onError(provider, 1_000, new IOException("down"));
+
+        // Then
+        assertThat(disabled.tryAcquirePermission(provider)).isTrue();
+        assertThat(disabled.getCircuitBreaker("openai")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should classify provider failures through the cause chain")
+    void shouldClassifyFailures() {
+        assertThat(FailoverManager.isProviderFailure(new IOException("reset"))).isTrue();
+        assertThat(FailoverManager.isProviderFailure(new ProviderException("unavailable", "openai", 503))).isTrue();
+        assertThat(FailoverManager.isProviderFailure(
+            new RuntimeException("wrapped", new ProviderException("unauthorized", "openai", 401)))).isFalse();
+    }
+}
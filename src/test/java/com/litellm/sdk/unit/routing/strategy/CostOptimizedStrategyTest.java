@@ -0,0 +1,97 @@
+package com.litellm.sdk.unit.routing.strategy;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.strategy.CostOptimizedStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategy.ProviderMetricsSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CostOptimizedStrategy Unit Tests")
+class CostOptimizedStrategyTest {
+
+    @Mock
+    private Provider cheapProvider;
+
+    @Mock
+    private Provider expensiveProvider;
+
+    @Mock
+    private Provider unknownProvider;
+
+    private CostOptimizedStrategy strategy;
+    private ChatCompletionRequest request;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new CostOptimizedStrategy(RoutingStrategyConfig.builder()
+            .type(RoutingStrategyConfig.StrategyType.COST_OPTIMIZED)
+            .build());
+        request = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hello").build()))
+            .build();
+
+        lenient().when(cheapProvider.getName()).thenReturn("cheap");
+        lenient().when(expensiveProvider.getName()).thenReturn("expensive");
+        lenient().when(unknownProvider.getName()).thenReturn("unknown");
+        lenient().when(cheapProvider.isHealthy()).thenReturn(true);
+        lenient().when(expensiveProvider.isHealthy()).thenReturn(true);
+        lenient().when(unknownProvider.isHealthy()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should route to the provider with the lowest known cost")
+    void shouldPreferCheapestProvider() {
+        // Given
+        strategy.updateProviderMetrics("expensive", new ProviderMetricsSnapshot("expensive", 100, 1.0, 0.02));
+        strategy.updateProviderMetrics("cheap", new ProviderMetricsSnapshot("cheap", 100, 1.0, 0.001));
+
+        // When & Then
+        assertThat(strategy.selectProvider(List.of(expensiveProvider, cheapProvider), request)).contains(cheapProvider);
+    }
+
+    @Test
+    @DisplayName("Should explore providers with unknown cost without treating them as free")
+    void shouldOnlyExploreUnknownProviders() {
+        // Given - a provider that has only failed or serves an unpriced model publishes NaN
+        strategy.updateProviderMetrics("cheap", new ProviderMetricsSnapshot("cheap", 100, 1.0, 0.001));
+        strategy.updateProviderMetrics("unknown", new ProviderMetricsSnapshot("unknown", 100, 0.0, Double.NaN));
+        List<Provider> providers = List.of(unknownProvider, cheapProvider);
+
+        // When
+        Map<Provider, Long> selections = IntStream.range(0, 100)
+            .mapToObj(i -> strategy.selectProvider(providers, request).orElseThrow())
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // Then
+        assertThat(selections.get(unknownProvider)).isEqualTo(5);
+        assertThat(selections.get(cheapProvider)).isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("Should use providers with unknown cost while no cost is known")
+    void shouldFallBackToUnknownProviders() {
+        // Given
+        strategy.updateProviderMetrics("unknown", new ProviderMetricsSnapshot("unknown", 100, 1.0, Double.NaN));
+
+        // When & Then
+        assertThat(strategy.selectProvider(List.of(unknownProvider), request)).contains(unknownProvider);
+    }
+}
@@ -0,0 +1,95 @@
+package com.litellm.sdk.unit.routing.strategy;
+
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.strategy.FailoverStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FailoverStrategy Unit Tests")
+class FailoverStrategyTest {
+
+    @Mock
+    private Provider primary;
+
+    @Mock
+    private Provider secondary;
+
+    @Mock
+    private Provider unprioritized;
+
+    private FailoverStrategy strategy;
+    private List<Provider> providers;
+    private ChatCompletionRequest request;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new FailoverStrategy(RoutingStrategyConfig.builder()
+            .type(RoutingStrategyConfig.StrategyType.FAILOVER)
+            .build());
+        providers = List.of(unprioritized, secondary, primary);
+        request = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hello").build()))
+            .build();
+
+        lenient().when(primary.getConfig()).thenReturn(ProviderConfig.builder().priority(1).build());
+        lenient().when(secondary.getConfig()).thenReturn(ProviderConfig.builder().priority(2).build());
+        lenient().when(unprioritized.getConfig()).thenReturn(ProviderConfig.builder().build());
+        lenient().when(primary.isHealthy()).thenReturn(true);
+        lenient().when(secondary.isHealthy()).thenReturn(true);
+        lenient().when(unprioritized.isHealthy()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should select the provider with the lowest priority value")
+    void shouldSelectHighestPriority() {
+        assertThat(strategy.selectProvider(providers, request)).contains(primary);
+    }
+
+    @Test
+    @DisplayName("Should fail over to the next priority when the primary is unhealthy")
+    void shouldFailOverWhenPrimaryUnhealthy() {
+        // Given
+        lenient().when(primary.isHealthy()).thenReturn(false);
+
+        // When & Then
+        assertThat(strategy.selectProvider(providers, request)).contains(secondary);
+    }
+
+    @Test
+    @DisplayName("Should use providers without priority last")
+    void shouldUseUnprioritizedProvidersLast() {
+        // Given
+        lenient().when(primary.isHealthy()).thenReturn(false);
+        lenient().when(secondary.isHealthy()).thenReturn(false);
+
+        // When & Then
+        assertThat(strategy.selectProvider(providers, request)).contains(unprioritized);
+    }
+
+    @Test
+    @DisplayName("Should return empty when no provider is healthy")
+    void shouldReturnEmptyWhenNoneHealthy() {
+        // Given
+        lenient().when(primary.isHealthy()).thenReturn(false);
+        lenient().when(secondary.isHealthy()).thenReturn(false);
+        lenient().when(unprioritized.isHealthy()).thenReturn(false);
+
+        // When & Then
+        assertThat(strategy.selectProvider(providers, request)).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.litellm.sdk.unit.routing.strategy;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.strategy.LatencyBasedStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategy.ProviderMetricsSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LatencyBasedStrategy Unit Tests")
+class LatencyBasedStrategyTest {
+
+    @Mock
+    private Provider fastProvider;
+
+    @Mock
+    private Provider slowProvider;
+
+    private LatencyBasedStrategy strategy;
+    private List<Provider> providers;
+    private ChatCompletionRequest request;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new LatencyBasedStrategy(RoutingStrategyConfig.builder()
+            .type(RoutingStrategyConfig.StrategyType.LATENCY_BASED)
+            .build());
+        providers = List.of(slowProvider, fastProvider);
+        request = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hello").build()))
+            .build();
+
+        lenient().when(fastProvider.getName()).thenReturn("fast");
+        lenient().when(slowProvider.getName()).thenReturn("slow");
+        lenient().when(fastProvider.isHealthy()).thenReturn(true);
+        lenient().when(slowProvider.isHealthy()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should try providers without metrics before measured ones")
+    void shouldExploreUnmeasuredProviders() {
+        // Given
+        strategy.updateProviderMetrics("slow", new ProviderMetricsSnapshot("slow", 800, 1.0, 0.0));
+
+        // When & Then
+        assertThat(strategy.selectProvider(providers, request)).contains(fastProvider);
+    }
+
+    @Test
+    @DisplayName("Should prefer the provider with the lowest observed latency")
+    void shouldPreferLowestLatency() {
+        // Given
+        strategy.updateProviderMetrics("slow", new ProviderMetricsSnapshot("slow", 800, 1.0, 0.0));
+        strategy.updateProviderMetrics("fast", new ProviderMetricsSnapshot("fast", 100, 1.0, 0.0));
+
+        // When & Then
+        assertThat(strategy.selectProvider(providers, request)).contains(fastProvider);
+    }
+
+    @Test
+    @DisplayName("Should penalize a fast provider that keeps failing")
+    void shouldPenalizeFailingProvider() {
+        // Given
+        strategy.updateProviderMetrics("slow", new ProviderMetricsSnapshot("slow", 800, 1.0, 0.0));
+        strategy.updateProviderMetrics("fast", new ProviderMetricsSnapshot("fast", 100, 0.05, 0.0));
+
+        // When & Then
+        assertThat(strategy.selectProvider(providers, request)).contains(slowProvider);
+    }
+}
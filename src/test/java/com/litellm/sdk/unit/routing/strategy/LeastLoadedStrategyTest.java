@@ -0,0 +1,114 @@
+package com.litellm.sdk.unit.routing.strategy;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.strategy.LeastLoadedStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeastLoadedStrategy Unit Tests")
+class LeastLoadedStrategyTest {
+
+    @Mock
+    private Provider busy;
+
+    @Mock
+    private Provider idle;
+
+    private List<Provider> providers;
+    private ChatCompletionRequest request;
+
+    @BeforeEach
+    void setUp() {
+        providers = List.of(busy, idle);
+        request = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hello").build()))
+            .build();
+
+        lenient().when(busy.getName()).thenReturn("busy");
+        lenient().when(idle.getName()).thenReturn("idle");
+        lenient().when(busy.isHealthy()).thenReturn(true);
+        lenient().when(idle.isHealthy()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should pick the provider with fewer in-flight requests")
+    void shouldPickLessLoadedProvider() {
+        // Given
+        LeastLoadedStrategy strategy = new LeastLoadedStrategy(config(Map.of()));
+        strategy.onRequestStart(busy);
+        strategy.onRequestStart(busy);
+
+        // When & Then
+        for (int i = 0; i < 20; i++) {
+            assertThat(strategy.selectProvider(providers, request)).contains(idle);
+        }
+    }
+
+    @Test
+    @DisplayName("Should release in-flight slots when requests complete")
+    void shouldReleaseInFlightOnCompletion() {
+        // Given
+        LeastLoadedStrategy strategy = new LeastLoadedStrategy(config(Map.of()));
+        strategy.onRequestStart(busy);
+
+        // When
+        strategy.onRequestComplete(busy, TimeUnit.MILLISECONDS.toNanos(10), false);
+        strategy.onRequestComplete(busy, TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        // Then
+        assertThat(strategy.getInFlight("busy")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should weigh load by EWMA latency when enabled")
+    void shouldWeighLoadByLatency() {
+        // Given - idle is slow enough that one call outweighs two fast ones
+        LeastLoadedStrategy strategy = new LeastLoadedStrategy(config(Map.of("latencyWeighted", true)));
+        strategy.onRequestStart(busy);
+        strategy.onRequestComplete(busy, TimeUnit.MILLISECONDS.toNanos(10), true);
+        strategy.onRequestStart(idle);
+        strategy.onRequestComplete(idle, TimeUnit.MILLISECONDS.toNanos(500), true);
+        strategy.onRequestStart(busy);
+        strategy.onRequestStart(idle);
+
+        // When & Then
+        for (int i = 0; i < 20; i++) {
+            assertThat(strategy.selectProvider(providers, request)).contains(busy);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return empty when no provider is healthy")
+    void shouldReturnEmptyWhenNoneHealthy() {
+        // Given
+        LeastLoadedStrategy strategy = new LeastLoadedStrategy(config(Map.of()));
+        lenient().when(busy.isHealthy()).thenReturn(false);
+        lenient().when(idle.isHealthy()).thenReturn(false);
+
+        // When & Then
+        assertThat(strategy.selectProvider(providers, request)).isEmpty();
+    }
+
+    private RoutingStrategyConfig config(Map<String, Object> parameters) {
+        return RoutingStrategyConfig.builder()
+            .type(RoutingStrategyConfig.StrategyType.LEAST_LOADED)
+            .parameters(parameters)
+            .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.litellm.sdk.unit.routing.strategy;
+
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.strategy.ProviderSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProviderSnapshot Unit Tests")
+class ProviderSnapshotTest {
+
+    @Mock
+    private Provider provider1;
+
+    @Mock
+    private Provider provider2;
+
+    private List<Provider> providers;
+
+    @BeforeEach
+    void setUp() {
+        providers = List.of(provider1, provider2);
+        lenient().when(provider1.isHealthy()).thenReturn(true);
+        lenient().when(provider2.isHealthy()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should precompute healthy providers in configured order")
+    void shouldPrecomputeHealthyProviders() {
+        // When
+        ProviderSnapshot snapshot = ProviderSnapshot.of(providers);
+
+        // Then
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.healthyCount()).isEqualTo(2);
+        assertThat(snapshot.healthy(0)).isSameAs(provider1);
+        assertThat(snapshot.select(1)).contains(provider2);
+    }
+
+    @Test
+    @DisplayName("Should reuse the snapshot while health is unchanged")
+    void shouldReuseSnapshotWhenUnchanged() {
+        // Given
+        ProviderSnapshot snapshot = ProviderSnapshot.of(providers);
+
+        // When
+        ProviderSnapshot refreshed = snapshot.refresh(List.of(provider1, provider2));
+
+        // Then
+        assertThat(refreshed).isSameAs(snapshot);
+        assertThat(refreshed.select(0)).isSameAs(snapshot.select(0));
+    }
+
+    @Test
+    @DisplayName("Should rebuild with a new version when health changes")
+    void shouldRebuildWhenHealthChanges() {
+        // Given
+        ProviderSnapshot snapshot = ProviderSnapshot.of(providers);
+
+        // When
+        lenient().when(provider1.isHealthy()).thenReturn(false);
+        ProviderSnapshot refreshed = snapshot.refresh(providers);
+
+        // Then
+        assertThat(refreshed).isNotSameAs(snapshot);
+        assertThat(refreshed.version()).isGreaterThan(snapshot.version());
+        assertThat(refreshed.healthyCount()).isEqualTo(1);
+        assertThat(refreshed.healthy(0)).isSameAs(provider2);
+    }
+
+    @Test
+    @DisplayName("Should report no healthy providers for an empty list")
+    void shouldHandleEmptyList() {
+        // When
+        ProviderSnapshot snapshot = ProviderSnapshot.of(List.of());
+
+        // Then
+        assertThat(snapshot.hasHealthy()).isFalse();
+        assertThat(snapshot).isSameAs(ProviderSnapshot.EMPTY);
+    }
+}
@@ -0,0 +1,62 @@
+package com.litellm.sdk.unit.routing.strategy;
+
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.config.RoutingStrategyConfig.StrategyType;
+import com.litellm.sdk.routing.strategy.CostOptimizedStrategy;
+import com.litellm.sdk.routing.strategy.FailoverStrategy;
+import com.litellm.sdk.routing.strategy.FallbackStrategy;
+import com.litellm.sdk.routing.strategy.LatencyBasedStrategy;
+import com.litellm.sdk.routing.strategy.LeastLoadedStrategy;
+import com.litellm.sdk.routing.strategy.RoundRobinStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategy;
+import com.litellm.sdk.routing.strategy.RoutingStrategyFactory;
+import com.litellm.sdk.routing.strategy.WeightedStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RoutingStrategyFactory Unit Tests")
+class RoutingStrategyFactoryTest {
+
+    @Test
+    @DisplayName("Should create the strategy matching the configured type")
+    void shouldCreateConfiguredStrategy() {
+        assertThat(create(StrategyType.ROUND_ROBIN)).isInstanceOf(RoundRobinStrategy.class);
+        assertThat(create(StrategyType.WEIGHTED)).isInstanceOf(WeightedStrategy.class);
+        assertThat(create(StrategyType.LATENCY_BASED)).isInstanceOf(LatencyBasedStrategy.class);
+        assertThat(create(StrategyType.COST_OPTIMIZED)).isInstanceOf(CostOptimizedStrategy.class);
+        assertThat(create(StrategyType.FAILOVER)).isInstanceOf(FailoverStrategy.class);
+        assertThat(create(StrategyType.LEAST_LOADED)).isInstanceOf(LeastLoadedStrategy.class);
+    }
+
+    @Test
+    @DisplayName("Should wrap the primary strategy with the configured fallback")
+    void shouldWrapWithFallback() {
+        // Given
+        RoutingStrategyConfig config = RoutingStrategyConfig.builder()
+            .type(StrategyType.LATENCY_BASED)
+            .fallbackStrategy(StrategyType.FAILOVER)
+            .build();
+
+        // When
+        RoutingStrategy strategy = RoutingStrategyFactory.create(config);
+
+        // Then
+        assertThat(strategy).isInstanceOf(FallbackStrategy.class);
+        FallbackStrategy fallback = (FallbackStrategy) strategy;
+        assertThat(fallback.getPrimary()).isInstanceOf(LatencyBasedStrategy.class);
+        assertThat(fallback.getFallback()).isInstanceOf(FailoverStrategy.class);
+        assertThat(strategy.getConfig()).isEqualTo(config);
+    }
+
+    @Test
+    @DisplayName("Should default to round robin without configuration")
+    void shouldDefaultToRoundRobin() {
+        assertThat(RoutingStrategyFactory.create(null)).isInstanceOf(RoundRobinStrategy.class);
+    }
+
+    private RoutingStrategy create(StrategyType type) {
+        return RoutingStrategyFactory.create(RoutingStrategyConfig.builder().type(type).build());
+    }
+}
@@ -0,0 +1,133 @@
+package com.litellm.sdk.unit.routing.strategy;
+
+import com.litellm.sdk.config.ProviderConfig;
+import com.litellm.sdk.config.RoutingStrategyConfig;
+import com.litellm.sdk.model.request.ChatCompletionRequest;
+import com.litellm.sdk.model.request.Message;
+import com.litellm.sdk.provider.Provider;
+import com.litellm.sdk.routing.strategy.WeightedStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeightedStrategy Unit Tests")
+class WeightedStrategyTest {
+
+    @Mock
+    private Provider heavy;
+
+    @Mock
+    private Provider light;
+
+    private List<Provider> providers;
+    private ChatCompletionRequest request;
+
+    @BeforeEach
+    void setUp() {
+        providers = List.of(heavy, light);
+        request = ChatCompletionRequest.builder()
+            .model("gpt-3.5-turbo")
+            .messages(List.of(Message.builder().role(Message.Role.USER).content("Hello").build()))
+            .build();
+
+        lenient().when(heavy.getName()).thenReturn("heavy");
+        lenient().when(light.getName()).thenReturn("light");
+        lenient().when(heavy.isHealthy()).thenReturn(true);
+        lenient().when(light.isHealthy()).thenReturn(true);
+        lenient().when(heavy.getConfig()).thenReturn(ProviderConfig.builder().weight(3).build());
+        lenient().when(light.getConfig()).thenReturn(ProviderConfig.builder().weight(1).build());
+    }
+
+    @Test
+    @DisplayName("Should interleave selections according to provider weights")
+    void shouldInterleaveByWeight() {
+        // Given
+        WeightedStrategy strategy = new WeightedStrategy(config(Map.of()));
+
+        // When
+        List<Provider> selections = select(strategy, 8);
+
+        // Then - smooth WRR never sends more than the weight ratio in a row
+        assertThat(selections).containsExactly(heavy, heavy, light, heavy, heavy, heavy, light, heavy);
+        assertThat(selections).filteredOn(p -> p == heavy).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Should prefer strategy parameters over provider weights")
+    void shouldPreferStrategyParameters() {
+        // Given
+        WeightedStrategy strategy = new WeightedStrategy(config(Map.of("weight_heavy", "1", "weight_light", 1)));
+
+        // When & Then
+        assertThat(select(strategy, 4)).containsExactly(heavy, light, heavy, light);
+    }
+
+    @Test
+    @DisplayName("Should apply live weight updates on the next selection")
+    void shouldApplyLiveWeightUpdates() {
+        // Given
+        WeightedStrategy strategy = new WeightedStrategy(config(Map.of()));
+        select(strategy, 3);
+
+        // When
+        strategy.updateWeight("heavy", 0);
+
+        // Then
+        assertThat(select(strategy, 3)).containsOnly(light);
+    }
+
+    @Test
+    @DisplayName("Should skip unhealthy providers")
+    void shouldSkipUnhealthyProviders() {
+        // Given
+        WeightedStrategy strategy = new WeightedStrategy(config(Map.of()));
+        lenient().when(heavy.isHealthy()).thenReturn(false);
+
+        // When & Then
+        assertThat(select(strategy, 3)).containsOnly(light);
+    }
+
+    @Test
+    @DisplayName("Should skip excluded providers without disturbing the weighted schedule")
+    void shouldSkipExcludedProvidersWithoutRebuildingSchedule() {
+        // Given
+        WeightedStrategy strategy = new WeightedStrategy(config(Map.of()));
+        assertThat(select(strategy, 2)).containsExactly(heavy, heavy);
+
+        // When
+        // A failover selection that already tried heavy, interleaved with regular traffic
+        Provider failover = strategy.selectProvider(providers, request, Set.of(heavy)).orElseThrow();
+
+        // Then - the full-list schedule carries on where it was
+        assertThat(failover).isSameAs(light);
+        assertThat(select(strategy, 4)).containsExactly(heavy, heavy, heavy, light);
+        assertThat(strategy.selectProvider(providers, request, Set.of(heavy, light))).isEmpty();
+    }
+
+    private RoutingStrategyConfig config(Map<String, Object> parameters) {
+        return RoutingStrategyConfig.builder()
+            .type(RoutingStrategyConfig.StrategyType.WEIGHTED)
+            .parameters(parameters)
+            .build();
+    }
+
+    private List<Provider> select(WeightedStrategy strategy, int count) {
+        List<Provider> selections = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            selections.add(strategy.selectProvider(providers, request).orElseThrow());
+        }
+        return selections;
+    }
+}